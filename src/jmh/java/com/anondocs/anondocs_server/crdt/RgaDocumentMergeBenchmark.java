@@ -0,0 +1,111 @@
+package com.anondocs.anondocs_server.crdt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 편집자 수(2, 8, 32)에 따른 CRDT 병합 처리량 (merged-ops/sec)
+ *
+ * 모든 편집자가 같은 seed 본문을 기준으로 동시에 연산을 만들고,
+ * 서버가 이를 라운드로빈으로 섞인 순서로 받는 상황을 재현한다.
+ * 편집자 수와 관계없이 호출당 연산 수(TOTAL_OPS)는 같으므로 결과는 곧 연산/초다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RgaDocumentMergeBenchmark {
+
+    private static final int TOTAL_OPS = 4096;
+    private static final int SEED_LENGTH = 2000;
+    private static final String SEED_REPLICA = "seed-bench";
+
+    @Param({"2", "8", "32"})
+    private int editors;
+
+    private String seedText;
+    private List<Op> mergedStream;
+    private RgaDocument document;
+
+    @Setup(Level.Trial)
+    public void prepareOperations() {
+        seedText = "가".repeat(SEED_LENGTH);
+        Random random = new Random(42);
+
+        // 편집자별로 독립적인 연산 생성 (서로의 연산은 보지 못한 동시 편집)
+        List<List<Op>> perEditor = new ArrayList<>();
+        int opsPerEditor = TOTAL_OPS / editors;
+        for (int e = 0; e < editors; e++) {
+            String replicaId = "replica-" + e;
+            List<Op> ops = new ArrayList<>(opsPerEditor);
+            long counter = SEED_LENGTH;
+            CrdtId cursor = new CrdtId(1 + random.nextInt(SEED_LENGTH), SEED_REPLICA);
+
+            for (int i = 0; i < opsPerEditor; i++) {
+                if (i % 8 == 7) {
+                    // 가끔 seed 문자 삭제 (여러 편집자가 같은 문자를 지워도 멱등)
+                    ops.add(Op.delete(new CrdtId(1 + random.nextInt(SEED_LENGTH), SEED_REPLICA)));
+                    continue;
+                }
+                if (i % 16 == 0) {
+                    // 커서를 다른 위치로 옮겨 이어서 입력
+                    cursor = new CrdtId(1 + random.nextInt(SEED_LENGTH), SEED_REPLICA);
+                }
+                CrdtId id = new CrdtId(++counter, replicaId);
+                ops.add(Op.insert(id, cursor, (char) ('a' + e % 26)));
+                cursor = id;
+            }
+            perEditor.add(ops);
+        }
+
+        // 서버 도착 순서: 편집자들의 연산이 번갈아 섞여 도착
+        mergedStream = new ArrayList<>(TOTAL_OPS);
+        for (int i = 0; i < opsPerEditor; i++) {
+            for (List<Op> ops : perEditor) {
+                mergedStream.add(ops.get(i));
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetDocument() {
+        document = RgaDocument.seed(seedText, SEED_REPLICA);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL_OPS)
+    public int mergeConcurrentEdits() {
+        for (Op op : mergedStream) {
+            if (op.parent == null && op.value == 0) {
+                document.delete(op.id);
+            } else {
+                document.insert(op.id, op.parent, op.value);
+            }
+        }
+        return document.getVisibleLength();
+    }
+
+    private static final class Op {
+
+        private final CrdtId id;
+        private final CrdtId parent;
+        private final char value;
+
+        private Op(CrdtId id, CrdtId parent, char value) {
+            this.id = id;
+            this.parent = parent;
+            this.value = value;
+        }
+
+        static Op insert(CrdtId id, CrdtId parent, char value) {
+            return new Op(id, parent, value);
+        }
+
+        static Op delete(CrdtId id) {
+            return new Op(id, null, (char) 0);
+        }
+    }
+}
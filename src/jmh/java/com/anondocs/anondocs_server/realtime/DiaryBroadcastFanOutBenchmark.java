@@ -0,0 +1,78 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.dto.DiaryEditBroadcastMessageDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구독자 수(1, 100, 1000)에 따른 편집 브로드캐스트 1건의 fan-out 비용
+ *
+ * - serializePerSubscriber: 구독자(목적지)마다 Jackson 직렬화 + STOMP 프레임 인코딩 (변경 전 방식)
+ * - serializeOnce: DiaryBroadcaster 처럼 한 번 직렬화한 byte[] 를 공유하고 프레임 인코딩만 구독자별로 수행
+ *
+ * 호출당 브로드캐스트 1건이므로 결과는 곧 브로드캐스트/초다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DiaryBroadcastFanOutBenchmark {
+
+    private static final int CONTENT_LENGTH = 4000;
+
+    @Param({"1", "100", "1000"})
+    private int subscribers;
+
+    private final MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+    private final StompEncoder encoder = new StompEncoder();
+
+    private DiaryEditBroadcastMessageDto broadcast;
+
+    @Setup(Level.Trial)
+    public void prepareBroadcast() {
+        broadcast = DiaryEditBroadcastMessageDto.builder()
+                .diaryId(1L)
+                .content("오늘의 일기 ".repeat(CONTENT_LENGTH / 7))
+                .version(42L)
+                .editorUserId(7L)
+                .editorNickname("벤치마크")
+                .timestamp(System.currentTimeMillis())
+                .clientId("bench-client")
+                .clientSeq(100L)
+                .build();
+    }
+
+    @Benchmark
+    public void serializePerSubscriber(Blackhole blackhole) {
+        for (int i = 0; i < subscribers; i++) {
+            Message<?> converted = converter.toMessage(broadcast, null);
+            blackhole.consume(encodeFrame((byte[]) converted.getPayload(), i));
+        }
+    }
+
+    @Benchmark
+    public void serializeOnce(Blackhole blackhole) {
+        byte[] payload = (byte[]) converter.toMessage(broadcast, null).getPayload();
+        for (int i = 0; i < subscribers; i++) {
+            blackhole.consume(encodeFrame(payload, i));
+        }
+    }
+
+    // 브로커가 세션별로 만드는 MESSAGE 프레임 (구독 ID/세션만 다르고 본문은 동일)
+    private byte[] encodeFrame(byte[] payload, int subscriber) {
+        StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        headers.setDestination("/topic/diaries/1");
+        headers.setSubscriptionId("sub-" + subscriber);
+        headers.setMessageId(Integer.toString(subscriber));
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return encoder.encode(MessageBuilder.createMessage(payload, headers.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,72 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.dto.DiaryEditBroadcastMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditMessageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON / CBOR 본문 인코딩 비교 (편집 hot path 기준)
+ *
+ * - encodeBroadcast: 서버가 보내는 DiaryEditBroadcastMessageDto 직렬화
+ * - decodeEdit: 클라이언트가 보내는 DiaryEditMessageDto 역직렬화
+ * - 본문 길이(짧은 편집 / 긴 일기)별로 측정하고, 인코딩된 크기는 Trial 시작 시 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StompPayloadFormatBenchmark {
+
+    @Param({"JSON", "CBOR"})
+    private StompPayloadFormat format;
+
+    @Param({"200", "4000"})
+    private int contentLength;
+
+    private ObjectMapper mapper;
+    private DiaryEditBroadcastMessageDto broadcast;
+    private byte[] encodedEdit;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Exception {
+        mapper = format == StompPayloadFormat.CBOR
+                ? Jackson2ObjectMapperBuilder.cbor().build()
+                : Jackson2ObjectMapperBuilder.json().build();
+
+        String content = "오늘의 일기 diary ".repeat(contentLength / 14 + 1).substring(0, contentLength);
+        broadcast = DiaryEditBroadcastMessageDto.builder()
+                .diaryId(1L)
+                .content(content)
+                .version(42L)
+                .editorUserId(7L)
+                .editorNickname("벤치마크")
+                .timestamp(System.currentTimeMillis())
+                .clientId("bench-client")
+                .clientSeq(100L)
+                .build();
+
+        DiaryEditMessageDto edit = new DiaryEditMessageDto();
+        edit.setDiaryId(1L);
+        edit.setContent(content);
+        edit.setVersion(42L);
+        edit.setClientId("bench-client");
+        edit.setClientSeq(100L);
+        encodedEdit = mapper.writeValueAsBytes(edit);
+
+        System.out.printf("%n[%s, content=%d] broadcast=%d bytes, edit=%d bytes%n",
+                format, contentLength, mapper.writeValueAsBytes(broadcast).length, encodedEdit.length);
+    }
+
+    @Benchmark
+    public byte[] encodeBroadcast() throws Exception {
+        return mapper.writeValueAsBytes(broadcast);
+    }
+
+    @Benchmark
+    public DiaryEditMessageDto decodeEdit() throws Exception {
+        return mapper.readValue(encodedEdit, DiaryEditMessageDto.class);
+    }
+}
@@ -0,0 +1,123 @@
+package com.anondocs.anondocs_server.auth;
+
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 일기 토픽 구독 권한 캐시 ((userId, diaryId) -> 허용 여부)
+ *
+ * - 재연결이 몰릴 때 SUBSCRIBE 마다 DB 를 조회하지 않도록 판정 결과를 ttl-ms 동안 메모리에 보관
+ * - 규칙: 삭제되지 않은 일기의 소유자만 허용
+ *   (ANONYMOUS 일기도 편집 프레임에 편집자 정보가 담기므로 다른 사용자는 피드로만 조회)
+ * - 일기 삭제/공개 범위 변경 시 해당 일기의 판정을 커밋 후 무효화
+ *   (일기별 epoch 로 DB 조회 도중 무효화된 판정은 캐시에 남기지 않음)
+ * - max-entries 를 넘으면 가장 오래 쓰지 않은 판정부터 제거 (LRU)
+ * - 노드마다 따로 두므로 다른 노드에서의 변경은 ttl-ms 안에 반영됨
+ */
+@Component
+@RequiredArgsConstructor
+public class DiaryAccessCache {
+
+    // 일기별 무효화 epoch 를 고정 크기 배열에 나눠 보관 (같은 칸을 쓰는 다른 일기의 무효화는 캐시를 한 번 건너뛸 뿐)
+    private static final int EPOCH_STRIPES = 1024;
+
+    private final DiaryRepository diaryRepository;
+    private final AtomicLongArray epochs = new AtomicLongArray(EPOCH_STRIPES);
+
+    // 접근 순서 LinkedHashMap (조회도 순서를 바꾸므로 이 맵 자체를 모니터로 동기화)
+    private final Map<AccessKey, Decision> decisions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<AccessKey, Decision> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    @Value("${anondocs.realtime.access-cache.ttl-ms:60000}")
+    private long ttlMillis;
+
+    @Value("${anondocs.realtime.access-cache.max-entries:100000}")
+    private int maxEntries;
+
+    public boolean canSubscribe(Long userId, Long diaryId) {
+        AccessKey key = new AccessKey(userId, diaryId);
+        long now = System.currentTimeMillis();
+
+        synchronized (decisions) {
+            Decision cached = decisions.get(key);
+            if (cached != null && cached.expiresAtMillis() > now) {
+                return cached.allowed();
+            }
+        }
+
+        int stripe = stripe(diaryId);
+        long epoch = epochs.get(stripe);
+
+        boolean allowed = diaryRepository.findVersionViewById(diaryId)
+                .map(view -> !view.isDeleted() && view.getUserId().equals(userId))
+                .orElse(false);
+
+        Decision decision = new Decision(allowed, now + ttlMillis);
+        synchronized (decisions) {
+            decisions.put(key, decision);
+        }
+        // 조회 도중 무효화됐으면 방금 넣은 판정은 무효화 이전 상태일 수 있으므로 제거
+        // (invalidate 는 epoch 증가 후 제거하므로, 여기서 변경을 못 봤다면 그 제거가 이 판정까지 지움)
+        if (epochs.get(stripe) != epoch) {
+            synchronized (decisions) {
+                decisions.remove(key, decision);
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * 일기의 모든 사용자 판정 제거
+     * 트랜잭션 안이면 커밋 후에 제거해, 커밋 전 상태가 다시 캐시되지 않게 함
+     */
+    public void invalidate(Long diaryId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(diaryId);
+                }
+            });
+            return;
+        }
+        remove(diaryId);
+    }
+
+    @Scheduled(fixedDelayString = "${anondocs.realtime.access-cache.ttl-ms:60000}")
+    public void removeExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (decisions) {
+            decisions.values().removeIf(decision -> decision.expiresAtMillis() <= now);
+        }
+    }
+
+    private void remove(Long diaryId) {
+        epochs.incrementAndGet(stripe(diaryId));
+        synchronized (decisions) {
+            decisions.keySet().removeIf(key -> key.diaryId().equals(diaryId));
+        }
+    }
+
+    private static int stripe(Long diaryId) {
+        return (int) Math.floorMod(diaryId, (long) EPOCH_STRIPES);
+    }
+
+    private record AccessKey(Long userId, Long diaryId) {
+    }
+
+    private record Decision(boolean allowed, long expiresAtMillis) {
+    }
+}
@@ -55,6 +55,11 @@ public class JwtTokenProvider {
         );
     }
 
+    // 토큰 만료 시각 (STOMP 세션에 기록해 두고 프레임마다 다시 파싱하지 않음)
+    public Instant getExpiration(String token) {
+        return parseClaims(token).getExpiration().toInstant();
+    }
+
     // 토큰 유효한지 검증
     public boolean validateToken(String token) {
         try {
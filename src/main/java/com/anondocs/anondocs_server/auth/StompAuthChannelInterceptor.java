@@ -1,6 +1,8 @@
 package com.anondocs.anondocs_server.auth;
 
+import com.anondocs.anondocs_server.dto.UserPrincipalDto;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -9,12 +11,32 @@ import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * STOMP 인증/인가 인터셉터
+ *
+ * - CONNECT: JWT 검증 후 세션 Principal 설정, 토큰 만료 시각을 StompSessionExpiryRegistry 에 기록
+ * - SEND /app/session/reauth: Authorization 헤더의 새 토큰으로 세션 만료 연장 (핸들러로 전달하지 않음)
+ * - SEND: 토큰이 만료된 세션의 프레임은 버림 (재인증 전까지)
+ * - SUBSCRIBE: /topic/diaries/{diaryId}(/**) 는 DiaryAccessCache 로 구독 권한 확인, 그 외 /topic 구독은 거부
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
+    private static final String DIARY_TOPIC = "/topic/diaries/{diaryId}";
+    private static final String DIARY_SUB_TOPIC = "/topic/diaries/{diaryId}/**";
+    private static final String REAUTH_DESTINATION = "/app/session/reauth";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final DiaryAccessCache diaryAccessCache;
+    private final StompSessionExpiryRegistry sessionExpiryRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -26,16 +48,16 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
             return message;
         }
 
-        // STOMP CONNECT에서만 JWT 검사
+        // STOMP CONNECT에서 JWT 검사
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-            String authHeader = accessor.getFirstNativeHeader("Authorization");
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-
+            String token = bearerToken(accessor);
+            if (token != null) {
                 if (jwtTokenProvider.validateToken(token)) {
                     Authentication authentication = jwtTokenProvider.getAuthentication(token);
                     // 이 WebSocket 세션의 Principal로 저장
                     accessor.setUser(authentication);
+                    sessionExpiryRegistry.register(accessor.getSessionId(), authentication.getName(),
+                            jwtTokenProvider.getExpiration(token));
                 } else {
                     throw new IllegalArgumentException("Invalid JWT token in WebSocket CONNECT");
                 }
@@ -44,6 +66,93 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
             }
         }
 
+        if (StompCommand.SEND.equals(accessor.getCommand())) {
+            if (REAUTH_DESTINATION.equals(accessor.getDestination())) {
+                reauthenticate(accessor);
+                return null;
+            }
+            // 만료 여부는 CONNECT 때 기록한 시각과 비교만 (토큰 재파싱 없음)
+            if (sessionExpiryRegistry.isExpired(accessor.getSessionId())) {
+                log.debug("토큰 만료 세션의 프레임 무시 - 세션: {}, 목적지: {}",
+                        accessor.getSessionId(), accessor.getDestination());
+                return null;
+            }
+        }
+
+        // SUBSCRIBE: 일기 토픽은 소유자만
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            if (sessionExpiryRegistry.isExpired(accessor.getSessionId())) {
+                throw new SecurityException("토큰이 만료되었습니다. 재인증 후 구독하세요.");
+            }
+            authorizeSubscribe(accessor);
+        }
+
         return message;
     }
+
+    // 같은 사용자의 유효한 새 토큰이면 세션 만료 시각 연장
+    private void reauthenticate(StompHeaderAccessor accessor) {
+        if (!(accessor.getUser() instanceof Authentication current)
+                || !(current.getPrincipal() instanceof UserPrincipalDto currentUser)) {
+            return;
+        }
+
+        String token = bearerToken(accessor);
+        if (token == null || !jwtTokenProvider.validateToken(token)) {
+            sessionExpiryRegistry.notifyReauthFailed(current.getName(), accessor.getSessionId(), "유효하지 않은 토큰입니다.");
+            return;
+        }
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        if (!(authentication.getPrincipal() instanceof UserPrincipalDto user)
+                || !user.getId().equals(currentUser.getId())) {
+            sessionExpiryRegistry.notifyReauthFailed(current.getName(), accessor.getSessionId(), "다른 사용자의 토큰입니다.");
+            return;
+        }
+
+        Instant expiresAt = jwtTokenProvider.getExpiration(token);
+        sessionExpiryRegistry.reauthenticate(accessor.getSessionId(), expiresAt);
+    }
+
+    private static String bearerToken(StompHeaderAccessor accessor) {
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        return authHeader.substring(7);
+    }
+
+    private void authorizeSubscribe(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith("/topic/")) {
+            return; // /user/queue/** 등 개인 목적지는 세션별로 격리됨
+        }
+
+        Long diaryId = extractDiaryId(destination);
+        if (diaryId == null) {
+            throw new SecurityException("구독할 수 없는 목적지입니다: " + destination);
+        }
+
+        if (!(accessor.getUser() instanceof Authentication auth)
+                || !(auth.getPrincipal() instanceof UserPrincipalDto userPrincipal)
+                || !diaryAccessCache.canSubscribe(userPrincipal.getId(), diaryId)) {
+            throw new SecurityException("본인의 일기만 구독할 수 있습니다.");
+        }
+    }
+
+    private Long extractDiaryId(String destination) {
+        String pattern = pathMatcher.match(DIARY_TOPIC, destination) ? DIARY_TOPIC
+                : pathMatcher.match(DIARY_SUB_TOPIC, destination) ? DIARY_SUB_TOPIC
+                : null;
+        if (pattern == null) {
+            return null;
+        }
+
+        Map<String, String> variables = pathMatcher.extractUriTemplateVariables(pattern, destination);
+        try {
+            return Long.valueOf(variables.get("diaryId"));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
\ No newline at end of file
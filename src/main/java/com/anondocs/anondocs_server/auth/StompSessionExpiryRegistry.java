@@ -0,0 +1,229 @@
+package com.anondocs.anondocs_server.auth;
+
+import com.anondocs.anondocs_server.dto.DiaryEditErrorMessageDto;
+import com.anondocs.anondocs_server.dto.StompSessionStatusMessageDto;
+import com.anondocs.anondocs_server.realtime.DiaryBroadcaster;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 세션별 JWT 만료 관리 (해시 타이머 휠)
+ *
+ * - CONNECT 시 토큰 만료 시각을 세션에 기록, 이후 프레임마다 토큰을 다시 파싱하지 않고 만료 여부만 비교
+ * - 전용 스레드 하나가 tick-ms 마다 휠의 슬롯 하나만 확인 (세션 수와 무관하게 tick 당 해당 슬롯만 처리)
+ * - 만료 시 /user/queue/session 으로 REAUTH_REQUIRED 를 보내고, grace-ms 안에 재인증이 없으면 연결 종료
+ * - 재인증(/app/session/reauth)은 만료 시각만 갱신하고 휠에서 옮기지 않음.
+ *   해당 슬롯 차례가 왔을 때 아직 남아 있으면 새 만료 시각의 슬롯으로 다시 넣음 (한 바퀴보다 먼 만료도 동일)
+ */
+@Slf4j
+@Component
+public class StompSessionExpiryRegistry implements WebSocketHandlerDecoratorFactory {
+
+    public static final String SESSION_DESTINATION = "/queue/session";
+
+    private static final CloseStatus TOKEN_EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("Token expired");
+
+    private final DiaryBroadcaster diaryBroadcaster;
+    private final long tickMillis;
+    private final long graceMillis;
+    private final Set<String>[] wheel;
+    private final long startMillis = System.currentTimeMillis();
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, SessionExpiry> expiries = new ConcurrentHashMap<>();
+    private final Map<String, WebSocketSession> webSocketSessions = new ConcurrentHashMap<>();
+
+    // 다음에 처리할 tick (휠 스레드만 증가시킴)
+    private volatile long nextTick;
+
+    // brokerChannel 설정(WebSocketConfig)과의 순환 참조를 피하기 위해 브로드캐스터는 지연 주입
+    @SuppressWarnings("unchecked")
+    public StompSessionExpiryRegistry(@Lazy DiaryBroadcaster diaryBroadcaster,
+                                      @Value("${anondocs.websocket.session-expiry.tick-ms:1000}") long tickMillis,
+                                      @Value("${anondocs.websocket.session-expiry.wheel-size:512}") int wheelSize,
+                                      @Value("${anondocs.websocket.session-expiry.grace-ms:30000}") long graceMillis) {
+        this.diaryBroadcaster = diaryBroadcaster;
+        this.tickMillis = tickMillis;
+        this.graceMillis = graceMillis;
+        this.wheel = new Set[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stomp-session-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                webSocketSessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                webSocketSessions.remove(session.getId());
+                expiries.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // CONNECT 인증 직후 호출
+    public void register(String sessionId, String user, Instant expiresAt) {
+        SessionExpiry expiry = new SessionExpiry(user, expiresAt.toEpochMilli());
+        expiries.put(sessionId, expiry);
+        schedule(sessionId, expiry.deadline());
+    }
+
+    // 토큰이 만료된 세션인지 (프레임마다 호출되므로 맵 조회와 비교만 수행)
+    public boolean isExpired(String sessionId) {
+        SessionExpiry expiry = expiries.get(sessionId);
+        return expiry != null && expiry.expiresAt <= System.currentTimeMillis();
+    }
+
+    // 재인증 성공: 만료 시각만 갱신 (휠 위치는 해당 슬롯 차례에 다시 계산)
+    public void reauthenticate(String sessionId, Instant expiresAt) {
+        SessionExpiry expiry = expiries.get(sessionId);
+        if (expiry == null) {
+            return;
+        }
+        expiry.expiresAt = expiresAt.toEpochMilli();
+        expiry.challenged = false;
+
+        diaryBroadcaster.sendToSession(expiry.user, sessionId, SESSION_DESTINATION,
+                StompSessionStatusMessageDto.builder()
+                        .type("REAUTHENTICATED")
+                        .expiresAt(expiry.expiresAt)
+                        .build());
+    }
+
+    public void notifyReauthFailed(String user, String sessionId, String reason) {
+        diaryBroadcaster.sendToSession(user, sessionId, "/queue/errors",
+                DiaryEditErrorMessageDto.builder()
+                        .code("REAUTH_FAILED")
+                        .message(reason)
+                        .build());
+    }
+
+    private void advance() {
+        try {
+            long currentTick = (System.currentTimeMillis() - startMillis) / tickMillis;
+            // 스케줄 지연으로 밀린 tick 도 순서대로 처리
+            while (nextTick <= currentTick) {
+                expireSlot(nextTick);
+                nextTick++;
+            }
+        } catch (Exception e) {
+            log.error("세션 만료 처리 실패", e);
+        }
+    }
+
+    private void expireSlot(long tick) {
+        Set<String> slot = wheel[(int) (tick % wheel.length)];
+        if (slot.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (String sessionId : new ArrayList<>(slot)) {
+            slot.remove(sessionId);
+            SessionExpiry expiry = expiries.get(sessionId);
+            if (expiry == null) {
+                continue; // 이미 종료된 세션
+            }
+
+            long deadline = expiry.deadline();
+            if (deadline > now) {
+                schedule(sessionId, deadline); // 재인증으로 연장됐거나 한 바퀴보다 먼 만료
+            } else if (!expiry.challenged) {
+                challenge(sessionId, expiry);
+            } else {
+                close(sessionId);
+            }
+        }
+    }
+
+    private void challenge(String sessionId, SessionExpiry expiry) {
+        expiry.challenged = true;
+        schedule(sessionId, expiry.deadline());
+
+        log.debug("STOMP 세션 토큰 만료, 재인증 요청 - 세션: {}", sessionId);
+        try {
+            diaryBroadcaster.sendToSession(expiry.user, sessionId, SESSION_DESTINATION,
+                    StompSessionStatusMessageDto.builder()
+                            .type("REAUTH_REQUIRED")
+                            .expiresAt(expiry.expiresAt)
+                            .graceMillis(graceMillis)
+                            .build());
+        } catch (Exception e) {
+            log.warn("재인증 요청 전송 실패 - 세션: {}", sessionId, e);
+        }
+    }
+
+    private void close(String sessionId) {
+        expiries.remove(sessionId);
+        WebSocketSession session = webSocketSessions.remove(sessionId);
+        if (session == null || !session.isOpen()) {
+            return;
+        }
+
+        log.info("STOMP 세션 토큰 만료로 연결 종료 - 세션: {}", sessionId);
+        try {
+            session.close(TOKEN_EXPIRED);
+        } catch (Exception e) {
+            log.warn("만료 세션 종료 실패 - 세션: {}", sessionId, e);
+        }
+    }
+
+    private void schedule(String sessionId, long deadline) {
+        // 이미 지나간(처리 중인) tick 에 넣으면 한 바퀴 뒤에야 확인되므로 최소 다음 tick
+        long tick = Math.max((deadline - startMillis) / tickMillis + 1, nextTick + 1);
+        wheel[(int) (tick % wheel.length)].add(sessionId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private final class SessionExpiry {
+
+        private final String user;
+        private volatile long expiresAt;
+        private volatile boolean challenged;
+
+        private SessionExpiry(String user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+
+        // 재인증 요청 전에는 토큰 만료 시각, 요청 후에는 유예 기간 끝
+        private long deadline() {
+            return challenged ? expiresAt + graceMillis : expiresAt;
+        }
+    }
+}
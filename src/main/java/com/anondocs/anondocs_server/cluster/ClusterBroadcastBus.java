@@ -0,0 +1,254 @@
+package com.anondocs.anondocs_server.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.MimeType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 간 브로드캐스트 버스 (brokerChannel 인터셉터)
+ *
+ * 심플 브로커는 구독 정보를 한 JVM 에만 두므로, 로컬 브로커로 가는 메시지 중 다른 노드에도 필요한 것을
+ * transport 로 복제하고, 받은 메시지는 그 노드의 brokerChannel 에 그대로 넣는다.
+ *
+ * 복제 대상:
+ * - relay-destinations 패턴 (기본: 일기 토픽 /topic/diaries/{id} 와 에러 토픽 /topic/diaries/{id}/errors)
+ * - 이미 해석된 사용자 목적지 (/queue/...-user{sessionId}) 중 이 노드 세션이 아닌 것
+ * - Spring 사용자 레지스트리 브로드캐스트 (노드별 접속 사용자/세션 공유, MultiServerUserRegistry)
+ * - 해석 실패 사용자 목적지 브로드캐스트 (레지스트리가 아직 모르는 원격 사용자에게 전달)
+ *
+ * 사용자 레지스트리 브로드캐스트는 심플 브로커에 구독자가 없으므로(StompBrokerRelay 의 시스템 구독 역할),
+ * 받은 노드에서 brokerChannel 대신 userRegistryMessageHandler 로 바로 넘겨 MultiServerUserRegistry 에 반영한다.
+ *
+ * 노드 로컬 상태와 일기-노드 고정:
+ * - 편집 액터, replay 버퍼, CRDT 문서, LWW write-behind 버퍼, presence 는 노드별 메모리 상태이며 복제하지 않는다.
+ * - 일기 쓰기는 소유자만 할 수 있으므로 같은 사용자의 STOMP 연결을 한 노드로 보내면(로드 밸런서의 사용자 고정)
+ *   한 일기의 쓰기도 한 노드에서만 처리된다. 구독자(읽기)는 어느 노드에 있어도 토픽 복제로 받는다.
+ * - 그래서 클러스터 모드는 anondocs.cluster.user-affinity=true 로 이 고정을 명시해야 시작된다.
+ *   고정할 수 없는 배포는 anondocs.diary.actor.enabled=false 로 /edit 을 노드 상태 없는 조건부 UPDATE 로 처리하고
+ *   LWW/CRDT 모드는 쓰지 않는다.
+ *
+ * anondocs.cluster.transport: none(기본, 단일 노드) | loopback(같은 JVM, 테스트용) | tcp
+ * tcp 는 tcp.bind-address(내부망 주소)에만 바인딩하고, tcp.peers 에 있는 호스트에서 tcp.secret 핸드셰이크를
+ * 통과한 연결만 받는다 (TcpClusterTransport)
+ */
+@Slf4j
+@Component
+public class ClusterBroadcastBus implements ChannelInterceptor {
+
+    public static final String USER_REGISTRY_BROADCAST = "/topic/simp-user-registry";
+    public static final String USER_DESTINATION_BROADCAST = "/topic/unresolved-user-destination";
+
+    // 다른 노드에서 받은 메시지 표시 (다시 복제하지 않음, STOMP 프레임에는 포함되지 않는 내부 헤더)
+    private static final String ORIGIN_HEADER = "clusterOriginNodeId";
+    private static final String USER_DESTINATION_MARKER = "-user";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MessageHandler userRegistryMessageHandler;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Set<String> localSessionIds = ConcurrentHashMap.newKeySet();
+
+    private final ClusterTransport transport;
+    private final List<String> relayDestinations;
+
+    @Getter
+    private final String nodeId;
+
+    // brokerChannel 설정(WebSocketConfig)이 이 빈을 참조하므로 템플릿/레지스트리 처리기는 지연 주입
+    public ClusterBroadcastBus(@Lazy SimpMessagingTemplate messagingTemplate,
+                               @Lazy @Qualifier("userRegistryMessageHandler") MessageHandler userRegistryMessageHandler,
+                               @Value("${anondocs.cluster.transport:none}") String transportType,
+                               @Value("${anondocs.cluster.user-affinity:false}") boolean userAffinity,
+                               @Value("${anondocs.cluster.node-id:}") String nodeId,
+                               @Value("${anondocs.cluster.relay-destinations:/topic/diaries/*,/topic/diaries/*/errors}") String relayDestinations,
+                               @Value("${anondocs.cluster.tcp.bind-address:127.0.0.1}") String tcpBindAddress,
+                               @Value("${anondocs.cluster.tcp.port:7600}") int tcpPort,
+                               @Value("${anondocs.cluster.tcp.peers:}") String tcpPeers,
+                               @Value("${anondocs.cluster.tcp.secret:}") String tcpSecret,
+                               @Value("${anondocs.cluster.tcp.queue-capacity:10000}") int tcpQueueCapacity) {
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistryMessageHandler = userRegistryMessageHandler;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.relayDestinations = Arrays.asList(StringUtils.commaDelimitedListToStringArray(relayDestinations));
+        this.transport = switch (transportType) {
+            case "none" -> null;
+            case "loopback" -> new LoopbackClusterTransport();
+            case "tcp" -> new TcpClusterTransport(tcpBindAddress, tcpPort, parsePeers(tcpPeers),
+                    requireSecret(tcpSecret), tcpQueueCapacity);
+            default -> throw new IllegalArgumentException("알 수 없는 클러스터 전송 방식: " + transportType);
+        };
+
+        // 편집 상태가 노드 로컬이므로 사용자(= 일기 쓰기) 고정 없이 여러 노드로 띄우지 않음
+        if (transport != null && !userAffinity) {
+            throw new IllegalStateException("클러스터 모드는 같은 사용자의 연결을 한 노드로 보내는 로드 밸런서 설정이 필요합니다. " +
+                    "설정했다면 anondocs.cluster.user-affinity=true 로 지정하세요.");
+        }
+    }
+
+    public boolean isEnabled() {
+        return transport != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        if (transport != null) {
+            transport.start(this::deliver);
+            log.info("클러스터 버스 시작 - 노드: {}, 전송 방식: {}", nodeId, transport.getClass().getSimpleName());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (transport != null) {
+            transport.stop();
+        }
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            localSessionIds.add(sessionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        localSessionIds.remove(event.getSessionId());
+    }
+
+    /**
+     * 로컬 브로커로 가는 메시지 중 복제 대상을 다른 노드로 전송 (로컬 전달은 그대로 진행)
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (transport == null || message.getHeaders().containsKey(ORIGIN_HEADER)) {
+            return message;
+        }
+
+        SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+        if (accessor == null) {
+            accessor = SimpMessageHeaderAccessor.wrap(message);
+        }
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || destination == null || !shouldRelay(destination)) {
+            return message;
+        }
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            log.warn("직렬화되지 않은 메시지는 복제하지 않음 - 목적지: {}", destination);
+            return message;
+        }
+
+        MimeType contentType = accessor.getContentType();
+        Map<String, List<String>> nativeHeaders = accessor.toNativeHeaderMap();
+        try {
+            transport.publish(new ClusterEnvelope(nodeId, destination,
+                    contentType == null ? null : contentType.toString(), nativeHeaders, payload));
+        } catch (RuntimeException e) {
+            log.error("클러스터 복제 실패 - 목적지: {}", destination, e);
+        }
+        return message;
+    }
+
+    private boolean shouldRelay(String destination) {
+        if (USER_REGISTRY_BROADCAST.equals(destination) || USER_DESTINATION_BROADCAST.equals(destination)) {
+            return true;
+        }
+        for (String pattern : relayDestinations) {
+            if (pathMatcher.match(pattern, destination)) {
+                return true;
+            }
+        }
+
+        // 원격 세션으로 해석된 사용자 목적지 (/queue/acks-user{sessionId})
+        int marker = destination.lastIndexOf(USER_DESTINATION_MARKER);
+        if (destination.startsWith("/queue/") && marker > 0) {
+            String sessionId = destination.substring(marker + USER_DESTINATION_MARKER.length());
+            return !localSessionIds.contains(sessionId);
+        }
+        return false;
+    }
+
+    /**
+     * 다른 노드에서 받은 메시지를 로컬 brokerChannel 로 전달
+     */
+    private void deliver(ClusterEnvelope envelope) {
+        if (nodeId.equals(envelope.originNodeId())) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        envelope.nativeHeaders().forEach((name, values) -> values.forEach(value -> headers.addNativeHeader(name, value)));
+        if (envelope.contentType() != null) {
+            headers.setContentType(MimeType.valueOf(envelope.contentType()));
+        }
+        // 사용자 목적지 브로드캐스트 처리기는 세션 ID 가 없는 메시지를 자기 노드의 브로드캐스트로 보고 무시함
+        headers.setSessionId("cluster-" + envelope.originNodeId());
+        headers.setHeader(ORIGIN_HEADER, envelope.originNodeId());
+        headers.setLeaveMutable(true);
+
+        if (USER_REGISTRY_BROADCAST.equals(envelope.destination())) {
+            // 심플 브로커에는 레지스트리 브로드캐스트 구독자가 없으므로 레지스트리 처리기로 바로 전달
+            headers.setDestination(envelope.destination());
+            userRegistryMessageHandler.handleMessage(
+                    MessageBuilder.createMessage(envelope.payload(), headers.getMessageHeaders()));
+            return;
+        }
+
+        messagingTemplate.send(envelope.destination(),
+                MessageBuilder.createMessage(envelope.payload(), headers.getMessageHeaders()));
+    }
+
+    /**
+     * 클러스터 포트로 들어오는 프레임은 브로커에 그대로 들어가므로 공유 비밀 없이 tcp 전송을 시작하지 않음
+     */
+    private static byte[] requireSecret(String secret) {
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("tcp 클러스터 전송은 anondocs.cluster.tcp.secret 에 " + MIN_SECRET_BYTES +
+                    "바이트 이상의 공유 비밀이 필요합니다.");
+        }
+        return bytes;
+    }
+
+    private static List<InetSocketAddress> parsePeers(String peers) {
+        return Arrays.stream(StringUtils.commaDelimitedListToStringArray(peers))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(peer -> {
+                    int colon = peer.lastIndexOf(':');
+                    return new InetSocketAddress(peer.substring(0, colon), Integer.parseInt(peer.substring(colon + 1)));
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.anondocs.anondocs_server.cluster;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노드 사이에 전달하는 브로커 메시지 한 건
+ * 본문은 이미 직렬화된 byte[] 그대로 전달하므로 받는 노드에서 다시 직렬화하지 않는다.
+ *
+ * @param originNodeId  보낸 노드 ID (자기 메시지를 다시 받지 않기 위함)
+ * @param destination   브로커 목적지 (/topic/diaries/1, /queue/acks-user{sessionId} 등)
+ * @param contentType   본문 content-type, 없으면 null
+ * @param nativeHeaders STOMP 헤더 (coalesce-key, simpOrigDestination 등)
+ * @param payload       직렬화된 본문
+ */
+public record ClusterEnvelope(String originNodeId,
+                              String destination,
+                              String contentType,
+                              Map<String, List<String>> nativeHeaders,
+                              byte[] payload) {
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(originNodeId);
+            out.writeUTF(destination);
+            out.writeUTF(contentType == null ? "" : contentType);
+            out.writeInt(nativeHeaders.size());
+            for (Map.Entry<String, List<String>> header : nativeHeaders.entrySet()) {
+                out.writeUTF(header.getKey());
+                out.writeInt(header.getValue().size());
+                for (String value : header.getValue()) {
+                    out.writeUTF(value);
+                }
+            }
+            out.writeInt(payload.length);
+            out.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static ClusterEnvelope decode(byte[] frame) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame))) {
+            String originNodeId = in.readUTF();
+            String destination = in.readUTF();
+            String contentType = in.readUTF();
+
+            int headerCount = in.readInt();
+            Map<String, List<String>> nativeHeaders = new LinkedHashMap<>(headerCount);
+            for (int i = 0; i < headerCount; i++) {
+                String name = in.readUTF();
+                int valueCount = in.readInt();
+                List<String> values = new ArrayList<>(valueCount);
+                for (int j = 0; j < valueCount; j++) {
+                    values.add(in.readUTF());
+                }
+                nativeHeaders.put(name, values);
+            }
+
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+            return new ClusterEnvelope(originNodeId, destination, contentType.isEmpty() ? null : contentType,
+                    nativeHeaders, payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.anondocs.anondocs_server.cluster;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 메시지 전송 방식
+ *
+ * publish 는 다른 모든 노드에 전달하며 호출 스레드를 오래 막지 않아야 한다 (브로커 채널 스레드에서 호출됨).
+ * 전달은 최선 노력(best-effort)이며, 끊긴 동안 놓친 편집은 클라이언트가 resync 로 메운다.
+ */
+public interface ClusterTransport {
+
+    void start(Consumer<ClusterEnvelope> receiver) throws IOException;
+
+    void publish(ClusterEnvelope envelope);
+
+    void stop();
+}
@@ -0,0 +1,35 @@
+package com.anondocs.anondocs_server.cluster;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 노드(애플리케이션 컨텍스트)끼리 바로 전달하는 전송 방식 (테스트용)
+ */
+public class LoopbackClusterTransport implements ClusterTransport {
+
+    private static final Set<LoopbackClusterTransport> NODES = ConcurrentHashMap.newKeySet();
+
+    private volatile Consumer<ClusterEnvelope> receiver;
+
+    @Override
+    public void start(Consumer<ClusterEnvelope> receiver) {
+        this.receiver = receiver;
+        NODES.add(this);
+    }
+
+    @Override
+    public void publish(ClusterEnvelope envelope) {
+        for (LoopbackClusterTransport node : NODES) {
+            if (node != this) {
+                node.receiver.accept(envelope);
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        NODES.remove(this);
+    }
+}
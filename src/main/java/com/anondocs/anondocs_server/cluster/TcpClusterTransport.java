@@ -0,0 +1,307 @@
+package com.anondocs.anondocs_server.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * TCP 풀 메시 전송 방식
+ *
+ * - 각 노드는 bindAddress:port 에서 다른 노드의 연결을 받아 수신만 하고, peers 각각에 연결을 하나씩 열어 송신만 함
+ * - 수신 연결은 peers 에 있는 호스트(주소 기준)에서 온 것만 받고, 공유 비밀(secret) 핸드셰이크를 통과해야 함
+ *   1. 서버 -> 클라이언트: MAGIC + 임의 nonce
+ *   2. 클라이언트 -> 서버: HMAC-SHA256(secret, "hello" + nonce)
+ *   3. 이후 프레임마다 세션 키 HMAC-SHA256(secret, "session" + nonce) 로 (순번 + 본문) MAC 을 붙임
+ *   (순번으로 재전송/순서 바꾸기를 막고, MAC 이 틀리면 연결 종료)
+ * - 프레임 형식: 4바이트 길이 + ClusterEnvelope 인코딩 + 32바이트 MAC
+ * - peer 별 송신 큐를 두어 publish 는 큐에 넣고 바로 반환, 큐가 가득 차면(peer 가 느리거나 끊김) 버림
+ * - 끊긴 peer 는 RECONNECT_DELAY_MILLIS 마다 다시 연결
+ * - 본문은 암호화하지 않으므로 클러스터 포트는 내부망 주소에만 바인딩한다
+ */
+@Slf4j
+public class TcpClusterTransport implements ClusterTransport {
+
+    private static final int MAGIC = 0x41444331; // "ADC1"
+    private static final int NONCE_BYTES = 32;
+    private static final int MAC_BYTES = 32;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final byte[] HELLO_LABEL = "hello".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SESSION_LABEL = "session".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int MAX_FRAME_BYTES = 16 * 1024 * 1024;
+    private static final int CONNECT_TIMEOUT_MILLIS = 3_000;
+    private static final int HANDSHAKE_TIMEOUT_MILLIS = 3_000;
+    private static final long RECONNECT_DELAY_MILLIS = 1_000;
+
+    private final String bindAddress;
+    private final int port;
+    private final List<InetSocketAddress> peers;
+    private final byte[] secret;
+    private final int queueCapacity;
+
+    private final SecureRandom random = new SecureRandom();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cluster-tcp-", 0).factory());
+
+    private volatile boolean running;
+    private volatile ServerSocket serverSocket;
+    private volatile List<Peer> connections = List.of();
+
+    public TcpClusterTransport(String bindAddress, int port, List<InetSocketAddress> peers, byte[] secret,
+                               int queueCapacity) {
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.peers = peers;
+        this.secret = secret.clone();
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public void start(Consumer<ClusterEnvelope> receiver) throws IOException {
+        running = true;
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getByName(bindAddress), port));
+        executor.execute(() -> acceptLoop(receiver));
+
+        connections = peers.stream().map(Peer::new).toList();
+        connections.forEach(peer -> executor.execute(peer::sendLoop));
+
+        log.info("클러스터 TCP 전송 시작 - 주소: {}, peers: {}", serverSocket.getLocalSocketAddress(), peers);
+    }
+
+    @Override
+    public void publish(ClusterEnvelope envelope) {
+        List<Peer> targets = connections;
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        byte[] frame = envelope.encode();
+        for (Peer peer : targets) {
+            if (!peer.queue.offer(frame)) {
+                log.warn("클러스터 송신 큐 가득 참, 메시지 버림 - peer: {}, 목적지: {}", peer.address, envelope.destination());
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            log.debug("클러스터 서버 소켓 종료 실패", e);
+        }
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop(Consumer<ClusterEnvelope> receiver) {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                if (!isMember(socket.getInetAddress())) {
+                    log.warn("클러스터 멤버가 아닌 주소의 연결 거부 - {}", socket.getRemoteSocketAddress());
+                    socket.close();
+                    continue;
+                }
+                executor.execute(() -> receiveLoop(socket, receiver));
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("클러스터 연결 수락 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * peers 의 호스트 이름은 연결마다 다시 해석 (주소가 바뀌는 배포 환경 대응, 연결은 드물게 맺어짐)
+     */
+    private boolean isMember(InetAddress remote) {
+        for (InetSocketAddress peer : peers) {
+            try {
+                for (InetAddress address : InetAddress.getAllByName(peer.getHostString())) {
+                    if (address.equals(remote)) {
+                        return true;
+                    }
+                }
+            } catch (UnknownHostException e) {
+                log.debug("클러스터 peer 주소 해석 실패 - {}", peer.getHostString());
+            }
+        }
+        return false;
+    }
+
+    private void receiveLoop(Socket socket, Consumer<ClusterEnvelope> receiver) {
+        try (socket) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            // 1. 핸드셰이크: nonce 에 대한 HMAC 으로 같은 secret 을 가진 노드인지 확인
+            byte[] nonce = new byte[NONCE_BYTES];
+            random.nextBytes(nonce);
+            out.writeInt(MAGIC);
+            out.write(nonce);
+            out.flush();
+
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MILLIS);
+            byte[] proof = new byte[MAC_BYTES];
+            in.readFully(proof);
+            if (!MessageDigest.isEqual(proof, hmac(secret, HELLO_LABEL, nonce))) {
+                log.warn("클러스터 핸드셰이크 실패(secret 불일치), 연결 종료 - {}", socket.getRemoteSocketAddress());
+                return;
+            }
+            socket.setSoTimeout(0);
+
+            // 2. 프레임마다 세션 키로 MAC 확인
+            FrameMac frameMac = new FrameMac(hmac(secret, SESSION_LABEL, nonce));
+            byte[] mac = new byte[MAC_BYTES];
+            while (running) {
+                int length = in.readInt();
+                if (length < 0 || length > MAX_FRAME_BYTES) {
+                    log.warn("클러스터 프레임 크기 오류, 연결 종료 - {}: {} bytes", socket.getRemoteSocketAddress(), length);
+                    return;
+                }
+
+                byte[] frame = new byte[length];
+                in.readFully(frame);
+                in.readFully(mac);
+                if (!MessageDigest.isEqual(mac, frameMac.next(frame))) {
+                    log.warn("클러스터 프레임 MAC 불일치, 연결 종료 - {}", socket.getRemoteSocketAddress());
+                    return;
+                }
+
+                try {
+                    receiver.accept(ClusterEnvelope.decode(frame));
+                } catch (RuntimeException e) {
+                    log.error("클러스터 메시지 처리 실패 - {}", socket.getRemoteSocketAddress(), e);
+                }
+            }
+        } catch (IOException e) {
+            log.debug("클러스터 수신 연결 종료 - {}: {}", socket.getRemoteSocketAddress(), e.getMessage());
+        }
+    }
+
+    private static byte[] hmac(byte[] key, byte[]... parts) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(new SecretKeySpec(key, MAC_ALGORITHM));
+            for (byte[] part : parts) {
+                mac.update(part);
+            }
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("클러스터 MAC 계산 실패", e);
+        }
+    }
+
+    /**
+     * 연결 하나의 프레임 MAC (순번을 함께 넣어 재전송/순서 바꾸기 방지), 연결당 한 스레드에서만 사용
+     */
+    private static final class FrameMac {
+
+        private final Mac mac;
+        private final ByteBuffer sequence = ByteBuffer.allocate(Long.BYTES);
+        private long next;
+
+        private FrameMac(byte[] sessionKey) {
+            try {
+                this.mac = Mac.getInstance(MAC_ALGORITHM);
+                this.mac.init(new SecretKeySpec(sessionKey, MAC_ALGORITHM));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("클러스터 MAC 초기화 실패", e);
+            }
+        }
+
+        private byte[] next(byte[] frame) {
+            sequence.clear();
+            sequence.putLong(next++);
+            mac.update(sequence.array());
+            mac.update(frame);
+            return mac.doFinal();
+        }
+    }
+
+    private final class Peer {
+
+        private final InetSocketAddress address;
+        private final BlockingQueue<byte[]> queue;
+
+        private Peer(InetSocketAddress address) {
+            this.address = address;
+            this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        }
+
+        private void sendLoop() {
+            while (running) {
+                try (Socket socket = new Socket()) {
+                    socket.setTcpNoDelay(true);
+                    socket.connect(address, CONNECT_TIMEOUT_MILLIS);
+
+                    DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+                    // 핸드셰이크: 서버 nonce 에 secret 으로 응답
+                    socket.setSoTimeout(HANDSHAKE_TIMEOUT_MILLIS);
+                    if (in.readInt() != MAGIC) {
+                        log.warn("클러스터 peer 가 다른 프로토콜로 응답 - {}", address);
+                        throw new IOException("unexpected handshake");
+                    }
+                    byte[] nonce = new byte[NONCE_BYTES];
+                    in.readFully(nonce);
+                    out.write(hmac(secret, HELLO_LABEL, nonce));
+                    out.flush();
+                    socket.setSoTimeout(0);
+                    log.info("클러스터 peer 연결 - {}", address);
+
+                    FrameMac frameMac = new FrameMac(hmac(secret, SESSION_LABEL, nonce));
+                    while (running) {
+                        byte[] frame = queue.take();
+                        out.writeInt(frame.length);
+                        out.write(frame);
+                        out.write(frameMac.next(frame));
+                        // 대기 중인 프레임이 없을 때만 flush (몰려올 때는 한 번에 전송)
+                        if (queue.isEmpty()) {
+                            out.flush();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (IOException e) {
+                    log.debug("클러스터 peer 연결 실패 - {}: {}", address, e.getMessage());
+                }
+
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.anondocs.anondocs_server.config;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.List;
+
+/**
+ * permessage-deflate 협상 여부를 설정으로 켜고 끄는 핸드셰이크 핸들러
+ *
+ * 서블릿 컨테이너(Tomcat)가 permessage-deflate 를 지원하므로, 켜져 있으면 클라이언트가 요청할 때 그대로 협상하고
+ * 꺼져 있으면 요청 목록에서 제외해 압축 없이 연결한다.
+ * 큰 전체 본문 프레임은 크기가 크게 줄지만, 압축 CPU 와 연결당 압축 컨텍스트 메모리가 든다.
+ */
+public class PerMessageDeflateHandshakeHandler extends DefaultHandshakeHandler {
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean perMessageDeflate;
+
+    public PerMessageDeflateHandshakeHandler(boolean perMessageDeflate) {
+        this.perMessageDeflate = perMessageDeflate;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                                                                 List<WebSocketExtension> requestedExtensions,
+                                                                 List<WebSocketExtension> supportedExtensions) {
+        List<WebSocketExtension> extensions =
+                super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions);
+        if (perMessageDeflate) {
+            return extensions;
+        }
+        return extensions.stream()
+                .filter(extension -> !PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()))
+                .toList();
+    }
+}
@@ -1,9 +1,11 @@
 package com.anondocs.anondocs_server.config;
 
 import com.anondocs.anondocs_server.auth.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -16,6 +18,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final Environment environment;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -30,11 +33,16 @@ public class SecurityConfig {
 
                 // 요청별 인가 규칙
                 .authorizeHttpRequests(auth -> auth
+                        // actuator(헬스, 실시간 경로 메트릭)는 별도 관리 포트로 들어온 요청만 허용 (서비스 포트에서는 인증 필요)
+                        .requestMatchers(this::isActuatorOnManagementPort).permitAll()
                         .requestMatchers(
                                 "/api/auth/**",        // 회원가입/로그인
                                 "/health",             // 헬스 체크 등
                                 "/actuator/health",
-                                "/ws/**"               // WebSocket 엔드포인트 (핸드셰이크)
+                                "/livez",              // 서비스 포트의 liveness/readiness 프로브 (외부 로드밸런서용)
+                                "/readyz",
+                                "/ws/**",              // WebSocket 엔드포인트 (SockJS 핸드셰이크)
+                                "/ws-native/**"        // WebSocket 엔드포인트 (순수 WebSocket 핸드셰이크)
                         ).permitAll()
                         .anyRequest().authenticated() // 나머지는 전부 인증 필요
                 )
@@ -44,4 +52,15 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    // management.server.port 로 띄운 관리 서버(기본 127.0.0.1 바인딩)에 들어온 헬스/메트릭 요청인지
+    private boolean isActuatorOnManagementPort(HttpServletRequest request) {
+        Integer managementPort = environment.getProperty("local.management.port", Integer.class);
+        if (managementPort == null || request.getLocalPort() != managementPort) {
+            return false;
+        }
+        String path = request.getRequestURI();
+        return path.startsWith("/actuator/health") || path.startsWith("/actuator/metrics")
+                || path.equals("/actuator/prometheus");
+    }
 }
\ No newline at end of file
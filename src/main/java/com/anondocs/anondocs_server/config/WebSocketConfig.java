@@ -1,26 +1,127 @@
 package com.anondocs.anondocs_server.config;
 
 import com.anondocs.anondocs_server.auth.StompAuthChannelInterceptor;
+import com.anondocs.anondocs_server.auth.StompSessionExpiryRegistry;
+import com.anondocs.anondocs_server.cluster.ClusterBroadcastBus;
+import com.anondocs.anondocs_server.realtime.RealtimeMetrics;
+import com.anondocs.anondocs_server.realtime.RealtimeMetricsInterceptor;
+import com.anondocs.anondocs_server.realtime.SlowConsumerHandlerDecoratorFactory;
+import com.anondocs.anondocs_server.realtime.StompPayloadFormat;
+import com.anondocs.anondocs_server.realtime.StompPayloadFormatInterceptor;
+import com.anondocs.anondocs_server.realtime.StompRateLimitInterceptor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.List;
+
+/**
+ * STOMP over WebSocket 설정
+ *
+ * 엔드포인트:
+ * - /ws: SockJS (레거시 브라우저, 폴백 전송 필요 시)
+ * - /ws-native: 순수 WebSocket, native.permessage-deflate=true 면 클라이언트 요청 시 압축 협상
+ *
+ * 채널 실행기 (anondocs.websocket.*):
+ * - inbound: @MessageMapping 핸들러를 실행하는 풀. 핸들러가 JDBC 에서 블로킹되므로 크기를 DB 풀과 함께 조정
+ * - inbound.virtual-threads=true: 메시지마다 가상 스레드에서 실행 (JDBC 대기 중에도 플랫폼 스레드를 점유하지 않음)
+ * - outbound: 세션으로 프레임을 쓰는 풀
+ * - broker.pool-size: 0 이면 기본값(호출 스레드에서 바로 브로커 처리), 양수면 전용 풀
+ * - preserve-receive-order: 세션별 수신 순서대로 핸들러 실행 (편집 순서 보장)
+ *
+ * 전송 한도 (anondocs.websocket.transport.*):
+ * - send-time-limit-ms / send-buffer-size-limit: 세션별 송신 대기 한도, 넘으면 slow-consumer-policy 적용
+ * - message-size-limit: 클라이언트가 보내는 STOMP 프레임 최대 크기
+ *
+ * 본문 인코딩:
+ * - 기본은 JSON, CONNECT 에 payload-format:cbor 헤더를 보낸 세션은 CBOR 로 주고받음 (SockJS 제외)
+ * - CBOR 컨버터는 content-type 이 application/cbor 인 프레임만 처리 (그 외는 기존 JSON 컨버터)
+ *
+ * 쓰기 속도 제한 (anondocs.realtime.rate-limit.*):
+ * - 인증 직후 StompRateLimitInterceptor 가 세션/사용자별 토큰 버킷으로 SEND 프레임을 걸러냄
+ *
+ * 메트릭: inbound 는 인증 직후, outbound 는 맨 앞에 RealtimeMetricsInterceptor 를 두어 목적지별 프레임 수와 inbound 대기 시간 기록
+ *   (목적지 태그는 RealtimeMetrics.KNOWN_DESTINATIONS 로 고정, 나머지는 other)
+ *
+ * 세션 만료 (anondocs.websocket.session-expiry.*):
+ * - CONNECT 토큰의 만료 시각을 StompSessionExpiryRegistry 타이머 휠에 등록, 만료 시 재인증 요청 후 grace-ms 뒤 종료
+ */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final SlowConsumerHandlerDecoratorFactory slowConsumerHandlerDecoratorFactory;
+    private final StompPayloadFormatInterceptor stompPayloadFormatInterceptor;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+    private final StompSessionExpiryRegistry stompSessionExpiryRegistry;
+    private final RealtimeMetrics realtimeMetrics;
+    private final ClusterBroadcastBus clusterBroadcastBus;
+
+    @Value("${anondocs.websocket.preserve-receive-order:true}")
+    private boolean preserveReceiveOrder;
+
+    @Value("${anondocs.websocket.inbound.virtual-threads:false}")
+    private boolean inboundVirtualThreads;
+
+    @Value("${anondocs.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${anondocs.websocket.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${anondocs.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${anondocs.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${anondocs.websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${anondocs.websocket.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
+    @Value("${anondocs.websocket.broker.pool-size:0}")
+    private int brokerPoolSize;
+
+    @Value("${anondocs.websocket.native.permessage-deflate:true}")
+    private boolean nativePerMessageDeflate;
+
+    @Value("${anondocs.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${anondocs.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${anondocs.websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
-                .withSockJS(); // SockJS 지원
+                .withSockJS(); // SockJS 지원 (레거시 브라우저용)
+
+        // 네이티브/모바일 클라이언트용 순수 WebSocket 엔드포인트 (SockJS 프레이밍/폴백 없음)
+        registry.addEndpoint("/ws-native")
+                .setAllowedOriginPatterns("*")
+                .setHandshakeHandler(new PerMessageDeflateHandshakeHandler(nativePerMessageDeflate));
+
+        registry.setPreserveReceiveOrder(preserveReceiveOrder);
     }
 
     @Override
@@ -33,10 +134,72 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setApplicationDestinationPrefixes("/app");
         // /user prefix 설정 (개인 메시지용)
         registry.setUserDestinationPrefix("/user");
+
+        // 다중 노드: 노드 간 사용자 레지스트리 공유 + 로컬에서 못 찾은 사용자 목적지 브로드캐스트,
+        // 브로커로 가는 메시지 중 복제 대상은 클러스터 버스가 다른 노드로 전달
+        if (clusterBroadcastBus.isEnabled()) {
+            registry.setUserRegistryBroadcast(ClusterBroadcastBus.USER_REGISTRY_BROADCAST);
+            registry.setUserDestinationBroadcast(ClusterBroadcastBus.USER_DESTINATION_BROADCAST);
+            registry.configureBrokerChannel().interceptors(clusterBroadcastBus);
+        }
+
+        if (brokerPoolSize > 0) {
+            registry.configureBrokerChannel().taskExecutor()
+                    .corePoolSize(brokerPoolSize)
+                    .maxPoolSize(brokerPoolSize);
+        }
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompAuthChannelInterceptor);
+        // 메트릭은 인증을 통과한 프레임만 기록 (미인증 클라이언트가 집계 대상을 만들지 못하도록)
+        registration.interceptors(stompAuthChannelInterceptor, new RealtimeMetricsInterceptor(realtimeMetrics, true),
+                stompRateLimitInterceptor, stompPayloadFormatInterceptor);
+
+        if (inboundVirtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stomp-inbound-vt-");
+            executor.setVirtualThreads(true);
+            registration.executor(executor);
+            log.info("STOMP inbound 채널: 가상 스레드 실행 모드");
+            return;
+        }
+
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new RealtimeMetricsInterceptor(realtimeMetrics, false), stompPayloadFormatInterceptor);
+
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        MappingJackson2MessageConverter cborConverter =
+                new MappingJackson2MessageConverter(StompPayloadFormat.CBOR.getMimeType());
+        // JSON 컨버터와 같은 기본 설정(모르는 필드 무시 등)으로 CBOR 매퍼 생성
+        cborConverter.setObjectMapper(Jackson2ObjectMapperBuilder.cbor().build());
+        cborConverter.setStrictContentTypeMatch(true);
+        messageConverters.add(cborConverter);
+
+        // true: 기본 컨버터(String, byte[], JSON)도 함께 등록
+        return true;
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(slowConsumerHandlerDecoratorFactory)
+                .addDecoratorFactory(stompPayloadFormatInterceptor)
+                .addDecoratorFactory(stompSessionExpiryRegistry);
     }
-}
\ No newline at end of file
+}
@@ -1,18 +1,25 @@
 package com.anondocs.anondocs_server.controller;
 
 import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.dto.CursorSliceResponse;
+import com.anondocs.anondocs_server.dto.DiaryCountResponse;
+import com.anondocs.anondocs_server.dto.DiaryCursor;
 import com.anondocs.anondocs_server.dto.DiaryFeedItemResponse;
 import com.anondocs.anondocs_server.dto.DiaryResponse;
+import com.anondocs.anondocs_server.dto.DiarySummaryResponse;
 import com.anondocs.anondocs_server.dto.UserPrincipalDto;
 import com.anondocs.anondocs_server.service.DiaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * 일기 조회/삭제 컨트롤러 (REST API)
@@ -20,6 +27,8 @@ import org.springframework.web.bind.annotation.*;
  * 역할 분리:
  * - DiaryController: 일기 조회, 삭제 (읽기 작업)
  * - DiaryRealTimeController: 일기 생성, 편집 (모든 쓰기 작업은 WebSocket으로)
+ *
+ * 목록 조회는 DTO projection 으로 본문 미리보기만 반환, 전체 본문은 단건 조회에서만 반환
  */
 @RestController
 @RequestMapping("/api/diaries")
@@ -27,20 +36,44 @@ import org.springframework.web.bind.annotation.*;
 @Validated
 public class DiaryController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final DiaryService diaryService;
 
     // 1. 내 일기 목록 조회 (페이징)
     @GetMapping("/me")
-    public ResponseEntity<Page<DiaryResponse>> getMyDiaries(
+    public ResponseEntity<Page<DiarySummaryResponse>> getMyDiaries(
             @AuthenticationPrincipal UserPrincipalDto principal,
             Pageable pageable
     ) {
         Long userId = requireAuthenticated(principal);
 
-        Page<Diary> diaries = diaryService.getMyDiaries(userId, pageable);
-        Page<DiaryResponse> body = diaries.map(DiaryResponse::from);
+        return ResponseEntity.ok(diaryService.getMyDiaries(userId, pageable));
+    }
+
+    // 1-1. 내 일기 목록 - 커서 기반 (createdAt, id 역순, 전체 개수 없음)
+    @GetMapping("/me/cursor")
+    public ResponseEntity<CursorSliceResponse<DiarySummaryResponse>> getMyDiariesByCursor(
+            @AuthenticationPrincipal UserPrincipalDto principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = requireAuthenticated(principal);
+
+        Slice<DiarySummaryResponse> diaries = diaryService.getMyDiaries(userId, decodeCursor(cursor), clampSize(size));
+
+        return ResponseEntity.ok(CursorSliceResponse.of(diaries,
+                item -> new DiaryCursor(item.getCreatedAt(), item.getId())));
+    }
+
+    // 1-2. 내 일기 수 (유지되는 카운터)
+    @GetMapping("/me/count")
+    public ResponseEntity<DiaryCountResponse> countMyDiaries(
+            @AuthenticationPrincipal UserPrincipalDto principal
+    ) {
+        Long userId = requireAuthenticated(principal);
 
-        return ResponseEntity.ok(body);
+        return ResponseEntity.ok(new DiaryCountResponse(diaryService.countMyDiaries(userId)));
     }
 
     // 2. 내 일기 단건 조회
@@ -70,9 +103,31 @@ public class DiaryController {
     // 4. 공용 피드 (익명 공개 일기 목록)
     @GetMapping("/feed")
     public ResponseEntity<Page<DiaryFeedItemResponse>> getPublicFeed(Pageable pageable) {
-        Page<Diary> feed = diaryService.getPublicFeed(pageable);
-        Page<DiaryFeedItemResponse> body = feed.map(DiaryFeedItemResponse::from);
-        return ResponseEntity.ok(body);
+        return ResponseEntity.ok(diaryService.getPublicFeed(pageable));
+    }
+
+    // 5. 공용 피드 - 커서 기반 (깊이와 무관하게 일정한 비용, 전체 개수 없음)
+    @GetMapping("/feed/cursor")
+    public ResponseEntity<CursorSliceResponse<DiaryFeedItemResponse>> getPublicFeedByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Slice<DiaryFeedItemResponse> feed = diaryService.getPublicFeed(decodeCursor(cursor), clampSize(size));
+
+        return ResponseEntity.ok(CursorSliceResponse.of(feed,
+                item -> new DiaryCursor(item.getPublishedAt(), item.getId())));
+    }
+
+    private static DiaryCursor decodeCursor(String cursor) {
+        try {
+            return DiaryCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
     }
 
     private Long requireAuthenticated(UserPrincipalDto principal) {
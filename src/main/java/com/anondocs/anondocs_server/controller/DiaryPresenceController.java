@@ -0,0 +1,67 @@
+package com.anondocs.anondocs_server.controller;
+
+import com.anondocs.anondocs_server.dto.DiaryPresenceMessageDto;
+import com.anondocs.anondocs_server.dto.UserPrincipalDto;
+import com.anondocs.anondocs_server.realtime.DiaryPresenceRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+/**
+ * 실시간 커서/선택 영역 presence 컨트롤러 (WebSocket + STOMP)
+ *
+ * - 업데이트: /app/diaries/{diaryId}/presence
+ * - 구독: /topic/diaries/{diaryId}/presence (일기의 전체 presence 상태, 주기적으로 합쳐서 전송)
+ *
+ * 빈도는 높고 유실돼도 되는 트래픽이므로 메모리에만 두고 DB/DiaryService 를 거치지 않는다.
+ * 권한은 이 세션이 이미 가진 일기 토픽 구독으로 확인한다. 구독은 SUBSCRIBE 시점에 인증 인터셉터가
+ * 허용한 것만 SimpUserRegistry 에 등록되므로 캐시 미스가 나도 DB 를 조회하지 않는다.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class DiaryPresenceController {
+
+    private final DiaryPresenceRegistry diaryPresenceRegistry;
+    private final SimpUserRegistry simpUserRegistry;
+
+    @MessageMapping("/diaries/{diaryId}/presence")
+    public void updatePresence(@DestinationVariable Long diaryId,
+                               DiaryPresenceMessageDto message,
+                               Principal principal,
+                               @Header("simpSessionId") String sessionId) {
+        Authentication auth = (Authentication) principal;
+        UserPrincipalDto userPrincipal = (UserPrincipalDto) auth.getPrincipal();
+
+        if (!isSubscribed(principal, sessionId, diaryId)) {
+            log.debug("presence 권한 없음 (일기 토픽 미구독) - 일기: {}, 사용자: {}", diaryId, userPrincipal.getId());
+            return;
+        }
+
+        diaryPresenceRegistry.update(diaryId, sessionId, userPrincipal, message);
+    }
+
+    // 이 세션이 /topic/diaries/{diaryId} 또는 그 하위 토픽을 구독 중인지
+    private boolean isSubscribed(Principal principal, String sessionId, Long diaryId) {
+        SimpUser user = simpUserRegistry.getUser(principal.getName());
+        SimpSession session = user == null ? null : user.getSession(sessionId);
+        if (session == null) {
+            return false;
+        }
+
+        String topic = "/topic/diaries/" + diaryId;
+        return session.getSubscriptions().stream()
+                .map(SimpSubscription::getDestination)
+                .anyMatch(destination -> destination.equals(topic) || destination.startsWith(topic + "/"));
+    }
+}
@@ -1,18 +1,39 @@
 package com.anondocs.anondocs_server.controller;
 
+import com.anondocs.anondocs_server.crdt.DiaryCrdtApplyResult;
+import com.anondocs.anondocs_server.crdt.DiaryCrdtDocumentRegistry;
 import com.anondocs.anondocs_server.domain.diary.Diary;
 import com.anondocs.anondocs_server.dto.*;
 import com.anondocs.anondocs_server.exception.DiaryVersionConflictException;
+import com.anondocs.anondocs_server.exception.InvalidDiaryDeltaException;
+import com.anondocs.anondocs_server.realtime.DiaryBroadcastThrottler;
+import com.anondocs.anondocs_server.realtime.DiaryBroadcaster;
+import com.anondocs.anondocs_server.realtime.DiaryReplayBuffer;
+import com.anondocs.anondocs_server.realtime.EncodedPayload;
+import com.anondocs.anondocs_server.service.DiaryEditActorSystem;
+import com.anondocs.anondocs_server.service.DiaryEditResult;
+import com.anondocs.anondocs_server.service.DiaryLwwWriteBehindBuffer;
 import com.anondocs.anondocs_server.service.DiaryService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
 
 import java.security.Principal;
+import java.util.List;
 
 /**
  * 실시간 일기 생성/편집 컨트롤러 (WebSocket + STOMP)
@@ -21,21 +42,50 @@ import java.security.Principal;
  * - 일기 생성: /app/diaries/create
  * - 일기 편집 (LWW): /app/diaries/{diaryId}/edit-lww (마지막 쓰기 승리, 버전 체크 없음)
  * - 일기 편집 (Version): /app/diaries/{diaryId}/edit (버전 기반 낙관적 락, 충돌 감지)
+ * - 일기 편집 (Delta): /app/diaries/{diaryId}/edit-delta (baseVersion 기준 삽입/삭제 연산만 전송)
+ * - 일기 편집 (Batch): /app/diaries/{diaryId}/edit-batch (seq 가 붙은 여러 편집을 한 프레임으로, ack -> /user/queue/acks)
+ * - 일기 편집 (CRDT): /app/diaries/{diaryId}/edit-crdt (시퀀스 CRDT, 동시 편집 자동 병합)
+ * - CRDT 스냅샷: /app/diaries/{diaryId}/crdt-snapshot -> /user/queue/diary-crdt-snapshot
+ * - 재연결 동기화: /app/diaries/{diaryId}/resync -> /user/queue/diary-resync
+ *   (놓친 편집만, 버퍼 밖이거나 LWW/CRDT 쓰기가 끼어들었으면 스냅샷)
  *
  * LWW(Last Write Wins) 방식:
  * - 버전 체크 없이 마지막으로 도착한 수정이 항상 적용됨
  * - 간단한 시나리오에 적합
+ * - 브로드캐스트는 즉시, DB 저장은 write-behind 버퍼에서 일기별로 모아서 수행
  *
  * Version 기반 낙관적 락 방식:
  * - @Version 어노테이션으로 동시성 충돌 감지
- * - 충돌 시 에러 전송, 클라이언트가 최신 버전으로 재시도
+ * - 기준 버전이 오래됐어도 최근 버전 윈도우 안이고 변경 구간이 겹치지 않으면 서버에서 3-way 병합
+ * - 병합할 수 없는 충돌만 에러 전송, 클라이언트가 최신 버전으로 재시도
  * - 협업 시나리오에 적합
+ * - 일기별 single-writer 편집 액터에서 순서대로 적용되므로 DB 락 경합 없이 충돌만 판정
+ * - 액터를 끄면(anondocs.diary.actor.enabled=false) 노드 메모리 상태 없이 조건부 UPDATE 로 처리
+ *   (병합/재전송 중복 제거 없이 기준 버전이 다르면 바로 충돌, 일기를 노드에 고정할 수 없는 배포용)
+ *
+ * Delta 방식:
+ * - 전체 본문 대신 위치 기반 삽입/삭제 연산만 주고받음 (버전 체크는 Version 방식과 동일)
+ * - 긴 일기에서 메시지 크기가 문서 길이가 아닌 변경량에 비례
+ *
+ * Batch 방식:
+ * - 여러 편집(전체 본문 또는 델타)을 한 프레임/한 번의 저장으로 반영해 STOMP 프레임과 트랜잭션 수를 줄임
+ * - clientId 별 마지막 적용 seq 를 서버가 기억하므로 같은 배치를 재전송해도 한 번만 반영됨
+ * - 브로드캐스트/에러에 clientId, clientSeq 가 포함되어 어떤 편집의 결과인지 구분 가능
+ *
+ * CRDT 방식:
+ * - 일기별 RGA 문서를 메모리에 두고, 모든 세션의 연산을 버전 체크 없이 결정적으로 병합
+ * - 충돌로 인한 거절/재시도가 없으며, 병합된 본문은 주기적으로 DB에 저장
+ * - 한 일기에서 CRDT 방식과 다른 방식을 동시에 섞어 쓰지 않는 것을 전제로 함
  *
  * 동작 방식:
  * 1. 클라이언트가 STOMP 메시지 전송
  * 2. 서비스 레이어에서 처리 (LWW 또는 Version 체크)
  * 3. 성공 시: /topic/diaries/{diaryId} 로 모든 구독자에게 브로드캐스트
+ *    (전체 본문 프레임은 토픽별 윈도우당 최신 1개만 전송, 연산/에러 프레임은 대기 중인 전체 본문을 먼저 내보낸 뒤 즉시 전송)
+ *    (브로드캐스트 본문은 DiaryBroadcaster 에서 한 번만 직렬화해 모든 목적지/구독자가 공유)
  * 4. 실패 시: /queue/errors 로 해당 사용자에게만 에러 전송
+ *    (소유자가 아닌 사용자는 일기 토픽을 구독할 수 없으므로 소유권 거부는 FORBIDDEN 으로 그 사용자의 /queue/errors 에 전송)
+ *    (메시지 DTO 검증(@Valid) 실패는 핸들러에 들어가기 전에 INVALID_MESSAGE 로 요청한 세션에만 전송)
  */
 @Slf4j
 @Controller
@@ -43,7 +93,20 @@ import java.security.Principal;
 public class DiaryRealTimeController {
 
     private final DiaryService diaryService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final DiaryCrdtDocumentRegistry diaryCrdtDocumentRegistry;
+    private final DiaryLwwWriteBehindBuffer diaryLwwWriteBehindBuffer;
+    private final DiaryBroadcaster diaryBroadcaster;
+    private final DiaryBroadcastThrottler diaryBroadcastThrottler;
+    private final DiaryEditActorSystem diaryEditActorSystem;
+    private final DiaryReplayBuffer diaryReplayBuffer;
+
+    private static final String DIARY_DESTINATION = "/app/diaries/{diaryId}/**";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // false 면 /edit 을 편집 액터 대신 DiaryService.updateDiaryContentAtomically 로 처리
+    @Value("${anondocs.diary.actor.enabled:true}")
+    private boolean editActorEnabled;
 
     /**
      * 실시간 일기 생성
@@ -52,7 +115,7 @@ public class DiaryRealTimeController {
      * @param principal 인증된 사용자 정보
      */
     @MessageMapping("/diaries/create")
-    public void createDiary(DiaryCreateMessageDto message, Principal principal) {
+    public void createDiary(@Valid @Payload DiaryCreateMessageDto message, Principal principal) {
         try {
             // 1. 사용자 인증 정보 추출
             Authentication auth = (Authentication) principal;
@@ -80,16 +143,18 @@ public class DiaryRealTimeController {
                     .timestamp(System.currentTimeMillis())
                     .build();
 
-            messagingTemplate.convertAndSend(
+            // 토픽과 개인 큐에 같은 본문을 보내므로 한 번만 직렬화
+            EncodedPayload encoded = diaryBroadcaster.encode(broadcast);
+            diaryBroadcaster.send(
                     "/topic/diaries/" + diary.getId(),
-                    broadcast
+                    encoded
             );
 
             // 4. 생성자에게도 직접 알림 (일기 ID 전달)
-            messagingTemplate.convertAndSendToUser(
+            diaryBroadcaster.sendToUser(
                     userPrincipal.getEmail(),
                     "/queue/diary-created",
-                    broadcast
+                    encoded
             );
 
             log.debug("일기 생성 완료 - 일기 ID: {}, 버전: {}", diary.getId(), diary.getVersion());
@@ -107,7 +172,7 @@ public class DiaryRealTimeController {
                     .message("일기 생성에 실패했습니다: " + e.getMessage())
                     .build();
 
-            messagingTemplate.convertAndSendToUser(
+            diaryBroadcaster.sendToUser(
                     userPrincipal.getEmail(),
                     "/queue/errors",
                     error
@@ -117,6 +182,8 @@ public class DiaryRealTimeController {
 
     /**
      * 실시간 일기 편집 (버전 기반 동시성 제어)
+     * 일기별 편집 액터에서 순서대로 적용되고, 저장 후 액터 스레드에서 결과를 브로드캐스트
+     * anondocs.diary.actor.enabled=false 면 조건부 UPDATE(메타데이터 + 본문)로 바로 저장하고 버전이 다르면 충돌
      *
      * @param diaryId   편집할 일기 ID
      * @param message   편집 내용 (content, version 포함)
@@ -124,95 +191,323 @@ public class DiaryRealTimeController {
      */
     @MessageMapping("/diaries/{diaryId}/edit")
     public void editDiary(@DestinationVariable Long diaryId,
-                          DiaryEditMessageDto message,
+                          @Valid @Payload DiaryEditMessageDto message,
                           Principal principal) {
 
+        // 1. 사용자 인증 정보 추출
+        Authentication auth = (Authentication) principal;
+        UserPrincipalDto userPrincipal = (UserPrincipalDto) auth.getPrincipal();
+        Long userId = userPrincipal.getId();
+
+        log.debug("WebSocket 편집 요청 - 사용자: {}, 일기: {}, 버전: {}",
+                 userId, diaryId, message.getVersion());
+
+        // 2-1. 액터를 끈 경우: 조건부 UPDATE 한 번으로 바로 저장 (노드 로컬 상태 없음, 병합/재전송 중복 제거 없음)
+        if (!editActorEnabled) {
+            try {
+                Long version = diaryService.updateDiaryContentAtomically(
+                        userId, diaryId, message.getContent(), message.getVersion());
+                broadcastEdit(userPrincipal, new DiaryEditResult(diaryId, message.getContent(), version, false,
+                        message.getClientId(), message.getClientSeq()));
+            } catch (Exception e) {
+                sendEditFailure(diaryId, userPrincipal, message.getVersion(),
+                        message.getClientId(), message.getClientSeq(), e);
+            }
+            return;
+        }
+
+        // 2-2. 편집 액터에 제출 (버전 체크는 액터의 메모리 상태 기준)
+        diaryEditActorSystem.submitVersionedEdit(userId, diaryId, message.getContent(), message.getVersion(),
+                message.getClientId(), message.getClientSeq(),
+                (result, failure) -> {
+                    if (failure != null) {
+                        sendEditFailure(diaryId, userPrincipal, message.getVersion(),
+                                message.getClientId(), message.getClientSeq(), failure);
+                        return;
+                    }
+
+                    broadcastEdit(userPrincipal, result);
+                });
+    }
+
+    /**
+     * 버전 기반 편집 성공: 모든 구독자에게 브로드캐스트 (윈도우 내 최신 상태만)
+     */
+    private void broadcastEdit(UserPrincipalDto userPrincipal, DiaryEditResult result) {
+        DiaryEditBroadcastMessageDto broadcast = DiaryEditBroadcastMessageDto.builder()
+                .diaryId(result.getDiaryId())
+                .content(result.getContent())
+                .version(result.getVersion())
+                .editorUserId(userPrincipal.getId())
+                .editorNickname(userPrincipal.getNickname())
+                .timestamp(System.currentTimeMillis())
+                .clientId(result.getClientId())
+                .clientSeq(result.getClientSeq())
+                .build();
+
+        diaryReplayBuffer.record(broadcast);
+        diaryBroadcastThrottler.sendLatest(
+                "/topic/diaries/" + result.getDiaryId(),
+                broadcast
+        );
+
+        log.debug("브로드캐스트 성공 - 일기: {}, 새 버전: {}", result.getDiaryId(), result.getVersion());
+    }
+
+    /**
+     * 실시간 일기 편집 - LWW(Last Write Wins) 방식
+     * 버전 체크 없이 마지막 쓰기가 항상 승리하는 방식
+     *
+     * @param diaryId   편집할 일기 ID
+     * @param message   편집 내용 (content만 포함, version 불필요)
+     * @param principal 인증된 사용자 정보
+     */
+    @MessageMapping("/diaries/{diaryId}/edit-lww")
+    public void editDiaryLww(@DestinationVariable Long diaryId,
+                             @Valid @Payload DiaryEditLwwMessageDto message,
+                             Principal principal) {
+
         try {
             // 1. 사용자 인증 정보 추출
             Authentication auth = (Authentication) principal;
             UserPrincipalDto userPrincipal = (UserPrincipalDto) auth.getPrincipal();
             Long userId = userPrincipal.getId();
 
-            log.debug("WebSocket 편집 요청 - 사용자: {}, 일기: {}, 버전: {}",
-                     userId, diaryId, message.getVersion());
+            log.debug("WebSocket LWW 편집 요청 - 사용자: {}, 일기: {}",
+                    userId, diaryId);
 
-            // 2. 버전 기반 업데이트 (낙관적 락)
-            Diary diary = diaryService.updateDiaryContentWithVersion(
+            // 2. LWW 방식 업데이트 (버전 체크 없음, DB 저장은 write-behind)
+            Long version = diaryLwwWriteBehindBuffer.submit(
                     userId,
                     diaryId,
-                    message.getContent(),
-                    message.getVersion()
+                    message.getContent()
             );
 
-            // 3. 성공 시: 모든 구독자에게 브로드캐스트
+            // 버전이 오르지 않는 쓰기라 replay 이벤트로 기록할 수 없음 -> 이후 재연결은 스냅샷
+            diaryReplayBuffer.invalidate(diaryId);
+
+            // 3. 성공 시: 모든 구독자에게 바로 브로드캐스트 (윈도우 내 최신 상태만)
             DiaryEditBroadcastMessageDto broadcast = DiaryEditBroadcastMessageDto.builder()
-                    .diaryId(diary.getId())
-                    .content(diary.getContent())
-                    .version(diary.getVersion())
+                    .diaryId(diaryId)
+                    .content(message.getContent())
+                    .version(version)
                     .editorUserId(userPrincipal.getId())
                     .editorNickname(userPrincipal.getNickname())
                     .timestamp(System.currentTimeMillis())
                     .build();
 
-            messagingTemplate.convertAndSend(
+            diaryBroadcastThrottler.sendLatest(
                     "/topic/diaries/" + diaryId,
                     broadcast
             );
 
-            log.debug("브로드캐스트 성공 - 일기: {}, 새 버전: {}", diaryId, diary.getVersion());
+            log.debug("LWW 브로드캐스트 성공 - 일기: {}, 버전: {}", diaryId, version);
 
-        } catch (DiaryVersionConflictException e) {
-            // 4. 버전 충돌 시: 토픽으로 브로드캐스트 (같은 사용자의 여러 세션도 모두 받을 수 있도록)
+        } catch (SecurityException e) {
+            sendForbidden(diaryId, (UserPrincipalDto) ((Authentication) principal).getPrincipal(), null, null);
+
+        } catch (Exception e) {
+            // 4. 실패 시: 토픽으로 브로드캐스트
             Authentication auth = (Authentication) principal;
             UserPrincipalDto userPrincipal = (UserPrincipalDto) auth.getPrincipal();
 
-            log.warn("버전 충돌 - 일기: {}, 사용자: {}, 요청 버전: {}, 현재 버전: {}",
-                    diaryId, userPrincipal.getEmail(), message.getVersion(), e.getCurrentVersion());
+            log.error("LWW 일기 편집 실패 - 일기: {}, 사용자: {}", diaryId, userPrincipal.getEmail(), e);
 
             DiaryEditErrorMessageDto error = DiaryEditErrorMessageDto.builder()
                     .diaryId(diaryId)
-                    .code("VERSION_CONFLICT")
-                    .message("다른 사용자가 먼저 수정했습니다. 최신 내용을 불러온 후 다시 시도하세요.")
-                    .currentVersion(e.getCurrentVersion())
+                    .code("EDIT_FAILED")
+                    .message("편집에 실패했습니다: " + e.getMessage())
                     .build();
 
-            String errorTopic = "/topic/diaries/" + diaryId + "/errors";
-            log.info("버전 충돌 에러 브로드캐스트 - 토픽: {}, 현재버전: {}", errorTopic, e.getCurrentVersion());
+            diaryBroadcastThrottler.sendNow(
+                    "/topic/diaries/" + diaryId,
+                    "/topic/diaries/" + diaryId + "/errors",
+                    error
+            );
+        }
+    }
+
+    /**
+     * 실시간 일기 편집 - Delta 방식
+     * baseVersion 본문 기준의 삽입/삭제 연산만 받아 편집 액터에서 적용하고, 구독자에게도 연산만 브로드캐스트
+     *
+     * @param diaryId   편집할 일기 ID
+     * @param message   편집 연산 (baseVersion, operations 포함)
+     * @param principal 인증된 사용자 정보
+     */
+    @MessageMapping("/diaries/{diaryId}/edit-delta")
+    public void editDiaryDelta(@DestinationVariable Long diaryId,
+                               @Valid @Payload DiaryEditDeltaMessageDto message,
+                               Principal principal) {
+
+        // 1. 사용자 인증 정보 추출
+        Authentication auth = (Authentication) principal;
+        UserPrincipalDto userPrincipal = (UserPrincipalDto) auth.getPrincipal();
+        Long userId = userPrincipal.getId();
+
+        log.debug("WebSocket Delta 편집 요청 - 사용자: {}, 일기: {}, 기준 버전: {}, 연산 수: {}",
+                userId, diaryId, message.getBaseVersion(),
+                message.getOperations() == null ? 0 : message.getOperations().size());
+
+        // 2. 편집 액터에 제출 (버전 기반 낙관적 락)
+        diaryEditActorSystem.submitDeltaEdit(userId, diaryId, message.getOperations(), message.getBaseVersion(),
+                message.getClientId(), message.getClientSeq(),
+                (result, failure) -> {
+                    if (failure != null) {
+                        sendEditFailure(diaryId, userPrincipal, message.getBaseVersion(),
+                                message.getClientId(), message.getClientSeq(), failure);
+                        return;
+                    }
+
+                    // 재연결 replay 용으로는 전체 본문 이벤트를 기록
+                    DiaryEditBroadcastMessageDto fullContent = DiaryEditBroadcastMessageDto.builder()
+                            .diaryId(result.getDiaryId())
+                            .content(result.getContent())
+                            .version(result.getVersion())
+                            .editorUserId(userPrincipal.getId())
+                            .editorNickname(userPrincipal.getNickname())
+                            .timestamp(System.currentTimeMillis())
+                            .clientId(result.getClientId())
+                            .clientSeq(result.getClientSeq())
+                            .build();
+                    diaryReplayBuffer.record(fullContent);
+
+                    // 3-1. 오래된 기준 버전을 서버에서 병합한 경우: 연산 위치가 현재 본문과 맞지 않으므로 전체 본문 전송
+                    if (result.isMerged()) {
+                        diaryBroadcastThrottler.sendNow("/topic/diaries/" + diaryId, fullContent);
+                        log.debug("Delta 병합 결과 브로드캐스트 - 일기: {}, 새 버전: {}", diaryId, result.getVersion());
+                        return;
+                    }
+
+                    // 3-2. 성공 시: 전체 본문 대신 연산만 브로드캐스트
+                    DiaryEditDeltaBroadcastMessageDto broadcast = DiaryEditDeltaBroadcastMessageDto.builder()
+                            .diaryId(result.getDiaryId())
+                            .baseVersion(message.getBaseVersion())
+                            .version(result.getVersion())
+                            .operations(message.getOperations())
+                            .editorUserId(userPrincipal.getId())
+                            .editorNickname(userPrincipal.getNickname())
+                            .timestamp(System.currentTimeMillis())
+                            .clientId(result.getClientId())
+                            .clientSeq(result.getClientSeq())
+                            .build();
+
+                    diaryBroadcastThrottler.sendNow(
+                            "/topic/diaries/" + diaryId,
+                            broadcast
+                    );
+
+                    log.debug("Delta 브로드캐스트 성공 - 일기: {}, 새 버전: {}", diaryId, result.getVersion());
+                });
+    }
 
-            messagingTemplate.convertAndSend(errorTopic, error);
+    /**
+     * 실시간 일기 편집 - 배치 방식
+     * seq 가 붙은 여러 편집을 한 프레임으로 받아 편집 액터에서 버전 하나로 함께 반영하고,
+     * 결과 본문은 토픽으로, 마지막 적용 seq 는 보낸 세션에만 ack 로 전달
+     *
+     * @param diaryId   편집할 일기 ID
+     * @param message   배치 편집 (clientId, baseVersion, edits 포함)
+     * @param principal 인증된 사용자 정보
+     * @param sessionId ack 를 보낼 STOMP 세션 ID
+     */
+    @MessageMapping("/diaries/{diaryId}/edit-batch")
+    public void editDiaryBatch(@DestinationVariable Long diaryId,
+                               @Valid @Payload DiaryEditBatchMessageDto message,
+                               Principal principal,
+                               @Header("simpSessionId") String sessionId) {
 
-        } catch (Exception e) {
-            // 5. 기타 예외: 토픽으로 브로드캐스트
-            Authentication auth = (Authentication) principal;
-            UserPrincipalDto userPrincipal = (UserPrincipalDto) auth.getPrincipal();
+        // 1. 사용자 인증 정보 추출
+        Authentication auth = (Authentication) principal;
+        UserPrincipalDto userPrincipal = (UserPrincipalDto) auth.getPrincipal();
+        Long userId = userPrincipal.getId();
 
-            log.error("일기 편집 실패 - 일기: {}, 사용자: {}", diaryId, userPrincipal.getEmail(), e);
+        List<DiaryEditBatchItemDto> edits = message.getEdits();
+
+        log.debug("WebSocket 배치 편집 요청 - 사용자: {}, 일기: {}, 클라이언트: {}, 기준 버전: {}, 편집 수: {}",
+                userId, diaryId, message.getClientId(), message.getBaseVersion(), edits == null ? 0 : edits.size());
+
+        // 2. 형식 검증 (clientId, seq 오름차순, 항목마다 content/operations 중 하나)
+        String invalidReason = validateBatch(message);
+        if (invalidReason != null) {
+            log.warn("배치 편집 형식 오류 - 일기: {}, 사유: {}", diaryId, invalidReason);
 
             DiaryEditErrorMessageDto error = DiaryEditErrorMessageDto.builder()
                     .diaryId(diaryId)
-                    .code("EDIT_FAILED")
-                    .message("편집에 실패했습니다: " + e.getMessage())
+                    .code("INVALID_BATCH")
+                    .message("배치 편집 형식이 올바르지 않습니다: " + invalidReason)
+                    .clientId(message.getClientId())
                     .build();
 
-            messagingTemplate.convertAndSend(
-                    "/topic/diaries/" + diaryId + "/errors",
-                    error
-            );
+            diaryBroadcastThrottler.sendNow("/topic/diaries/" + diaryId, "/topic/diaries/" + diaryId + "/errors", error);
+            sendAck(principal, sessionId, DiaryEditAckMessageDto.builder()
+                    .diaryId(diaryId)
+                    .clientId(message.getClientId())
+                    .code("INVALID_BATCH")
+                    .timestamp(System.currentTimeMillis())
+                    .build());
+            return;
         }
+
+        // 3. 편집 액터에 제출 (전부 반영되거나 전부 미반영)
+        diaryEditActorSystem.submitBatchEdit(userId, diaryId, message.getClientId(), message.getBaseVersion(), edits,
+                (result, failure) -> {
+                    if (failure != null) {
+                        DiaryEditErrorMessageDto error = sendEditFailure(diaryId, userPrincipal, message.getBaseVersion(),
+                                message.getClientId(), edits.get(0).getSeq(), failure);
+
+                        sendAck(principal, sessionId, DiaryEditAckMessageDto.builder()
+                                .diaryId(diaryId)
+                                .clientId(message.getClientId())
+                                .version(error.getCurrentVersion())
+                                .code(error.getCode())
+                                .timestamp(System.currentTimeMillis())
+                                .build());
+                        return;
+                    }
+
+                    // 4. 성공 시: 반영된 본문을 브로드캐스트 (전체 본문 프레임이므로 윈도우 내 최신 상태만)
+                    DiaryEditBroadcastMessageDto broadcast = DiaryEditBroadcastMessageDto.builder()
+                            .diaryId(result.getDiaryId())
+                            .content(result.getContent())
+                            .version(result.getVersion())
+                            .editorUserId(userPrincipal.getId())
+                            .editorNickname(userPrincipal.getNickname())
+                            .timestamp(System.currentTimeMillis())
+                            .clientId(result.getClientId())
+                            .clientSeq(result.getClientSeq())
+                            .build();
+
+                    diaryReplayBuffer.record(broadcast);
+                    diaryBroadcastThrottler.sendLatest("/topic/diaries/" + diaryId, broadcast);
+
+                    // 5. 보낸 세션에만 ack (재전송 판단 기준)
+                    sendAck(principal, sessionId, DiaryEditAckMessageDto.builder()
+                            .diaryId(diaryId)
+                            .clientId(result.getClientId())
+                            .lastAppliedSeq(result.getClientSeq())
+                            .version(result.getVersion())
+                            .merged(result.isMerged())
+                            .timestamp(System.currentTimeMillis())
+                            .build());
+
+                    log.debug("배치 편집 반영 - 일기: {}, 클라이언트: {}, 마지막 seq: {}, 새 버전: {}",
+                            diaryId, result.getClientId(), result.getClientSeq(), result.getVersion());
+                });
     }
 
     /**
-     * 실시간 일기 편집 - LWW(Last Write Wins) 방식
-     * 버전 체크 없이 마지막 쓰기가 항상 승리하는 방식
+     * 실시간 일기 편집 - CRDT 방식
+     * 동시 편집을 거절하지 않고 병합하며, 적용된 연산만 브로드캐스트
      *
      * @param diaryId   편집할 일기 ID
-     * @param message   편집 내용 (content만 포함, version 불필요)
+     * @param message   CRDT 연산 목록
      * @param principal 인증된 사용자 정보
      */
-    @MessageMapping("/diaries/{diaryId}/edit-lww")
-    public void editDiaryLww(@DestinationVariable Long diaryId,
-                             DiaryEditLwwMessageDto message,
-                             Principal principal) {
+    @MessageMapping("/diaries/{diaryId}/edit-crdt")
+    public void editDiaryCrdt(@DestinationVariable Long diaryId,
+                              @Valid @Payload DiaryCrdtEditMessageDto message,
+                              Principal principal) {
 
         try {
             // 1. 사용자 인증 정보 추출
@@ -220,39 +515,54 @@ public class DiaryRealTimeController {
             UserPrincipalDto userPrincipal = (UserPrincipalDto) auth.getPrincipal();
             Long userId = userPrincipal.getId();
 
-            log.debug("WebSocket LWW 편집 요청 - 사용자: {}, 일기: {}",
-                    userId, diaryId);
-
-            // 2. LWW 방식 업데이트 (버전 체크 없음)
-            Diary diary = diaryService.updateDiaryContentLww(
-                    userId,
-                    diaryId,
-                    message.getContent()
-            );
-
-            // 3. 성공 시: 모든 구독자에게 브로드캐스트
-            DiaryEditBroadcastMessageDto broadcast = DiaryEditBroadcastMessageDto.builder()
-                    .diaryId(diary.getId())
-                    .content(diary.getContent())
-                    .version(diary.getVersion())
-                    .editorUserId(userPrincipal.getId())
-                    .editorNickname(userPrincipal.getNickname())
-                    .timestamp(System.currentTimeMillis())
-                    .build();
-
-            messagingTemplate.convertAndSend(
-                    "/topic/diaries/" + diaryId,
-                    broadcast
-            );
-
-            log.debug("LWW 브로드캐스트 성공 - 일기: {}, 버전: {}", diaryId, diary.getVersion());
+            // 2. 메모리 CRDT 문서에 병합
+            DiaryCrdtApplyResult result = diaryCrdtDocumentRegistry.apply(userId, diaryId, message.getOperations());
+
+            // 3. 새로 적용된 연산이 있으면 모든 구독자에게 브로드캐스트 (replay 버퍼는 무효화 -> 재연결은 스냅샷)
+            if (!result.getAppliedOperations().isEmpty()) {
+                diaryReplayBuffer.invalidate(diaryId);
+
+                DiaryCrdtBroadcastMessageDto broadcast = DiaryCrdtBroadcastMessageDto.builder()
+                        .diaryId(diaryId)
+                        .operations(result.getAppliedOperations())
+                        .clock(result.getClock())
+                        .editorUserId(userPrincipal.getId())
+                        .editorNickname(userPrincipal.getNickname())
+                        .timestamp(System.currentTimeMillis())
+                        .build();
+
+                diaryBroadcastThrottler.sendNow(
+                        "/topic/diaries/" + diaryId,
+                        broadcast
+                );
+            }
+
+            // 4. 통합할 수 없는 연산이 있었으면 에러 전송 (앞선 연산은 이미 반영됨)
+            if (result.getFailure() != null) {
+                log.warn("CRDT 연산 적용 실패 - 일기: {}, 사유: {}", diaryId, result.getFailure().getMessage());
+
+                DiaryEditErrorMessageDto error = DiaryEditErrorMessageDto.builder()
+                        .diaryId(diaryId)
+                        .code(result.getFailure().isResyncRequired() ? "CRDT_RESYNC_REQUIRED" : "INVALID_CRDT_OPERATION")
+                        .message("편집 연산을 적용할 수 없습니다: " + result.getFailure().getMessage())
+                        .build();
+
+                diaryBroadcastThrottler.sendNow(
+                        "/topic/diaries/" + diaryId,
+                        "/topic/diaries/" + diaryId + "/errors",
+                        error
+                );
+            }
+
+        } catch (SecurityException e) {
+            sendForbidden(diaryId, (UserPrincipalDto) ((Authentication) principal).getPrincipal(), null, null);
 
         } catch (Exception e) {
-            // 4. 실패 시: 토픽으로 브로드캐스트
+            // 5. 기타 예외: 토픽으로 브로드캐스트
             Authentication auth = (Authentication) principal;
             UserPrincipalDto userPrincipal = (UserPrincipalDto) auth.getPrincipal();
 
-            log.error("LWW 일기 편집 실패 - 일기: {}, 사용자: {}", diaryId, userPrincipal.getEmail(), e);
+            log.error("CRDT 일기 편집 실패 - 일기: {}, 사용자: {}", diaryId, userPrincipal.getEmail(), e);
 
             DiaryEditErrorMessageDto error = DiaryEditErrorMessageDto.builder()
                     .diaryId(diaryId)
@@ -260,10 +570,243 @@ public class DiaryRealTimeController {
                     .message("편집에 실패했습니다: " + e.getMessage())
                     .build();
 
-            messagingTemplate.convertAndSend(
+            diaryBroadcastThrottler.sendNow(
+                    "/topic/diaries/" + diaryId,
                     "/topic/diaries/" + diaryId + "/errors",
                     error
             );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * CRDT 문서 스냅샷 조회 (요청한 세션에게만 응답)
+     * 클라이언트는 처음 편집을 시작할 때, 그리고 CRDT_RESYNC_REQUIRED 를 받았을 때 호출
+     *
+     * @param diaryId   일기 ID
+     * @param principal 인증된 사용자 정보
+     */
+    @MessageMapping("/diaries/{diaryId}/crdt-snapshot")
+    @SendToUser(destinations = "/queue/diary-crdt-snapshot", broadcast = false)
+    public DiaryCrdtSnapshotMessageDto getCrdtSnapshot(@DestinationVariable Long diaryId,
+                                                       Principal principal) {
+        Authentication auth = (Authentication) principal;
+        UserPrincipalDto userPrincipal = (UserPrincipalDto) auth.getPrincipal();
+
+        return diaryCrdtDocumentRegistry.getSnapshot(userPrincipal.getId(), diaryId);
+    }
+
+    /**
+     * 재연결 동기화
+     * 마지막으로 본 버전 이후 놓친 편집만 보내고, 버퍼로 메울 수 없으면 전체 스냅샷으로 대체
+     *
+     * @param diaryId   일기 ID
+     * @param message   마지막으로 본 버전
+     * @param principal 인증된 사용자 정보
+     * @param sessionId 응답을 보낼 STOMP 세션 ID
+     */
+    @MessageMapping("/diaries/{diaryId}/resync")
+    public void resync(@DestinationVariable Long diaryId,
+                       @Valid @Payload DiaryResyncRequestMessageDto message,
+                       Principal principal,
+                       @Header("simpSessionId") String sessionId) {
+        Authentication auth = (Authentication) principal;
+        UserPrincipalDto userPrincipal = (UserPrincipalDto) auth.getPrincipal();
+        Long userId = userPrincipal.getId();
+
+        try {
+            DiaryResyncMessageDto response = diaryReplayBuffer.eventsSince(userId, diaryId, message.getLastSeenVersion())
+                    .map(events -> DiaryResyncMessageDto.builder()
+                            .diaryId(diaryId)
+                            .snapshot(false)
+                            .events(events)
+                            .build())
+                    .orElseGet(() -> {
+                        // 버퍼 밖이거나 LWW/CRDT 쓰기로 무효화됨 -> 전체 스냅샷 (소유자 검증 포함)
+                        // 아직 저장 전인 LWW 본문이 있으면 그 본문 (CRDT 클라이언트는 crdt-snapshot 으로 동기화)
+                        Diary diary = diaryService.getMyDiary(userId, diaryId);
+                        return DiaryResyncMessageDto.builder()
+                                .diaryId(diaryId)
+                                .snapshot(true)
+                                .content(diaryLwwWriteBehindBuffer.findPendingContent(diaryId)
+                                        .orElseGet(diary::getContent))
+                                .version(diary.getVersion())
+                                .build();
+                    });
+
+            log.debug("재연결 동기화 - 일기: {}, 마지막 버전: {}, 스냅샷: {}",
+                    diaryId, message.getLastSeenVersion(), response.isSnapshot());
+
+            sendToSession(principal, sessionId, "/queue/diary-resync", response);
+
+        } catch (Exception e) {
+            log.warn("재연결 동기화 실패 - 일기: {}, 사용자: {}, 사유: {}", diaryId, userPrincipal.getEmail(), e.getMessage());
+
+            DiaryEditErrorMessageDto error = DiaryEditErrorMessageDto.builder()
+                    .diaryId(diaryId)
+                    .code("RESYNC_FAILED")
+                    .message("동기화에 실패했습니다: " + e.getMessage())
+                    .build();
+
+            sendToSession(principal, sessionId, "/queue/errors", error);
+        }
+    }
+
+    /**
+     * 편집 액터에서 실패한 버전 기반/Delta/배치 편집을 에러 토픽으로 전송
+     * (같은 사용자의 여러 세션도 모두 받을 수 있도록 토픽으로 브로드캐스트, 소유권 거부만 sendForbidden)
+     */
+    private DiaryEditErrorMessageDto sendEditFailure(Long diaryId, UserPrincipalDto userPrincipal, Long requestedVersion,
+                                                     String clientId, Long clientSeq, Throwable failure) {
+        if (failure instanceof SecurityException) {
+            return sendForbidden(diaryId, userPrincipal, clientId, clientSeq);
+        }
+
+        DiaryEditErrorMessageDto.DiaryEditErrorMessageDtoBuilder error = DiaryEditErrorMessageDto.builder()
+                .diaryId(diaryId)
+                .clientId(clientId)
+                .clientSeq(clientSeq);
+
+        if (failure instanceof DiaryVersionConflictException conflict) {
+            log.warn("버전 충돌 - 일기: {}, 사용자: {}, 요청 버전: {}, 현재 버전: {}",
+                    diaryId, userPrincipal.getEmail(), requestedVersion, conflict.getCurrentVersion());
+
+            error.code("VERSION_CONFLICT")
+                    .message("다른 사용자가 먼저 수정했습니다. 최신 내용을 불러온 후 다시 시도하세요.")
+                    .currentVersion(conflict.getCurrentVersion());
+
+        } else if (failure instanceof InvalidDiaryDeltaException) {
+            log.warn("Delta 연산 적용 실패 - 일기: {}, 사유: {}", diaryId, failure.getMessage());
+
+            error.code("INVALID_DELTA")
+                    .message("편집 연산을 적용할 수 없습니다: " + failure.getMessage());
+
+        } else {
+            log.error("일기 편집 실패 - 일기: {}, 사용자: {}", diaryId, userPrincipal.getEmail(), failure);
+
+            error.code("EDIT_FAILED")
+                    .message("편집에 실패했습니다: " + failure.getMessage());
+        }
+
+        DiaryEditErrorMessageDto message = error.build();
+        diaryBroadcastThrottler.sendNow(
+                "/topic/diaries/" + diaryId,
+                "/topic/diaries/" + diaryId + "/errors",
+                message
+        );
+        return message;
+    }
+
+    /**
+     * 소유자가 아닌 사용자의 편집 거부 -> 그 사용자의 /user/queue/errors 로 FORBIDDEN
+     * (일기 토픽은 소유자만 구독할 수 있어 에러 토픽으로는 전달되지 않음)
+     */
+    private DiaryEditErrorMessageDto sendForbidden(Long diaryId, UserPrincipalDto userPrincipal,
+                                                   String clientId, Long clientSeq) {
+        log.warn("소유자가 아닌 사용자의 편집 거부 - 일기: {}, 사용자: {}", diaryId, userPrincipal.getEmail());
+
+        DiaryEditErrorMessageDto error = DiaryEditErrorMessageDto.builder()
+                .diaryId(diaryId)
+                .code("FORBIDDEN")
+                .message("본인의 일기만 수정할 수 있습니다.")
+                .clientId(clientId)
+                .clientSeq(clientSeq)
+                .build();
+
+        diaryBroadcaster.sendToUser(userPrincipal.getEmail(), "/queue/errors", error);
+        return error;
+    }
+
+    /**
+     * 배치 편집 형식 검증
+     *
+     * @return 오류 사유, 정상이면 null
+     */
+    private static String validateBatch(DiaryEditBatchMessageDto message) {
+        if (message.getClientId() == null || message.getClientId().isBlank()) {
+            return "clientId 는 필수입니다.";
+        }
+        if (message.getBaseVersion() == null) {
+            return "baseVersion 은 필수입니다.";
+        }
+        if (message.getEdits() == null || message.getEdits().isEmpty()) {
+            return "편집 항목이 비어 있습니다.";
+        }
+
+        Long previousSeq = null;
+        for (DiaryEditBatchItemDto item : message.getEdits()) {
+            if (item.getSeq() == null || (previousSeq != null && item.getSeq() <= previousSeq)) {
+                return "seq 는 필수이며 오름차순이어야 합니다.";
+            }
+            if ((item.getContent() == null) == (item.getOperations() == null)) {
+                return "각 항목은 content 또는 operations 중 하나만 가져야 합니다: seq " + item.getSeq();
+            }
+            previousSeq = item.getSeq();
+        }
+        return null;
+    }
+
+    /**
+     * 메시지 DTO 검증 실패 -> 요청한 세션의 /user/queue/errors 로 INVALID_MESSAGE
+     * (어떤 편집인지 구분할 수 있도록 본문에 clientId/clientSeq 가 있으면 함께 담음)
+     */
+    @MessageExceptionHandler(MethodArgumentNotValidException.class)
+    public void handleInvalidMessage(MethodArgumentNotValidException e,
+                                     Principal principal,
+                                     @Header("simpSessionId") String sessionId,
+                                     @Header("simpDestination") String destination) {
+        BindingResult bindingResult = e.getBindingResult();
+        String reason = "메시지 형식이 올바르지 않습니다.";
+        String clientId = null;
+        Long clientSeq = null;
+
+        if (bindingResult != null) {
+            FieldError fieldError = bindingResult.getFieldError();
+            if (fieldError != null) {
+                reason = fieldError.getField() + ": " + fieldError.getDefaultMessage();
+            }
+
+            if (bindingResult.getTarget() != null) {
+                BeanWrapperImpl target = new BeanWrapperImpl(bindingResult.getTarget());
+                if (target.isReadableProperty("clientId")) {
+                    clientId = (String) target.getPropertyValue("clientId");
+                }
+                if (target.isReadableProperty("clientSeq")) {
+                    clientSeq = (Long) target.getPropertyValue("clientSeq");
+                }
+            }
+        }
+
+        log.warn("STOMP 메시지 검증 실패 - 목적지: {}, 사유: {}", destination, reason);
+
+        DiaryEditErrorMessageDto error = DiaryEditErrorMessageDto.builder()
+                .diaryId(diaryIdFromDestination(destination))
+                .code("INVALID_MESSAGE")
+                .message("요청 형식이 올바르지 않습니다: " + reason)
+                .clientId(clientId)
+                .clientSeq(clientSeq)
+                .build();
+        sendToSession(principal, sessionId, "/queue/errors", error);
+    }
+
+    private Long diaryIdFromDestination(String destination) {
+        if (destination == null || !pathMatcher.match(DIARY_DESTINATION, destination)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(pathMatcher.extractUriTemplateVariables(DIARY_DESTINATION, destination).get("diaryId"));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 요청을 보낸 세션에만 ack 전송 (같은 사용자의 다른 세션에는 보내지 않음)
+     */
+    private void sendAck(Principal principal, String sessionId, DiaryEditAckMessageDto ack) {
+        sendToSession(principal, sessionId, "/queue/acks", ack);
+    }
+
+    private void sendToSession(Principal principal, String sessionId, String destination, Object payload) {
+        diaryBroadcaster.sendToSession(principal.getName(), sessionId, destination, payload);
+    }
+}
@@ -0,0 +1,32 @@
+package com.anondocs.anondocs_server.crdt;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * CRDT 문자 요소의 전역 고유 ID (Lamport counter + replicaId)
+ * 정렬 순서: counter 가 클수록, 같으면 replicaId 사전순으로 큰 쪽이 우선
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class CrdtId implements Comparable<CrdtId> {
+
+    private final long counter;
+    private final String replicaId;
+
+    @Override
+    public int compareTo(CrdtId other) {
+        int byCounter = Long.compare(counter, other.counter);
+        if (byCounter != 0) {
+            return byCounter;
+        }
+        return replicaId.compareTo(other.replicaId);
+    }
+
+    @Override
+    public String toString() {
+        return counter + "@" + replicaId;
+    }
+}
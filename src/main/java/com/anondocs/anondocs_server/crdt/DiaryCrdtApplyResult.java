@@ -0,0 +1,21 @@
+package com.anondocs.anondocs_server.crdt;
+
+import com.anondocs.anondocs_server.dto.DiaryCrdtOperationDto;
+import com.anondocs.anondocs_server.exception.DiaryCrdtOperationException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * CRDT 연산 적용 결과
+ * 메시지 중간 연산이 실패하면 그 앞까지 적용된 연산(appliedOperations)과 실패 원인(failure)을 함께 반환
+ */
+@Getter
+@AllArgsConstructor
+public class DiaryCrdtApplyResult {
+
+    private final List<DiaryCrdtOperationDto> appliedOperations;
+    private final long clock;
+    private final DiaryCrdtOperationException failure;
+}
@@ -0,0 +1,225 @@
+package com.anondocs.anondocs_server.crdt;
+
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.dto.DiaryCrdtOperationDto;
+import com.anondocs.anondocs_server.dto.DiaryCrdtSnapshotMessageDto;
+import com.anondocs.anondocs_server.exception.DiaryCrdtOperationException;
+import com.anondocs.anondocs_server.service.DiaryEditActorSystem;
+import com.anondocs.anondocs_server.service.DiaryService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활성 일기별 CRDT 문서를 메모리에 보관하는 레지스트리
+ *
+ * - 첫 편집/스냅샷 요청 시 DB 본문으로 문서를 초기화 (seed replica ID 는 DB 버전에서 정해지므로
+ *   그 사이 저장이 없었다면 제거 후 다시 로드해도 같은 요소 ID 가 됨)
+ * - 연산은 문서 단위로 직렬화해서 적용하며, 충돌 없이 병합되므로 거절/재시도가 없음
+ * - 변경된 문서는 주기적으로 tombstone 을 제외한 본문만 Diary.content 에 저장 (저장 후 편집 액터 상태 무효화)
+ * - 저장은 문서를 로드/저장한 버전 기준의 조건부 UPDATE. 그 사이 다른 모드(액터/LWW)가 저장했으면
+ *   CRDT 변경분을 버리고 문서를 제거 (다음 연산은 새 문서 기준이라 클라이언트는 재동기화)
+ * - 스냅샷 요청 시 tombstone 이 tombstone-compact-threshold 개 이상이면 정리
+ *   (정리 이전 clock 기준으로 만든 연산은 재동기화 필요로 거절됨)
+ * - 일정 시간 편집이 없는 문서는 메모리에서 제거 (다시 로드되면 클라이언트는 스냅샷으로 재동기화)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiaryCrdtDocumentRegistry {
+
+    private static final String SEED_REPLICA_PREFIX = "seed-";
+
+    private final DiaryService diaryService;
+    private final DiaryEditActorSystem diaryEditActorSystem;
+
+    private final Map<Long, DiaryCrdtSession> sessions = new ConcurrentHashMap<>();
+
+    @Value("${anondocs.crdt.idle-ttl-ms:600000}") // 기본 10분
+    private long idleTtlMillis;
+
+    @Value("${anondocs.crdt.tombstone-compact-threshold:1024}")
+    private int tombstoneCompactThreshold;
+
+    public DiaryCrdtApplyResult apply(Long userId, Long diaryId, List<DiaryCrdtOperationDto> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("편집 연산이 비어 있습니다.");
+        }
+
+        while (true) {
+            DiaryCrdtSession session = acquire(userId, diaryId);
+            synchronized (session) {
+                if (session.isEvicted()) {
+                    continue; // 제거 직후에 잡은 세션이면 새로 로드
+                }
+                checkOwner(session, userId);
+                session.touch();
+
+                RgaDocument document = session.getDocument();
+                List<DiaryCrdtOperationDto> applied = new ArrayList<>();
+                DiaryCrdtOperationException failure = null;
+
+                for (DiaryCrdtOperationDto operation : operations) {
+                    try {
+                        if (applyOperation(document, operation)) {
+                            applied.add(operation);
+                        }
+                    } catch (DiaryCrdtOperationException e) {
+                        failure = e;
+                        break;
+                    }
+                }
+
+                if (!applied.isEmpty()) {
+                    session.markDirty();
+                }
+                return new DiaryCrdtApplyResult(applied, document.getClock(), failure);
+            }
+        }
+    }
+
+    public DiaryCrdtSnapshotMessageDto getSnapshot(Long userId, Long diaryId) {
+        while (true) {
+            DiaryCrdtSession session = acquire(userId, diaryId);
+            synchronized (session) {
+                if (session.isEvicted()) {
+                    continue;
+                }
+                checkOwner(session, userId);
+                session.touch();
+
+                // 스냅샷을 받는 클라이언트는 문서를 통째로 교체하므로 이 시점에 tombstone 을 정리
+                if (session.getDocument().getTombstoneCount() >= tombstoneCompactThreshold) {
+                    int removed = session.getDocument().compactTombstones();
+                    log.debug("CRDT tombstone 정리 - 일기: {}, 제거: {}", diaryId, removed);
+                }
+
+                List<DiaryCrdtSnapshotMessageDto.Run> runs = session.getDocument().runs().stream()
+                        .map(run -> DiaryCrdtSnapshotMessageDto.Run.builder()
+                                .startCounter(run.getStart().getCounter())
+                                .replicaId(run.getStart().getReplicaId())
+                                .text(run.getText())
+                                .deleted(run.isDeleted())
+                                .build())
+                        .toList();
+
+                return DiaryCrdtSnapshotMessageDto.builder()
+                        .diaryId(diaryId)
+                        .clock(session.getDocument().getClock())
+                        .runs(runs)
+                        .build();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${anondocs.crdt.flush-interval-ms:1000}")
+    public void flushAndEvict() {
+        long now = System.currentTimeMillis();
+        for (DiaryCrdtSession session : sessions.values()) {
+            flush(session);
+            evictIfIdle(session, now);
+        }
+    }
+
+    // 종료 시 메모리에만 있는 변경분 저장
+    @PreDestroy
+    public void flushAll() {
+        sessions.values().forEach(this::flush);
+    }
+
+    private DiaryCrdtSession acquire(Long userId, Long diaryId) {
+        DiaryCrdtSession session = sessions.get(diaryId);
+        if (session != null) {
+            return session;
+        }
+
+        // 소유자 검증 + 현재 본문 로드
+        Diary diary = diaryService.getMyDiary(userId, diaryId);
+        RgaDocument document = RgaDocument.seed(diary.getContent(), SEED_REPLICA_PREFIX + diary.getVersion());
+        DiaryCrdtSession loaded = new DiaryCrdtSession(diaryId, userId, document, diary.getVersion());
+
+        DiaryCrdtSession existing = sessions.putIfAbsent(diaryId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void checkOwner(DiaryCrdtSession session, Long userId) {
+        if (!session.getOwnerId().equals(userId)) {
+            throw new SecurityException("본인의 일기만 수정할 수 있습니다.");
+        }
+    }
+
+    private boolean applyOperation(RgaDocument document, DiaryCrdtOperationDto operation) {
+        if (operation.getType() == null || operation.getCounter() == null || operation.getReplicaId() == null) {
+            throw new DiaryCrdtOperationException("연산 종류와 요소 ID 는 필수입니다.", false);
+        }
+
+        return switch (operation.getType()) {
+            case INSERT -> {
+                String text = operation.getText();
+                if (text == null || text.isEmpty()) {
+                    throw new DiaryCrdtOperationException("삽입할 내용이 비어 있습니다.", false);
+                }
+
+                CrdtId parentId = operation.getParentCounter() == null
+                        ? null
+                        : new CrdtId(operation.getParentCounter(), operation.getParentReplicaId());
+
+                // text 의 각 문자는 counter 부터 연속 ID 를 가지며 바로 앞 문자 뒤에 이어짐 (전부 들어가거나 하나도 안 들어감)
+                yield document.insert(new CrdtId(operation.getCounter(), operation.getReplicaId()), parentId, text);
+            }
+            case DELETE -> document.delete(new CrdtId(operation.getCounter(), operation.getReplicaId()));
+        };
+    }
+
+    private void flush(DiaryCrdtSession session) {
+        synchronized (session.getFlushLock()) {
+            String content;
+            synchronized (session) {
+                if (!session.isDirty()) {
+                    return;
+                }
+                content = session.getDocument().text();
+                session.clearDirty();
+            }
+
+            try {
+                Long expectedVersion = session.getPersistedVersion();
+                if (!diaryService.updateDiaryContentFromCrdt(session.getOwnerId(), session.getDiaryId(), content, expectedVersion)) {
+                    // 다른 모드가 먼저 저장했거나 삭제됨 -> 오래된 기준의 CRDT 본문으로 덮어쓰지 않음
+                    log.warn("CRDT 저장 거절 (기준 버전 {} 이후 다른 경로로 수정됨), 문서 제거 - 일기: {}",
+                            expectedVersion, session.getDiaryId());
+                    synchronized (session) {
+                        session.evict();
+                        sessions.remove(session.getDiaryId(), session);
+                    }
+                    return;
+                }
+                session.markPersisted(expectedVersion + 1);
+                diaryEditActorSystem.invalidate(session.getDiaryId());
+            } catch (Exception e) {
+                log.error("CRDT 본문 저장 실패 - 일기: {}", session.getDiaryId(), e);
+                synchronized (session) {
+                    session.markDirty();
+                }
+            }
+        }
+    }
+
+    private void evictIfIdle(DiaryCrdtSession session, long now) {
+        synchronized (session) {
+            if (!session.isDirty() && now - session.getLastAccessMillis() > idleTtlMillis) {
+                session.evict();
+                sessions.remove(session.getDiaryId(), session);
+                log.debug("유휴 CRDT 문서 제거 - 일기: {}", session.getDiaryId());
+            }
+        }
+    }
+}
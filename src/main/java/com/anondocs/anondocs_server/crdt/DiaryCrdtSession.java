@@ -0,0 +1,51 @@
+package com.anondocs.anondocs_server.crdt;
+
+import lombok.Getter;
+
+/**
+ * 활성 일기 하나의 메모리 CRDT 상태
+ * 상태 변경은 모두 이 객체를 모니터로 동기화해서 수행
+ */
+@Getter
+class DiaryCrdtSession {
+
+    private final Long diaryId;
+    private final Long ownerId;
+    private final RgaDocument document;
+    private final Object flushLock = new Object();
+
+    private boolean dirty;
+    private boolean evicted;
+    private long lastAccessMillis;
+
+    // DB에 마지막으로 반영된 버전 (저장 시 조건부 UPDATE 의 기준, flushLock 안에서만 변경)
+    private volatile Long persistedVersion;
+
+    DiaryCrdtSession(Long diaryId, Long ownerId, RgaDocument document, Long persistedVersion) {
+        this.diaryId = diaryId;
+        this.ownerId = ownerId;
+        this.document = document;
+        this.persistedVersion = persistedVersion;
+        this.lastAccessMillis = System.currentTimeMillis();
+    }
+
+    void touch() {
+        this.lastAccessMillis = System.currentTimeMillis();
+    }
+
+    void markDirty() {
+        this.dirty = true;
+    }
+
+    void clearDirty() {
+        this.dirty = false;
+    }
+
+    void markPersisted(Long version) {
+        this.persistedVersion = version;
+    }
+
+    void evict() {
+        this.evicted = true;
+    }
+}
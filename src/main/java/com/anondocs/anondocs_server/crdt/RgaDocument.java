@@ -0,0 +1,244 @@
+package com.anondocs.anondocs_server.crdt;
+
+import com.anondocs.anondocs_server.exception.DiaryCrdtOperationException;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RGA(Replicated Growable Array) 기반 시퀀스 CRDT
+ *
+ * - 각 문자는 고유 ID(CrdtId)를 가지며, "어느 요소 뒤에 삽입했는가(parent)"로 위치가 정해짐
+ * - 같은 parent 뒤에 동시에 삽입된 요소들은 ID 내림차순으로 정렬되어 어떤 순서로 받아도 같은 결과로 수렴
+ * - 삭제는 tombstone 으로 표시만 하므로 동시 삽입의 parent 로 계속 참조 가능
+ * - compactTombstones() 로 tombstone 을 제거하면 그 시점의 clock 이하 counter 를 가진 새 요소는 받지 않음
+ *   (모든 기존 요소보다 큰 ID 의 삽입만 허용해야 tombstone 유무와 관계없이 같은 위치에 들어감)
+ *
+ * 스레드 안전하지 않음 (호출하는 쪽에서 문서 단위로 동기화)
+ */
+public class RgaDocument {
+
+    private final Node head = new Node(null, '\0');
+    private final Map<CrdtId, Node> index = new HashMap<>();
+
+    @Getter
+    private long clock;
+
+    @Getter
+    private int visibleLength;
+
+    @Getter
+    private int tombstoneCount;
+
+    // 마지막 tombstone 정리 시점의 clock (이 값 이하 counter 의 미확인 요소는 재동기화 필요)
+    @Getter
+    private long compactedClock;
+
+    /**
+     * 기존 본문으로 문서를 초기화 (seed replica 가 1번부터 차례로 입력한 것으로 간주)
+     */
+    public static RgaDocument seed(String text, String seedReplicaId) {
+        RgaDocument document = new RgaDocument();
+        CrdtId parentId = null;
+        for (int i = 0; i < text.length(); i++) {
+            CrdtId id = new CrdtId(i + 1, seedReplicaId);
+            document.insert(id, parentId, text.charAt(i));
+            parentId = id;
+        }
+        return document;
+    }
+
+    /**
+     * @param parentId null 이면 문서 맨 앞에 삽입
+     * @return 새로 삽입되었으면 true, 이미 통합된 요소(재전송)면 false
+     */
+    public boolean insert(CrdtId id, CrdtId parentId, char value) {
+        if (index.containsKey(id)) {
+            return false;
+        }
+        validateInsert(id, parentId, false);
+        Node parent = parentId == null ? head : index.get(parentId);
+
+        // parent 바로 뒤에서 시작해 나보다 ID 가 큰 (동시에 삽입된 우선순위 높은) 요소들을 건너뜀
+        Node prev = parent;
+        while (prev.next != null && prev.next.id.compareTo(id) > 0) {
+            prev = prev.next;
+        }
+
+        Node node = new Node(id, value);
+        node.next = prev.next;
+        prev.next = node;
+        index.put(id, node);
+
+        clock = Math.max(clock, id.getCounter());
+        visibleLength++;
+        return true;
+    }
+
+    /**
+     * 연속 ID(start 부터 counter 1씩 증가)를 가진 문자열 삽입, 각 문자는 바로 앞 문자 뒤에 이어짐
+     * 모든 문자를 먼저 검증한 뒤 삽입하므로 예외가 나면 문서는 바뀌지 않음 (일부 문자만 들어가지 않음)
+     *
+     * @param parentId null 이면 문서 맨 앞에 삽입
+     * @return 한 문자라도 새로 삽입되었으면 true, 모두 이미 통합된 요소(재전송)면 false
+     */
+    public boolean insert(CrdtId startId, CrdtId parentId, String text) {
+        if (startId.getCounter() > Long.MAX_VALUE - (text.length() - 1)) {
+            throw new DiaryCrdtOperationException("요소 counter 범위를 벗어났습니다: " + startId, false);
+        }
+
+        // 1. 검증 (앞 문자는 이 삽입에서 먼저 들어가므로 두 번째 문자부터는 parent 존재 여부를 보지 않음)
+        CrdtId parent = parentId;
+        for (int i = 0; i < text.length(); i++) {
+            CrdtId id = new CrdtId(startId.getCounter() + i, startId.getReplicaId());
+            if (!index.containsKey(id)) {
+                validateInsert(id, parent, i > 0);
+            }
+            parent = id;
+        }
+
+        // 2. 삽입
+        boolean inserted = false;
+        parent = parentId;
+        for (int i = 0; i < text.length(); i++) {
+            CrdtId id = new CrdtId(startId.getCounter() + i, startId.getReplicaId());
+            inserted |= insert(id, parent, text.charAt(i));
+            parent = id;
+        }
+        return inserted;
+    }
+
+    /**
+     * @return 새로 삭제되었으면 true, 이미 삭제된 요소면 false
+     */
+    public boolean delete(CrdtId id) {
+        Node node = index.get(id);
+        if (node == null && id.getCounter() <= compactedClock) {
+            return false; // 이미 삭제되어 정리된 요소
+        }
+        if (node == null) {
+            throw new DiaryCrdtOperationException("알 수 없는 삭제 대상 요소입니다: " + id, true);
+        }
+        if (node.deleted) {
+            return false;
+        }
+        node.deleted = true;
+        visibleLength--;
+        tombstoneCount++;
+        return true;
+    }
+
+    private void validateInsert(CrdtId id, CrdtId parentId, boolean parentPending) {
+        if (id.getCounter() <= compactedClock) {
+            throw new DiaryCrdtOperationException("tombstone 정리 이전 기준의 요소입니다: " + id, true);
+        }
+        if (parentId != null && !parentPending && !index.containsKey(parentId)) {
+            throw new DiaryCrdtOperationException("알 수 없는 위치 기준 요소입니다: " + parentId, true);
+        }
+
+        // 인과 관계 보장: 자식 요소는 항상 parent 보다 큰 counter 를 가져야 함
+        if (id.getCounter() <= 0 || (parentId != null && id.getCounter() <= parentId.getCounter())) {
+            throw new DiaryCrdtOperationException("요소 counter 는 기준 요소보다 커야 합니다: " + id, false);
+        }
+    }
+
+    /**
+     * tombstone 을 모두 제거
+     * 이후에는 현재 clock 보다 큰 counter 의 삽입만 받으므로, 클라이언트는 스냅샷의 clock 이상에서 ID 를 만들어야 함
+     *
+     * @return 제거한 tombstone 수
+     */
+    public int compactTombstones() {
+        if (tombstoneCount == 0) {
+            return 0;
+        }
+
+        int removed = 0;
+        Node prev = head;
+        while (prev.next != null) {
+            Node node = prev.next;
+            if (node.deleted) {
+                prev.next = node.next;
+                index.remove(node.id);
+                removed++;
+            } else {
+                prev = node;
+            }
+        }
+
+        tombstoneCount = 0;
+        compactedClock = clock;
+        return removed;
+    }
+
+    /**
+     * tombstone 을 제외한 현재 본문
+     */
+    public String text() {
+        StringBuilder builder = new StringBuilder(visibleLength);
+        for (Node node = head.next; node != null; node = node.next) {
+            if (!node.deleted) {
+                builder.append(node.value);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 문서 순서대로의 요소 목록을 run 단위로 압축 (같은 replica 의 연속 counter, 같은 삭제 여부)
+     * 새로 접속한 클라이언트의 초기 상태 전달용
+     */
+    public List<Run> runs() {
+        List<Run> runs = new ArrayList<>();
+        Run current = null;
+        for (Node node = head.next; node != null; node = node.next) {
+            if (current != null && current.continuesWith(node)) {
+                current.text.append(node.value);
+            } else {
+                current = new Run(node.id, node.deleted);
+                current.text.append(node.value);
+                runs.add(current);
+            }
+        }
+        return runs;
+    }
+
+    @Getter
+    public static class Run {
+
+        private final CrdtId start;
+        private final boolean deleted;
+        private final StringBuilder text = new StringBuilder();
+
+        private Run(CrdtId start, boolean deleted) {
+            this.start = start;
+            this.deleted = deleted;
+        }
+
+        public String getText() {
+            return text.toString();
+        }
+
+        private boolean continuesWith(Node node) {
+            return node.deleted == deleted
+                    && node.id.getReplicaId().equals(start.getReplicaId())
+                    && node.id.getCounter() == start.getCounter() + text.length();
+        }
+    }
+
+    private static class Node {
+
+        private final CrdtId id;
+        private final char value;
+        private boolean deleted;
+        private Node next;
+
+        private Node(CrdtId id, char value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+}
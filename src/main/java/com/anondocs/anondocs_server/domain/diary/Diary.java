@@ -14,8 +14,17 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = {
+        // 공개 피드 키셋 페이징 (visibility, is_deleted 조건 + published_at, id 역순 정렬)
+        @Index(name = "idx_diary_feed", columnList = "visibility, is_deleted, published_at, id"),
+        // 내 일기 키셋 페이징 (user_id, is_deleted 조건 + created_at, id 역순 정렬)
+        @Index(name = "idx_diary_user_created", columnList = "user_id, is_deleted, created_at, id")
+})
 public class Diary extends BaseTimeEntity {
 
+    // 목록 응답에 쓰는 본문 미리보기 최대 길이 (문자 수)
+    public static final int PREVIEW_LENGTH = 200;
+
     @Id
     @GeneratedValue
     private Long id;
@@ -32,9 +41,17 @@ public class Diary extends BaseTimeEntity {
     @Column(length = 255)
     private String title;
 
-    @Lob
-    @Column(nullable = false)
-    private String content;
+    // 본문은 별도 테이블 (메타데이터 작업은 좁은 diary 행만 읽도록 LAZY), 본문 읽기는 getContent()
+    // 기존 DB 는 배포 전에 db/migration/postgresql/V3__diary_content_table.sql 로 diary.content 를 옮김
+    @Getter(AccessLevel.NONE)
+    @OneToOne(fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "content_id", nullable = false, unique = true)
+    private DiaryContent body;
+
+    // 목록 projection 용 본문 앞부분 (본문이 바뀔 때 함께 갱신, 긴 본문을 읽지 않고 목록 구성)
+    // 기존 DB 는 배포 전에 db/migration/postgresql/V2__diary_content_preview.sql 로 값을 채움
+    @Column(name = "content_preview", length = PREVIEW_LENGTH)
+    private String contentPreview;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 30)
@@ -52,7 +69,8 @@ public class Diary extends BaseTimeEntity {
     @Builder
     public Diary(String title, String content, DiaryVisibility diaryVisibility) {
         this.title = title;
-        this.content = content;
+        this.body = new DiaryContent(content);
+        this.contentPreview = preview(content);
         this.visibility = diaryVisibility;
     }
 
@@ -68,21 +86,38 @@ public class Diary extends BaseTimeEntity {
 
     public void updateDiary(String title, String content, DiaryVisibility diaryVisibility){
         this.title = title;
-        this.content = content;
         this.visibility = diaryVisibility;
+        changeContent(content);
     }
 
+    // user 는 getReferenceById 프록시여도 됨 (User.diaries 컬렉션은 건드리지 않아 작성자의 일기 수와 무관)
     public void setUser(User user) {
         this.user = user;
-        user.addDiary(this);
     }
 
     public void setDiaryAiResult(DiaryAiResult diaryAiResult) {
         this.diaryAiResult = diaryAiResult;
     }
 
+    // 본문 조회 시 diary_content 를 읽음 (findWithContentById 로 함께 로드하거나 트랜잭션 안에서 호출)
+    public String getContent() {
+        return body.getText();
+    }
+
     public void changeContent(String newContent){
-        this.content = newContent;
+        body.update(newContent);
+        this.contentPreview = preview(newContent);
+        // 본문은 별도 엔티티라 diary 행이 그대로면 @Version 이 오르지 않으므로 수정 시각을 직접 갱신해 버전 증가
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 본문 앞 PREVIEW_LENGTH 자 (서로게이트 쌍 중간에서 자르지 않음)
+    public static String preview(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        int end = Character.isHighSurrogate(content.charAt(PREVIEW_LENGTH - 1)) ? PREVIEW_LENGTH - 1 : PREVIEW_LENGTH;
+        return content.substring(0, end);
     }
 
     public void Delete() {
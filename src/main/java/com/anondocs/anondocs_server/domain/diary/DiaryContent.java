@@ -0,0 +1,121 @@
+package com.anondocs.anondocs_server.domain.diary;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 일기 본문 저장소 (diary_content)
+ *
+ * - Diary 에서 LAZY 로 참조, 소유자/버전/삭제 확인처럼 본문을 읽지 않는 작업은 diary 행만 읽음
+ * - UTF-8 기준 COMPRESSION_THRESHOLD_BYTES 이상인 본문은 deflate 로 압축 저장 (압축 효과가 없으면 원본 그대로)
+ * - 디코딩한 본문은 엔티티 안에 캐시해 한 번 로드한 뒤 반복 조회 시 다시 풀지 않음
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "diary_content")
+public class DiaryContent {
+
+    // 이 크기(UTF-8 바이트) 이상인 본문만 압축 (작은 본문은 압축 이득보다 CPU 비용이 큼)
+    public static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] data;
+
+    @Column(nullable = false)
+    private boolean compressed;
+
+    @Transient
+    private String text;
+
+    DiaryContent(String text) {
+        update(text);
+    }
+
+    public String getText() {
+        if (text == null && data != null) {
+            text = decode(data, compressed);
+        }
+        return text;
+    }
+
+    // Diary 가 LAZY 프록시로 들고 있어도 위임되도록 public (package-private 은 프록시가 가로채지 못할 수 있음)
+    public void update(String newText) {
+        Encoded encoded = encode(newText);
+        this.data = encoded.data();
+        this.compressed = encoded.compressed();
+        this.text = newText;
+    }
+
+    // 벌크 UPDATE(DiaryContentRepository)에서도 같은 형식으로 저장하기 위해 공개
+    public static Encoded encode(String text) {
+        if (text == null) {
+            return new Encoded(null, false);
+        }
+
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < COMPRESSION_THRESHOLD_BYTES) {
+            return new Encoded(raw, false);
+        }
+
+        byte[] deflated = deflate(raw);
+        return deflated.length < raw.length
+                ? new Encoded(deflated, true)
+                : new Encoded(raw, false);
+    }
+
+    static String decode(byte[] data, boolean compressed) {
+        return new String(compressed ? inflate(data) : data, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 일기 본문이 손상되었습니다.");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 일기 본문이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    public record Encoded(byte[] data, boolean compressed) {
+    }
+}
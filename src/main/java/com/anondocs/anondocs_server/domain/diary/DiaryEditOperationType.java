@@ -0,0 +1,6 @@
+package com.anondocs.anondocs_server.domain.diary;
+
+public enum DiaryEditOperationType {
+    INSERT,
+    DELETE
+}
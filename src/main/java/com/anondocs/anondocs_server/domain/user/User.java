@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +35,13 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false, length = 20)
     private UserStatus userStatus;
 
+    // 삭제되지 않은 일기 수 (UserRepository 의 증감 UPDATE 로만 변경, 엔티티 dirty checking 으로 덮어쓰지 않음)
+    // 기존 DB 는 배포 전에 db/migration/postgresql/V1__users_diary_count.sql 로 값을 채움
+    @ColumnDefault("0")
+    @Column(name = "diary_count", nullable = false, updatable = false)
+    private long diaryCount = 0;
+
+    // 조회 전용 (일기 생성 시 메모리 컬렉션을 갱신하지 않음, 목록은 DiaryRepository 로 조회)
     @OneToMany(mappedBy = "user", cascade = CascadeType.PERSIST, orphanRemoval = false)
     private List<Diary> diaries = new ArrayList<>();
 
@@ -45,11 +53,6 @@ public class User extends BaseTimeEntity {
         this.userStatus = userStatus;
     }
 
-    // Diary에서 사용할 메서드
-    public void addDiary(Diary diary) {
-        diaries.add(diary);
-    }
-
     public void updateUser(String email, String nickname, UserStatus userStatus) {
         this.email = email;
         this.nickname = nickname;
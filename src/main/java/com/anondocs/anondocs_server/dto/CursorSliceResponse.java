@@ -0,0 +1,31 @@
+package com.anondocs.anondocs_server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 (전체 개수 없음)
+ * hasNext 가 true 면 nextCursor 를 cursor 파라미터로 보내 다음 목록을 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorSliceResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <T> CursorSliceResponse<T> of(Slice<T> slice, Function<T, DiaryCursor> cursorOf) {
+        List<T> items = slice.getContent();
+        String nextCursor = slice.hasNext() && !items.isEmpty()
+                ? cursorOf.apply(items.get(items.size() - 1)).encode()
+                : null;
+        return new CursorSliceResponse<>(items, nextCursor, slice.hasNext());
+    }
+}
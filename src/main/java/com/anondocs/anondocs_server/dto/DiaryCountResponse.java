@@ -0,0 +1,16 @@
+package com.anondocs.anondocs_server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내 일기 수 응답 DTO (users.diary_count 카운터 값, count 쿼리 없음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryCountResponse {
+
+    private long count;
+}
@@ -0,0 +1,26 @@
+package com.anondocs.anondocs_server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * CRDT 편집 성공 시 브로드캐스트 메시지 DTO
+ * clock: 서버 문서가 지금까지 본 가장 큰 counter (새 요소는 이보다 큰 counter 사용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryCrdtBroadcastMessageDto {
+
+    private Long diaryId;
+    private List<DiaryCrdtOperationDto> operations;
+    private Long clock;
+    private Long editorUserId;
+    private String editorNickname;
+    private Long timestamp;
+}
@@ -0,0 +1,25 @@
+package com.anondocs.anondocs_server.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * CRDT 방식의 일기 편집 메시지 DTO
+ * 버전 체크 없이 모든 세션의 연산이 결정적으로 병합됨
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class DiaryCrdtEditMessageDto {
+
+    private Long diaryId; // 안전하게 메시지 안에도 포함
+
+    @Valid
+    @NotEmpty
+    private List<DiaryCrdtOperationDto> operations;
+}
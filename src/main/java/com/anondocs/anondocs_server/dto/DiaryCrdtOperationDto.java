@@ -0,0 +1,39 @@
+package com.anondocs.anondocs_server.dto;
+
+import com.anondocs.anondocs_server.domain.diary.DiaryEditOperationType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * CRDT 편집 연산 DTO
+ * - INSERT: (counter, replicaId) 부터 text 길이만큼 연속 ID 를 부여해 parent 요소 뒤에 삽입
+ *           parentCounter/parentReplicaId 가 없으면 문서 맨 앞
+ * - DELETE: (counter, replicaId) 요소를 삭제
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryCrdtOperationDto {
+
+    @NotNull
+    private DiaryEditOperationType type;
+
+    @NotNull
+    private Long counter;
+
+    @NotBlank
+    private String replicaId;
+
+    private Long parentCounter;     // INSERT 전용
+
+    private String parentReplicaId; // INSERT 전용
+
+    private String text;            // INSERT 전용
+}
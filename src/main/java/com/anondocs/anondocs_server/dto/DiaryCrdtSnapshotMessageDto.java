@@ -0,0 +1,34 @@
+package com.anondocs.anondocs_server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * CRDT 문서 스냅샷 DTO (클라이언트 초기화/재동기화용)
+ * runs 는 문서 순서대로이며, 각 run 은 startCounter 부터 연속된 counter 를 가진 같은 replica 의 요소들
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryCrdtSnapshotMessageDto {
+
+    private Long diaryId;
+    private Long clock;
+    private List<Run> runs;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Run {
+        private Long startCounter;
+        private String replicaId;
+        private String text;
+        private boolean deleted;
+    }
+}
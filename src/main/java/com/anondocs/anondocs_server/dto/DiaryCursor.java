@@ -0,0 +1,38 @@
+package com.anondocs.anondocs_server.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 목록 키셋 페이징 커서 (정렬 시각, id)
+ * 클라이언트에는 불투명한 문자열로만 전달하고, 다음 요청에서 그대로 돌려받아 그 뒤부터 조회한다.
+ */
+public record DiaryCursor(LocalDateTime at, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = at.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 없으면 null (첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static DiaryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new DiaryCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.anondocs.anondocs_server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 편집 처리 결과를 보낸 세션에만 전달하는 ack DTO (/user/queue/acks)
+ * - lastAppliedSeq: 서버에 반영된 이 clientId 의 마지막 seq (하나도 없으면 null)
+ * - code: 실패 시 에러 코드 (성공이면 null)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryEditAckMessageDto {
+
+    private Long diaryId;
+    private String clientId;
+    private Long lastAppliedSeq;
+    private Long version;
+    private boolean merged;
+    private String code;
+    private Long timestamp;
+}
@@ -0,0 +1,32 @@
+package com.anondocs.anondocs_server.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 배치 편집 항목 DTO
+ * - seq: 클라이언트가 붙인 순번 (clientId 안에서 증가)
+ * - content 또는 operations 중 하나만 채운다 (전체 본문 교체 / 직전 항목까지 반영된 본문 기준의 델타)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryEditBatchItemDto {
+
+    @NotNull
+    private Long seq;
+
+    private String content;
+
+    @Valid
+    private List<DiaryEditOperationDto> operations;
+}
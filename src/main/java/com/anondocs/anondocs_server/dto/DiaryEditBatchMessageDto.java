@@ -0,0 +1,34 @@
+package com.anondocs.anondocs_server.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 여러 편집을 한 프레임으로 보내는 배치 편집 메시지 DTO
+ * edits 는 seq 오름차순이며 baseVersion 본문에 순서대로 적용되어 버전 하나로 함께 반영된다.
+ * 같은 clientId 로 이미 적용된 seq 는 건너뛰므로 재전송해도 안전하다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class DiaryEditBatchMessageDto {
+
+    private Long diaryId; // 안전하게 메시지 안에도 포함
+
+    @NotBlank
+    private String clientId;
+
+    @NotNull
+    private Long baseVersion;
+
+    @Valid
+    @NotEmpty
+    private List<DiaryEditBatchItemDto> edits;
+}
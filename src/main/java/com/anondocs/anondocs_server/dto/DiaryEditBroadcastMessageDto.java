@@ -17,4 +17,6 @@ public class DiaryEditBroadcastMessageDto {
     private String editorNickname;
     private Long version;
     private Long timestamp;
+    private String clientId;   // 편집을 보낸 클라이언트 (보낸 경우에만)
+    private Long clientSeq;    // 이 본문에 반영된 해당 클라이언트의 마지막 seq
 }
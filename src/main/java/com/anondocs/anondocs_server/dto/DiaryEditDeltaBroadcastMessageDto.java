@@ -0,0 +1,29 @@
+package com.anondocs.anondocs_server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 델타 편집 성공 시 브로드캐스트 메시지 DTO
+ * 구독자는 baseVersion 본문에 operations 를 순서대로 적용하면 version 본문을 얻는다
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryEditDeltaBroadcastMessageDto {
+
+    private Long diaryId;
+    private Long baseVersion;
+    private Long version;
+    private List<DiaryEditOperationDto> operations;
+    private Long editorUserId;
+    private String editorNickname;
+    private Long timestamp;
+    private String clientId;
+    private Long clientSeq;
+}
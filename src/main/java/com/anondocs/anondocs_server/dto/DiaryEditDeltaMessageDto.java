@@ -0,0 +1,33 @@
+package com.anondocs.anondocs_server.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 델타 방식의 일기 편집 메시지 DTO
+ * 전체 본문 대신 baseVersion 기준의 삽입/삭제 연산만 전송
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class DiaryEditDeltaMessageDto {
+
+    private Long diaryId; // 안전하게 메시지 안에도 포함
+
+    @NotNull
+    private Long baseVersion;
+
+    @Valid
+    @NotEmpty
+    private List<DiaryEditOperationDto> operations;
+
+    // 선택: 브로드캐스트/에러가 어느 편집의 결과인지 구분하기 위한 클라이언트 식별자와 순번
+    private String clientId;
+    private Long clientSeq;
+}
@@ -18,5 +18,8 @@ public class DiaryEditErrorMessageDto {
     private String code;
     private String message;
     private Long currentVersion;  // 버전 충돌 시 현재 서버의 버전
+    private String clientId;      // 실패한 편집을 보낸 클라이언트 (보낸 경우에만)
+    private Long clientSeq;       // 실패한 편집의 seq
+    private Long retryAfterMillis; // RATE_LIMITED 일 때 다시 보낼 수 있을 때까지 남은 시간
 }
 
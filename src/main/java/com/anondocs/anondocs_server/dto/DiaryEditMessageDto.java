@@ -18,4 +18,8 @@ public class DiaryEditMessageDto {
 
     @NotNull
     private Long version;
+
+    // 선택: 브로드캐스트/에러가 어느 편집의 결과인지 구분하기 위한 클라이언트 식별자와 순번
+    private String clientId;
+    private Long clientSeq;
 }
\ No newline at end of file
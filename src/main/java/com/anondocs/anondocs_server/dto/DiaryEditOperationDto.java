@@ -0,0 +1,35 @@
+package com.anondocs.anondocs_server.dto;
+
+import com.anondocs.anondocs_server.domain.diary.DiaryEditOperationType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 델타 편집 연산 DTO (위치 기반 삽입/삭제)
+ * - position: 직전 연산까지 적용된 문서 기준 위치 (UTF-16 코드 유닛 단위, JS 문자열 인덱스와 동일)
+ * - INSERT: position 위치에 text 삽입
+ * - DELETE: position 위치부터 length 만큼 삭제
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryEditOperationDto {
+
+    @NotNull
+    private DiaryEditOperationType type;
+
+    @NotNull
+    @PositiveOrZero
+    private Integer position;
+
+    private String text;      // INSERT 전용
+
+    private Integer length;   // DELETE 전용
+}
@@ -1,6 +1,5 @@
 package com.anondocs.anondocs_server.dto;
 
-import com.anondocs.anondocs_server.domain.diary.Diary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,6 +10,7 @@ import java.time.LocalDateTime;
 /**
  * 피드용 일기 응답 DTO (익명 공개 일기)
  * 작성자 정보는 포함하지 않음
+ * 목록 조회 projection 으로 바로 생성되며 본문은 미리보기만 포함 (전체 본문은 단건 조회)
  */
 @Getter
 @Builder
@@ -20,18 +20,7 @@ public class DiaryFeedItemResponse {
 
     private Long id;
     private String title;
-    private String content;
+    private String contentPreview;
     private LocalDateTime publishedAt;
     private LocalDateTime createdAt;
-
-    public static DiaryFeedItemResponse from(Diary diary) {
-        return DiaryFeedItemResponse.builder()
-                .id(diary.getId())
-                .title(diary.getTitle())
-                .content(diary.getContent())
-                .publishedAt(diary.getPublishedAt())
-                .createdAt(diary.getCreatedAt())
-                .build();
-    }
 }
-
@@ -0,0 +1,38 @@
+package com.anondocs.anondocs_server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일기의 현재 presence 전체 상태 DTO (/topic/diaries/{diaryId}/presence)
+ * 매 프레임이 전체 상태이므로 클라이언트는 받은 목록으로 교체하면 되고, 목록에 없는 세션은 떠난 것
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryPresenceBroadcastMessageDto {
+
+    private Long diaryId;
+    private List<Participant> participants;
+    private Long timestamp;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Participant {
+        private String sessionId;
+        private Long userId;
+        private String nickname;
+        private Integer cursor;
+        private Integer selectionStart;
+        private Integer selectionEnd;
+        private Long version;
+        private Long updatedAt;
+    }
+}
@@ -0,0 +1,20 @@
+package com.anondocs.anondocs_server.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 커서/선택 영역 presence 업데이트 메시지 DTO (클라이언트 -> 서버)
+ * 위치는 델타 연산과 같은 UTF-16 코드 유닛 단위
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class DiaryPresenceMessageDto {
+
+    private Integer cursor;
+    private Integer selectionStart;
+    private Integer selectionEnd;
+    private Long version;   // 위치가 기준으로 하는 본문 버전 (선택)
+}
@@ -0,0 +1,26 @@
+package com.anondocs.anondocs_server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 재연결 동기화 응답 DTO (/user/queue/diary-resync)
+ * - snapshot = false: events 를 순서대로 적용 (놓친 편집만, 이미 최신이면 빈 목록)
+ * - snapshot = true: 놓친 구간이 버퍼 밖이므로 content/version 으로 교체
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryResyncMessageDto {
+
+    private Long diaryId;
+    private boolean snapshot;
+    private List<DiaryEditBroadcastMessageDto> events;
+    private String content;
+    private Long version;
+}
@@ -0,0 +1,16 @@
+package com.anondocs.anondocs_server.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 재연결 후 놓친 편집 요청 메시지 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class DiaryResyncRequestMessageDto {
+
+    private Long lastSeenVersion;   // 클라이언트가 마지막으로 반영한 버전
+}
@@ -0,0 +1,29 @@
+package com.anondocs.anondocs_server.dto;
+
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 일기 목록 응답 DTO
+ * 목록 조회 projection 으로 바로 생성되며 본문은 미리보기만 포함 (전체 본문은 DiaryResponse 단건 조회)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiarySummaryResponse {
+
+    private Long id;
+    private String title;
+    private String contentPreview;
+    private DiaryVisibility visibility;
+    private Long version;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime publishedAt;
+}
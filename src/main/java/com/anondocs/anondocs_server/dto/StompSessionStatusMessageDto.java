@@ -0,0 +1,22 @@
+package com.anondocs.anondocs_server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * STOMP 세션 인증 상태 알림 DTO (/user/queue/session)
+ * - REAUTH_REQUIRED: 토큰 만료, graceMillis 안에 /app/session/reauth 로 새 토큰을 보내지 않으면 연결 종료
+ * - REAUTHENTICATED: 재인증 성공, expiresAt 까지 세션 연장
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StompSessionStatusMessageDto {
+
+    private String type;
+    private Long expiresAt;    // epoch millis
+    private Long graceMillis;
+}
@@ -2,12 +2,22 @@ package com.anondocs.anondocs_server.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
 
+/**
+ * 인증된 사용자 정보
+ * getName() 을 email 로 두어 STOMP 사용자 목적지(/user/{email}/queue/..)가 email 로 해석되도록 한다.
+ */
 @Getter
 @AllArgsConstructor
-public class UserPrincipalDto {
+public class UserPrincipalDto implements AuthenticatedPrincipal {
 
     private final Long id;
     private final String email;
     private final String nickname;
-}
\ No newline at end of file
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
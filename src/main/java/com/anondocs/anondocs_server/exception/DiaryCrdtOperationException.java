@@ -0,0 +1,18 @@
+package com.anondocs.anondocs_server.exception;
+
+import lombok.Getter;
+
+/**
+ * CRDT 연산을 문서에 통합할 수 없을 때
+ * resyncRequired: 참조한 요소를 서버가 모르는 경우 (오래된 스냅샷 기준 연산) -> 클라이언트 재동기화 필요
+ */
+@Getter
+public class DiaryCrdtOperationException extends RuntimeException {
+
+    private final boolean resyncRequired;
+
+    public DiaryCrdtOperationException(String message, boolean resyncRequired) {
+        super(message);
+        this.resyncRequired = resyncRequired;
+    }
+}
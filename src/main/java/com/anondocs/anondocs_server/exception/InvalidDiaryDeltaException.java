@@ -0,0 +1,11 @@
+package com.anondocs.anondocs_server.exception;
+
+/**
+ * 델타 편집 연산이 현재 본문에 적용될 수 없을 때 (범위 초과, 필수 값 누락 등)
+ */
+public class InvalidDiaryDeltaException extends RuntimeException {
+
+    public InvalidDiaryDeltaException(String message) {
+        super(message);
+    }
+}
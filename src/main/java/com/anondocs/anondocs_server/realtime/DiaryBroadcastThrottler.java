@@ -0,0 +1,153 @@
+package com.anondocs.anondocs_server.realtime;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토픽별 브로드캐스트 스로틀러 (전체 본문 프레임 전용)
+ *
+ * - 토픽마다 window-ms 동안 최대 1개의 프레임만 전송
+ * - 윈도우가 열려 있으면 바로 전송 (첫 편집은 지연 없음)
+ * - 윈도우 안에 들어온 프레임은 최신 것으로 덮어쓰고, 윈도우가 끝날 때 마지막 상태를 반드시 전송
+ *
+ * 전체 본문을 담은 프레임은 중간 상태를 건너뛰어도 되므로 이 방식이 안전하지만,
+ * Delta/CRDT 연산 프레임은 하나라도 빠지면 안 되므로 sendLatest 로 보내지 않는다.
+ * 대신 그런 즉시 전송 프레임(연산/병합/에러)도 sendNow 로 같은 토픽 락을 거치게 해서,
+ * 윈도우에 대기 중인 전체 본문 프레임을 먼저 내보낸 뒤 전송한다 (나중 버전이 먼저 도착하지 않도록).
+ * 같은 이유로 여기서 보내는 프레임에만 coalesce-key 헤더를 붙여 느린 세션의 송신 큐에서 대체될 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class DiaryBroadcastThrottler {
+
+    private static final long IDLE_WINDOW_RETENTION_MILLIS = 60_000;
+
+    private final DiaryBroadcaster diaryBroadcaster;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, TopicWindow> windows = new ConcurrentHashMap<>();
+
+    @Value("${anondocs.realtime.broadcast-window-ms:50}")
+    private long windowMillis;
+
+    public DiaryBroadcastThrottler(DiaryBroadcaster diaryBroadcaster) {
+        this.diaryBroadcaster = diaryBroadcaster;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "diary-broadcast-throttler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void sendLatest(String destination, Object payload) {
+        if (windowMillis <= 0) {
+            send(destination, payload);
+            return;
+        }
+
+        TopicWindow window = windows.computeIfAbsent(destination, key -> new TopicWindow());
+
+        synchronized (window) {
+            long now = System.currentTimeMillis();
+            long elapsed = now - window.lastSentAtMillis;
+
+            if (!window.flushScheduled && elapsed >= windowMillis) {
+                // 윈도우가 비어 있음 -> 바로 전송 (토픽 내 순서 보장을 위해 락 안에서 전송)
+                window.lastSentAtMillis = now;
+                send(destination, payload);
+                return;
+            }
+
+            // 윈도우 안 -> 최신 상태로 덮어쓰고 윈도우 끝에 한 번만 전송
+            window.pendingPayload = payload;
+            if (!window.flushScheduled) {
+                window.flushScheduled = true;
+                scheduler.schedule(() -> flush(destination, window), windowMillis - elapsed, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * 즉시 보내야 하는 프레임 전송 (topic 에 대기 중인 전체 본문 프레임이 있으면 먼저 전송)
+     *
+     * @param topic       스로틀링되는 일기 토픽 (/topic/diaries/{id})
+     * @param destination 실제 목적지 (topic 자신 또는 /errors 등 하위 목적지)
+     */
+    public void sendNow(String topic, String destination, Object payload) {
+        TopicWindow window = windows.get(topic);
+        if (window == null) {
+            diaryBroadcaster.send(destination, payload);
+            return;
+        }
+
+        synchronized (window) {
+            Object pending = window.pendingPayload;
+            if (pending != null) {
+                // 예약된 flush 는 pendingPayload 가 비어 있으면 아무것도 보내지 않음
+                window.pendingPayload = null;
+                window.lastSentAtMillis = System.currentTimeMillis();
+                send(topic, pending);
+            }
+            diaryBroadcaster.send(destination, payload);
+        }
+    }
+
+    public void sendNow(String topic, Object payload) {
+        sendNow(topic, topic, payload);
+    }
+
+    // 전체 본문 프레임은 세션 송신 큐에서도 최신 것만 남기도록 coalesce-key 를 붙임
+    // (윈도우에서 덮어써진 payload 는 직렬화하지 않고, 실제로 보내는 것만 한 번 직렬화)
+    private void send(String destination, Object payload) {
+        diaryBroadcaster.sendCoalescing(destination, diaryBroadcaster.encode(payload), destination);
+    }
+
+    private void flush(String destination, TopicWindow window) {
+        synchronized (window) {
+            Object payload = window.pendingPayload;
+            window.pendingPayload = null;
+            window.flushScheduled = false;
+
+            if (payload == null) {
+                return;
+            }
+            window.lastSentAtMillis = System.currentTimeMillis();
+            try {
+                send(destination, payload);
+            } catch (Exception e) {
+                log.error("지연 브로드캐스트 실패 - 토픽: {}", destination, e);
+            }
+        }
+    }
+
+    // 오래 사용하지 않은 토픽 윈도우 정리
+    @Scheduled(fixedDelay = IDLE_WINDOW_RETENTION_MILLIS)
+    public void removeIdleWindows() {
+        long now = System.currentTimeMillis();
+        windows.entrySet().removeIf(entry -> {
+            TopicWindow window = entry.getValue();
+            synchronized (window) {
+                return !window.flushScheduled && now - window.lastSentAtMillis > IDLE_WINDOW_RETENTION_MILLIS;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private static class TopicWindow {
+        private long lastSentAtMillis;
+        private boolean flushScheduled;
+        private Object pendingPayload;
+    }
+}
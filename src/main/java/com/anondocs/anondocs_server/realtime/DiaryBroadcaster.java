@@ -0,0 +1,114 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.dto.DiaryEditErrorMessageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.StringUtils;
+
+/**
+ * 직렬화 1회 브로드캐스터
+ *
+ * convertAndSend 는 호출마다 메시지 컨버터(Jackson)를 다시 실행하므로
+ * 같은 DTO 를 토픽과 개인 큐에 함께 보내면 직렬화도 그만큼 반복된다.
+ * 여기서는 encode() 로 byte[] 를 한 번 만든 뒤 모든 목적지에 같은 payload 로 보내고,
+ * 심플 브로커도 그 메시지를 구독자 전체에 그대로 공유하므로 직렬화 비용은 fan-out 수와 무관하다.
+ *
+ * 모든 실시간 전송이 여기를 거치므로 broadcast 단계 시간, fan-out, 에러 코드 집계도 여기서 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DiaryBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RealtimeMetrics realtimeMetrics;
+
+    /**
+     * 템플릿과 같은 메시지 컨버터로 한 번만 직렬화
+     */
+    public EncodedPayload encode(Object payload) {
+        Message<?> converted = messagingTemplate.getMessageConverter().toMessage(payload, null);
+        if (converted == null || !(converted.getPayload() instanceof byte[] bytes)) {
+            throw new MessageConversionException("브로드캐스트 직렬화 실패: " + payload.getClass().getName());
+        }
+        MimeType contentType = converted.getHeaders().get(MessageHeaders.CONTENT_TYPE, MimeType.class);
+        return new EncodedPayload(bytes, contentType);
+    }
+
+    public void send(String destination, Object payload) {
+        countError(payload);
+        send(destination, encode(payload));
+    }
+
+    public void send(String destination, EncodedPayload payload) {
+        sendToTopic(destination, toMessage(payload, null, null));
+    }
+
+    /**
+     * 같은 coalesceKey 를 가진 프레임은 느린 세션의 송신 큐에서 최신 것으로 대체될 수 있음
+     */
+    public void sendCoalescing(String destination, EncodedPayload payload, String coalesceKey) {
+        sendToTopic(destination, toMessage(payload, null, coalesceKey));
+    }
+
+    public void sendToUser(String user, String destination, Object payload) {
+        countError(payload);
+        sendToUser(user, destination, encode(payload));
+    }
+
+    public void sendToUser(String user, String destination, EncodedPayload payload) {
+        long start = System.nanoTime();
+        messagingTemplate.send(userDestination(user, destination), toMessage(payload, null, null));
+        realtimeMetrics.recordBroadcast("user", start);
+    }
+
+    /**
+     * 같은 사용자의 다른 세션에는 보내지 않고 지정한 세션에만 전송
+     */
+    public void sendToSession(String user, String sessionId, String destination, Object payload) {
+        countError(payload);
+        long start = System.nanoTime();
+        messagingTemplate.send(userDestination(user, destination), toMessage(encode(payload), sessionId, null));
+        realtimeMetrics.recordBroadcast("user", start);
+    }
+
+    private void sendToTopic(String destination, Message<byte[]> message) {
+        long start = System.nanoTime();
+        messagingTemplate.send(destination, message);
+        realtimeMetrics.recordBroadcast("topic", start);
+        realtimeMetrics.recordFanOut(destination);
+    }
+
+    private void countError(Object payload) {
+        if (payload instanceof DiaryEditErrorMessageDto error) {
+            realtimeMetrics.countError(error.getCode());
+        }
+    }
+
+    // 헤더는 목적지마다 새로 만들고 payload 배열만 공유
+    private Message<byte[]> toMessage(EncodedPayload payload, String sessionId, String coalesceKey) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        if (payload.contentType() != null) {
+            headers.setContentType(payload.contentType());
+        }
+        if (sessionId != null) {
+            headers.setSessionId(sessionId);
+        }
+        if (coalesceKey != null) {
+            headers.setNativeHeader(SlowConsumerSessionDecorator.COALESCE_KEY_HEADER, coalesceKey);
+        }
+        headers.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload.bytes(), headers.getMessageHeaders());
+    }
+
+    private String userDestination(String user, String destination) {
+        return messagingTemplate.getUserDestinationPrefix() + StringUtils.replace(user, "/", "%2F") + destination;
+    }
+}
@@ -0,0 +1,148 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.dto.DiaryPresenceBroadcastMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryPresenceMessageDto;
+import com.anondocs.anondocs_server.dto.UserPrincipalDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일기별 커서/선택 영역 presence (메모리 전용, DB/DiaryService 미사용)
+ *
+ * - 세션별 최신 상태만 보관하므로 빠르게 들어오는 업데이트는 자연스럽게 합쳐짐 (coalescing)
+ * - 브로드캐스트는 전용 스레드에서 flush-interval-ms 마다 바뀐 일기만 전체 상태 1프레임으로 전송 (일기당 전송률 상한)
+ * - 세션 종료(SessionDisconnectEvent) 시 즉시 제거, 업데이트가 끊긴 세션은 ttl-ms 후 만료
+ */
+@Slf4j
+@Component
+public class DiaryPresenceRegistry {
+
+    private final DiaryBroadcaster diaryBroadcaster;
+    private final ScheduledExecutorService scheduler;
+
+    // diaryId -> (sessionId -> 상태)
+    private final Map<Long, Map<String, Presence>> presences = new ConcurrentHashMap<>();
+    // sessionId -> 참여 중인 diaryId 들 (연결 종료 시 정리용)
+    private final Map<String, Set<Long>> sessionDiaries = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyDiaries = ConcurrentHashMap.newKeySet();
+
+    @Value("${anondocs.realtime.presence.ttl-ms:30000}")
+    private long ttlMillis;
+
+    public DiaryPresenceRegistry(DiaryBroadcaster diaryBroadcaster,
+                                 @Value("${anondocs.realtime.presence.flush-interval-ms:100}") long flushIntervalMillis) {
+        this.diaryBroadcaster = diaryBroadcaster;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "diary-presence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void update(Long diaryId, String sessionId, UserPrincipalDto user, DiaryPresenceMessageDto message) {
+        Presence presence = new Presence(user.getId(), user.getNickname(), message.getCursor(),
+                message.getSelectionStart(), message.getSelectionEnd(), message.getVersion(), System.currentTimeMillis());
+
+        // 빈 맵 제거(broadcast)와 겹치지 않도록 compute 안에서 추가
+        presences.compute(diaryId, (id, sessions) -> {
+            Map<String, Presence> target = sessions == null ? new ConcurrentHashMap<>() : sessions;
+            target.put(sessionId, presence);
+            return target;
+        });
+        sessionDiaries.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet()).add(diaryId);
+        dirtyDiaries.add(diaryId);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Set<Long> diaryIds = sessionDiaries.remove(event.getSessionId());
+        if (diaryIds == null) {
+            return;
+        }
+        for (Long diaryId : diaryIds) {
+            remove(diaryId, event.getSessionId());
+        }
+    }
+
+    private void remove(Long diaryId, String sessionId) {
+        Map<String, Presence> sessions = presences.get(diaryId);
+        if (sessions != null && sessions.remove(sessionId) != null) {
+            dirtyDiaries.add(diaryId);
+        }
+    }
+
+    private void flush() {
+        try {
+            expireStale();
+
+            for (Long diaryId : List.copyOf(dirtyDiaries)) {
+                dirtyDiaries.remove(diaryId);
+                broadcast(diaryId);
+            }
+        } catch (Exception e) {
+            log.error("presence 브로드캐스트 실패", e);
+        }
+    }
+
+    private void expireStale() {
+        long expireBefore = System.currentTimeMillis() - ttlMillis;
+        presences.forEach((diaryId, sessions) -> {
+            if (sessions.entrySet().removeIf(entry -> entry.getValue().updatedAt() < expireBefore)) {
+                dirtyDiaries.add(diaryId);
+            }
+        });
+    }
+
+    private void broadcast(Long diaryId) {
+        Map<String, Presence> sessions = presences.getOrDefault(diaryId, Map.of());
+
+        List<DiaryPresenceBroadcastMessageDto.Participant> participants = new ArrayList<>(sessions.size());
+        sessions.forEach((sessionId, presence) -> participants.add(DiaryPresenceBroadcastMessageDto.Participant.builder()
+                .sessionId(sessionId)
+                .userId(presence.userId())
+                .nickname(presence.nickname())
+                .cursor(presence.cursor())
+                .selectionStart(presence.selectionStart())
+                .selectionEnd(presence.selectionEnd())
+                .version(presence.version())
+                .updatedAt(presence.updatedAt())
+                .build()));
+
+        if (participants.isEmpty()) {
+            presences.computeIfPresent(diaryId, (id, current) -> current.isEmpty() ? null : current);
+        }
+
+        // 전체 상태 프레임이므로 느린 세션에서는 최신 것만 남아도 됨
+        String destination = "/topic/diaries/" + diaryId + "/presence";
+        diaryBroadcaster.sendCoalescing(destination,
+                diaryBroadcaster.encode(DiaryPresenceBroadcastMessageDto.builder()
+                        .diaryId(diaryId)
+                        .participants(participants)
+                        .timestamp(System.currentTimeMillis())
+                        .build()),
+                destination);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private record Presence(Long userId, String nickname, Integer cursor,
+                            Integer selectionStart, Integer selectionEnd, Long version, long updatedAt) {
+    }
+}
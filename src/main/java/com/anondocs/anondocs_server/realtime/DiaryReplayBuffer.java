@@ -0,0 +1,122 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.dto.DiaryEditBroadcastMessageDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재연결 클라이언트용 일기별 최근 편집 이벤트 링 버퍼 (메모리 전용)
+ *
+ * - 편집 액터 경로(/edit, /edit-delta, /edit-batch)의 결과를 전체 본문 이벤트로 capacity 개까지 보관
+ *   (버전이 1씩 연속으로 증가하는 경로만 기록하므로 빠진 구간을 정확히 판별할 수 있음)
+ * - 마지막으로 본 버전 이후의 이벤트가 모두 버퍼 안에 있으면 그 이벤트들만 돌려주고,
+ *   버퍼 밖이거나 기록이 없으면 비어 있는 Optional (호출자가 전체 스냅샷으로 대체)
+ * - LWW/CRDT 경로는 버전이 편집마다 1씩 오르지 않아 기록하지 않고, 쓰기가 생기면 invalidate 로 버퍼를 비움
+ *   (그 뒤의 동기화 요청은 버퍼에 남은 구간으로 메울 수 없으므로 스냅샷으로 응답)
+ * - idle-ttl-ms 동안 기록이 없는 일기의 버퍼는 제거
+ */
+@Component
+public class DiaryReplayBuffer {
+
+    private final Map<Long, DiaryEvents> buffers = new ConcurrentHashMap<>();
+
+    @Value("${anondocs.realtime.replay.capacity:64}")
+    private int capacity;
+
+    @Value("${anondocs.realtime.replay.idle-ttl-ms:600000}")
+    private long idleTtlMillis;
+
+    /**
+     * 편집 액터 콜백(일기별 순서 보장) 안에서 호출
+     */
+    public void record(DiaryEditBroadcastMessageDto event) {
+        DiaryEvents events = buffers.computeIfAbsent(event.getDiaryId(), id -> new DiaryEvents());
+        synchronized (events) {
+            DiaryEditBroadcastMessageDto newest = events.events.peekLast();
+            if (newest != null && event.getVersion() <= newest.getVersion()) {
+                return; // 재전송된 배치처럼 이미 기록된 버전
+            }
+            // 버전이 이어지지 않으면(다른 경로 저장 후 재로드 등) 이전 기록은 더 이상 연속이 아니므로 버림
+            if (newest != null && newest.getVersion() + 1 != event.getVersion()) {
+                events.events.clear();
+            }
+
+            events.ownerId = event.getEditorUserId();
+            events.events.addLast(event);
+            while (events.events.size() > capacity) {
+                events.events.removeFirst();
+            }
+            events.lastRecordedMillis = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 버전 연속성이 없는 경로(LWW/CRDT)에서 본문이 바뀐 뒤 호출 - 이전 기록으로는 더 이상 replay 할 수 없음
+     */
+    public void invalidate(Long diaryId) {
+        DiaryEvents events = buffers.get(diaryId);
+        if (events == null) {
+            return;
+        }
+        synchronized (events) {
+            events.events.clear();
+        }
+    }
+
+    /**
+     * @return lastSeenVersion 이후 놓친 이벤트 (이미 최신이면 빈 목록), 버퍼로 메울 수 없으면 Optional.empty()
+     */
+    public Optional<List<DiaryEditBroadcastMessageDto>> eventsSince(Long userId, Long diaryId, Long lastSeenVersion) {
+        DiaryEvents events = buffers.get(diaryId);
+        if (events == null || lastSeenVersion == null) {
+            return Optional.empty();
+        }
+
+        synchronized (events) {
+            // 편집은 소유자만 가능하므로 기록된 편집자 = 소유자
+            if (events.events.isEmpty() || !userId.equals(events.ownerId)) {
+                return Optional.empty();
+            }
+
+            long oldestBase = events.events.peekFirst().getVersion() - 1;
+            long newest = events.events.peekLast().getVersion();
+            if (lastSeenVersion < oldestBase || lastSeenVersion > newest) {
+                return Optional.empty();
+            }
+
+            List<DiaryEditBroadcastMessageDto> missed = new ArrayList<>();
+            for (DiaryEditBroadcastMessageDto event : events.events) {
+                if (event.getVersion() > lastSeenVersion) {
+                    missed.add(event);
+                }
+            }
+            return Optional.of(missed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${anondocs.realtime.replay.idle-ttl-ms:600000}")
+    public void removeIdleBuffers() {
+        long now = System.currentTimeMillis();
+        buffers.entrySet().removeIf(entry -> {
+            DiaryEvents events = entry.getValue();
+            synchronized (events) {
+                return now - events.lastRecordedMillis > idleTtlMillis;
+            }
+        });
+    }
+
+    private static class DiaryEvents {
+        private final Deque<DiaryEditBroadcastMessageDto> events = new ArrayDeque<>();
+        private Long ownerId;
+        private long lastRecordedMillis;
+    }
+}
@@ -0,0 +1,10 @@
+package com.anondocs.anondocs_server.realtime;
+
+import org.springframework.util.MimeType;
+
+/**
+ * 한 번 직렬화된 브로드캐스트 본문
+ * 여러 목적지/구독자에게 같은 byte[] 를 그대로 공유하므로 호출 측에서 배열을 수정하면 안 된다.
+ */
+public record EncodedPayload(byte[] bytes, MimeType contentType) {
+}
@@ -0,0 +1,264 @@
+package com.anondocs.anondocs_server.realtime;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실시간 경로 메트릭 (/actuator/metrics, /actuator/prometheus)
+ *
+ * 단계별 타이머 anondocs.realtime.stage{stage, target} (백분위 + 히스토그램):
+ * - inbound: 프레임 수신 ~ @MessageMapping 핸들러 시작 (target = 목적지 패턴)
+ * - service: 서비스 메서드 시작 ~ 커밋 직전 (target = 작업 종류)
+ * - commit: flush + 커밋 (target = 작업 종류)
+ * - broadcast: 브로커 채널로 전송하는 시간 (target = topic | user)
+ *
+ * 그 외:
+ * - anondocs.realtime.messages{direction=inbound|outbound, destination}: 목적지별 프레임 수
+ * - anondocs.realtime.errors{code}: /queue/errors 로 보낸 에러 수 (충돌은 anondocs.diary.edit.conflicts)
+ * - anondocs.realtime.broadcast.fan-out: 토픽 브로드캐스트 한 번에 이 노드에서 받는 구독 수
+ * - anondocs.realtime.sessions / subscriptions / subscribed-destinations: 현재 값 게이지
+ *
+ * 목적지 태그는 숫자 구간을 {id} 로 바꾼 뒤 KNOWN_DESTINATIONS 에 있는 것만 그대로 쓰고 나머지는 other 로 묶는다.
+ * (클라이언트가 임의 목적지로 보내도 미터 수가 늘지 않도록 태그 종류를 고정)
+ */
+@Component
+public class RealtimeMetrics {
+
+    private static final String STAGE_TIMER = "anondocs.realtime.stage";
+
+    static final String OTHER_DESTINATION = "other";
+
+    // 서버가 처리하거나 보내는 목적지 패턴 (새 @MessageMapping / 전송 목적지를 추가하면 여기에도 추가)
+    static final Set<String> KNOWN_DESTINATIONS = Set.of(
+            "/app/diaries/create",
+            "/app/diaries/{id}/edit",
+            "/app/diaries/{id}/edit-lww",
+            "/app/diaries/{id}/edit-delta",
+            "/app/diaries/{id}/edit-batch",
+            "/app/diaries/{id}/edit-crdt",
+            "/app/diaries/{id}/crdt-snapshot",
+            "/app/diaries/{id}/resync",
+            "/app/diaries/{id}/presence",
+            "/app/session/reauth",
+            "/topic/diaries/{id}",
+            "/topic/diaries/{id}/errors",
+            "/topic/diaries/{id}/presence",
+            "/user/queue/errors",
+            "/user/queue/acks",
+            "/user/queue/diary-created",
+            "/user/queue/diary-resync",
+            "/user/queue/diary-crdt-snapshot",
+            "/user/queue/session"
+    );
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary fanOut;
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> messageCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    // sessionId -> (subscriptionId -> destination)
+    private final Map<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+    // destination -> 구독 수
+    private final Map<String, AtomicInteger> destinationSubscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+
+    public RealtimeMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.fanOut = DistributionSummary.builder("anondocs.realtime.broadcast.fan-out")
+                .description("토픽 브로드캐스트 한 번에 이 노드에서 전달되는 구독 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        Gauge.builder("anondocs.realtime.sessions", sessionCount, AtomicInteger::get)
+                .description("연결된 STOMP 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("anondocs.realtime.subscriptions", subscriptionCount, AtomicInteger::get)
+                .description("활성 구독 수")
+                .register(meterRegistry);
+        Gauge.builder("anondocs.realtime.subscribed-destinations", destinationSubscribers, Map::size)
+                .description("구독자가 있는 목적지 수")
+                .register(meterRegistry);
+    }
+
+    public void recordInbound(String destination, long nanos) {
+        stageTimer("inbound", destinationTag(destination)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBroadcast(String target, long startNanos) {
+        stageTimer("broadcast", target).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 현재 트랜잭션의 service / commit 단계 시간을 기록 (트랜잭션 밖이면 무시)
+     */
+    public void trackTransaction(String operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        long start = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long commitStart;
+
+            @Override
+            public void beforeCompletion() {
+                commitStart = System.nanoTime();
+                stageTimer("service", operation).record(commitStart - start, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    stageTimer("commit", operation).record(System.nanoTime() - commitStart, TimeUnit.NANOSECONDS);
+                }
+            }
+        });
+    }
+
+    public void countMessage(String direction, String destination) {
+        String normalized = destinationTag(destination);
+        messageCounters.computeIfAbsent(direction + ' ' + normalized, k -> Counter.builder("anondocs.realtime.messages")
+                        .description("목적지별 STOMP 프레임 수")
+                        .tag("direction", direction)
+                        .tag("destination", normalized)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void countError(String code) {
+        String tag = code == null ? "UNKNOWN" : code;
+        errorCounters.computeIfAbsent(tag, k -> Counter.builder("anondocs.realtime.errors")
+                        .description("클라이언트에게 보낸 실시간 에러 수")
+                        .tag("code", k)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void recordFanOut(String destination) {
+        AtomicInteger subscribers = destinationSubscribers.get(destination);
+        fanOut.record(subscribers == null ? 0 : subscribers.get());
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        sessionCount.incrementAndGet();
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+
+        String previous = subscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        if (previous != null) {
+            removeSubscriber(previous);
+        } else {
+            subscriptionCount.incrementAndGet();
+        }
+        // 0 이 된 항목 제거(removeSubscriber)와 겹치지 않도록 compute 안에서 증가
+        destinationSubscribers.compute(destination, (d, count) -> {
+            AtomicInteger target = count == null ? new AtomicInteger() : count;
+            target.incrementAndGet();
+            return target;
+        });
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> sessionSubscriptions = subscriptions.get(accessor.getSessionId());
+        if (sessionSubscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String destination = sessionSubscriptions.remove(accessor.getSubscriptionId());
+        if (destination != null) {
+            subscriptionCount.decrementAndGet();
+            removeSubscriber(destination);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> sessionSubscriptions = subscriptions.remove(event.getSessionId());
+        if (sessionSubscriptions != null) {
+            for (String destination : sessionSubscriptions.values()) {
+                subscriptionCount.decrementAndGet();
+                removeSubscriber(destination);
+            }
+        }
+        // CONNECT 전에 끊긴 세션은 세지 않음
+        if (event.getUser() != null) {
+            sessionCount.updateAndGet(count -> Math.max(0, count - 1));
+        }
+    }
+
+    private void removeSubscriber(String destination) {
+        destinationSubscribers.computeIfPresent(destination,
+                (d, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    private Timer stageTimer(String stage, String target) {
+        return stageTimers.computeIfAbsent(stage + ' ' + target, key -> Timer.builder(STAGE_TIMER)
+                .description("실시간 편집 경로 단계별 소요 시간")
+                .tag("stage", stage)
+                .tag("target", target)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(meterRegistry));
+    }
+
+    // 고정된 태그 값 (알 수 없는 목적지는 other)
+    static String destinationTag(String destination) {
+        String normalized = normalize(destination);
+        return KNOWN_DESTINATIONS.contains(normalized) ? normalized : OTHER_DESTINATION;
+    }
+
+    // /topic/diaries/42/delta -> /topic/diaries/{id}/delta
+    static String normalize(String destination) {
+        if (destination == null) {
+            return "none";
+        }
+        String[] segments = destination.split("/", -1);
+        StringBuilder normalized = new StringBuilder(destination.length());
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (i > 0) {
+                normalized.append('/');
+            }
+            if (!segment.isEmpty() && segment.chars().allMatch(Character::isDigit)) {
+                normalized.append("{id}");
+            } else {
+                normalized.append(segment);
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.anondocs.anondocs_server.realtime;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+/**
+ * clientInbound / clientOutbound 채널의 목적지별 프레임 수와 inbound 대기 시간을 RealtimeMetrics 에 기록
+ *
+ * inbound: 수신 시각을 헤더에 남기고, @MessageMapping 핸들러가 실행되기 직전에 대기 시간을 기록
+ * (채널 구독 핸들러 중 브로커/사용자 목적지 핸들러는 제외해 메시지당 한 번만 기록)
+ */
+public class RealtimeMetricsInterceptor implements ExecutorChannelInterceptor {
+
+    static final String RECEIVED_AT_HEADER = "anondocsReceivedAt";
+
+    private final RealtimeMetrics realtimeMetrics;
+    private final boolean inbound;
+
+    public RealtimeMetricsInterceptor(RealtimeMetrics realtimeMetrics, boolean inbound) {
+        this.realtimeMetrics = realtimeMetrics;
+        this.inbound = inbound;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        if (!inbound) {
+            // 사용자 목적지는 세션별로 풀린 목적지 대신 원래 목적지(/user/queue/..)로 집계
+            String original = (String) headers.get(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION);
+            realtimeMetrics.countMessage("outbound",
+                    original != null ? original : SimpMessageHeaderAccessor.getDestination(headers));
+            return message;
+        }
+
+        realtimeMetrics.countMessage("inbound", SimpMessageHeaderAccessor.getDestination(headers));
+        MessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, MessageHeaderAccessor.class);
+        if (accessor != null && accessor.isMutable()) {
+            accessor.setHeader(RECEIVED_AT_HEADER, System.nanoTime());
+        }
+        return message;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (inbound && handler instanceof SimpAnnotationMethodMessageHandler
+                && message.getHeaders().get(RECEIVED_AT_HEADER) instanceof Long receivedAt) {
+            realtimeMetrics.recordInbound(SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+                    System.nanoTime() - receivedAt);
+        }
+        return message;
+    }
+}
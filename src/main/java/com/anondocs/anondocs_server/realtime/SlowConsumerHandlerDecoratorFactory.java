@@ -0,0 +1,52 @@
+package com.anondocs.anondocs_server.realtime;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 모든 STOMP 세션을 SlowConsumerSessionDecorator 로 감싸는 핸들러 데코레이터 팩토리
+ *
+ * 세션 송신은 가상 스레드에서 수행하므로 느린 세션이 쓰기에서 막혀도
+ * outbound 채널 풀이나 다른 세션의 전송이 함께 막히지 않는다.
+ */
+@Getter
+@Component
+public class SlowConsumerHandlerDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+    private final ExecutorService sendExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ws-session-send-", 0).factory());
+
+    @Value("${anondocs.websocket.transport.slow-consumer-policy:DROP_STALE}")
+    private SlowConsumerPolicy policy;
+
+    @Value("${anondocs.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${anondocs.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new SlowConsumerSessionDecorator(
+                        session, sendExecutor, policy, sendBufferSizeLimit, sendTimeLimitMillis));
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdown();
+    }
+}
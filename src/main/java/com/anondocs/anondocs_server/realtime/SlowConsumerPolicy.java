@@ -0,0 +1,13 @@
+package com.anondocs.anondocs_server.realtime;
+
+/**
+ * 전송이 밀린(느린) WebSocket 세션 처리 정책
+ */
+public enum SlowConsumerPolicy {
+
+    // 같은 coalesce-key 의 오래된 프레임(중간 전체 본문/presence 상태)을 버리고 최신 것만 유지, 그래도 넘치면 연결 종료
+    DROP_STALE,
+
+    // 한도를 넘으면 바로 연결 종료 (클라이언트는 재연결 후 resync)
+    DISCONNECT
+}
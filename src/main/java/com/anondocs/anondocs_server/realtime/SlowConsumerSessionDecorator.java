@@ -0,0 +1,229 @@
+package com.anondocs.anondocs_server.realtime;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 세션별 송신 큐로 느린 클라이언트를 격리하는 세션 데코레이터
+ *
+ * - sendMessage 는 큐에 넣고 바로 반환, 실제 전송은 세션 전용 drain 작업이 순서대로 수행
+ * - coalesce-key 헤더가 붙은 전체 본문 프레임이 들어오면, 아직 전송 전인 같은 키의 프레임과
+ *   목적지가 그 키와 같은 프레임(앞선 Delta/병합 프레임 등)을 모두 버리고 뒤에 붙임
+ *   (새 전체 본문이 그 이전 상태를 모두 포함하므로, 남은 큐에 기준 상태보다 앞서는 연산 프레임이 생기지 않음)
+ * - 대기 바이트가 bufferSizeLimit 을 넘거나 한 프레임 전송이 sendTimeLimit 을 넘으면 정책에 따라
+ *   coalesce 가능한 오래된 프레임부터 버리거나(DROP_STALE) 연결을 끊음(DISCONNECT)
+ */
+@Slf4j
+public class SlowConsumerSessionDecorator extends WebSocketSessionDecorator {
+
+    // 최신 1개만 의미 있는 프레임에 붙이는 STOMP 헤더
+    // 값은 목적지와 같게 두며, 같은 키 또는 같은 목적지로 먼저 대기 중인 프레임을 대체함
+    public static final String COALESCE_KEY_HEADER = "coalesce-key";
+
+    private static final String DESTINATION_HEADER = "destination";
+
+    private final Executor executor;
+    private final SlowConsumerPolicy policy;
+    private final int bufferSizeLimit;
+    private final long sendTimeLimitMillis;
+
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    private int bufferedBytes;
+    private boolean draining;
+    private boolean terminated;
+    private volatile long sendStartedAtMillis;
+
+    public SlowConsumerSessionDecorator(WebSocketSession delegate, Executor executor, SlowConsumerPolicy policy,
+                                        int bufferSizeLimit, long sendTimeLimitMillis) {
+        super(delegate);
+        this.executor = executor;
+        this.policy = policy;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        boolean startDrain = false;
+        String reason = null;
+
+        synchronized (queue) {
+            if (terminated) {
+                return;
+            }
+
+            String headerBlock = headerBlock(message);
+            String coalesceKey = header(headerBlock, COALESCE_KEY_HEADER);
+            if (coalesceKey != null) {
+                removeSuperseded(coalesceKey);
+            }
+            queue.addLast(new Pending(message, coalesceKey, header(headerBlock, DESTINATION_HEADER),
+                    message.getPayloadLength()));
+            bufferedBytes += message.getPayloadLength();
+
+            if (isOverLimit()) {
+                if (policy == SlowConsumerPolicy.DROP_STALE) {
+                    dropStaleUntilWithinLimit();
+                }
+                if (isOverLimit()) {
+                    terminated = true;
+                    queue.clear();
+                    reason = "송신 대기 " + bufferedBytes + " bytes";
+                }
+            }
+
+            if (reason == null && !draining) {
+                draining = true;
+                startDrain = true;
+            }
+        }
+
+        if (reason != null) {
+            terminate(reason);
+        } else if (startDrain) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Pending pending;
+            synchronized (queue) {
+                pending = terminated ? null : queue.pollFirst();
+                if (pending == null) {
+                    draining = false;
+                    return;
+                }
+                bufferedBytes -= pending.size;
+            }
+
+            sendStartedAtMillis = System.currentTimeMillis();
+            try {
+                getDelegate().sendMessage(pending.message);
+            } catch (Exception e) {
+                log.debug("세션 전송 실패 - 세션: {}, 사유: {}", getId(), e.getMessage());
+                synchronized (queue) {
+                    terminated = true;
+                    queue.clear();
+                    draining = false;
+                }
+                return;
+            } finally {
+                sendStartedAtMillis = 0;
+            }
+        }
+    }
+
+    // queue 락 안에서 호출
+    private boolean isOverLimit() {
+        long startedAt = sendStartedAtMillis;
+        boolean sendTimedOut = startedAt > 0 && System.currentTimeMillis() - startedAt > sendTimeLimitMillis;
+        return bufferedBytes > bufferSizeLimit || sendTimedOut;
+    }
+
+    // queue 락 안에서 호출: 대체 가능한 오래된 프레임부터 버림
+    // (마지막 프레임과, 뒤에 같은 목적지 프레임이 대기 중인 프레임은 유지 - 연산 프레임의 기준 상태가 사라지지 않도록)
+    private void dropStaleUntilWithinLimit() {
+        List<Pending> pendings = new ArrayList<>(queue);
+        for (int i = 0; i < pendings.size() - 1 && bufferedBytes > bufferSizeLimit; i++) {
+            Pending pending = pendings.get(i);
+            if (pending.coalesceKey != null && !hasLaterFrameFor(pendings, i, pending.destination)) {
+                queue.remove(pending);
+                bufferedBytes -= pending.size;
+            }
+        }
+    }
+
+    private static boolean hasLaterFrameFor(List<Pending> pendings, int index, String destination) {
+        for (int i = index + 1; i < pendings.size(); i++) {
+            if (destination != null && destination.equals(pendings.get(i).destination)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // queue 락 안에서 호출: 새 전체 본문 프레임이 포함하는 이전 프레임 제거 (같은 키 또는 같은 목적지)
+    private void removeSuperseded(String coalesceKey) {
+        Iterator<Pending> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Pending pending = iterator.next();
+            if (coalesceKey.equals(pending.coalesceKey) || coalesceKey.equals(pending.destination)) {
+                iterator.remove();
+                bufferedBytes -= pending.size;
+            }
+        }
+    }
+
+    private void terminate(String reason) {
+        log.warn("느린 클라이언트 연결 종료 - 세션: {}, 사유: {}", getId(), reason);
+        executor.execute(() -> {
+            try {
+                getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (Exception e) {
+                log.debug("느린 클라이언트 연결 종료 실패 - 세션: {}", getId(), e);
+            }
+        });
+    }
+
+    /**
+     * STOMP 프레임 헤더 영역에서 coalesce-key 값을 찾음 (없으면 null)
+     */
+    static String coalesceKey(WebSocketMessage<?> message) {
+        return header(headerBlock(message), COALESCE_KEY_HEADER);
+    }
+
+    // 프레임의 헤더 영역만 문자열로 (본문은 디코딩하지 않음)
+    private static String headerBlock(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage text) {
+            String frame = text.getPayload();
+            int headerEnd = frame.indexOf("\n\n");
+            return headerEnd < 0 ? frame : frame.substring(0, headerEnd + 1);
+        }
+        if (message instanceof BinaryMessage binary) {
+            ByteBuffer buffer = binary.getPayload().duplicate();
+            int end = buffer.limit();
+            for (int i = buffer.position(); i + 1 < buffer.limit(); i++) {
+                if (buffer.get(i) == '\n' && buffer.get(i + 1) == '\n') {
+                    end = i + 1;
+                    break;
+                }
+            }
+            buffer.limit(end);
+            return StandardCharsets.ISO_8859_1.decode(buffer).toString();
+        }
+        return null;
+    }
+
+    private static String header(String headerBlock, String name) {
+        if (headerBlock == null) {
+            return null;
+        }
+        String prefix = "\n" + name + ":";
+        int start = headerBlock.indexOf(prefix);
+        if (start < 0) {
+            return null;
+        }
+        start += prefix.length();
+        int end = headerBlock.indexOf('\n', start);
+        return end < 0 ? null : headerBlock.substring(start, end);
+    }
+
+    private record Pending(WebSocketMessage<?> message, String coalesceKey, String destination, int size) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.anondocs.anondocs_server.realtime;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 세션별 STOMP 본문 인코딩
+ * CONNECT 프레임의 payload-format 헤더로 선택하며, 없거나 모르는 값이면 JSON
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StompPayloadFormat {
+
+    JSON(MimeTypeUtils.APPLICATION_JSON),
+    CBOR(new MimeType("application", "cbor"));
+
+    public static final String CONNECT_HEADER = "payload-format";
+
+    private final MimeType mimeType;
+
+    public static StompPayloadFormat fromHeader(String value) {
+        return "cbor".equalsIgnoreCase(value) ? CBOR : JSON;
+    }
+}
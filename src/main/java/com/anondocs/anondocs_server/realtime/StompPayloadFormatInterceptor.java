@@ -0,0 +1,129 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.sockjs.transport.SockJsSession;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 본문 인코딩 협상 (inbound/outbound 채널 공용 인터셉터)
+ *
+ * - inbound CONNECT: payload-format 헤더(json|cbor)를 세션 ID 별로 기억
+ *   (SockJS 세션은 텍스트 프레임만 가능하므로 항상 JSON)
+ * - outbound MESSAGE: CBOR 세션으로 가는 JSON 본문을 CBOR 로 변환
+ *   STOMP 핸들러는 content-type 이 application/octet-stream 인 프레임만 바이너리 프레임으로 보내므로
+ *   content-type 은 octet-stream, 실제 형식은 payload-format:cbor 헤더로 알림
+ *
+ * 브로커는 한 메시지를 모든 구독자에게 같은 payload 배열로 넘기므로,
+ * 변환 결과를 원본 배열 기준(identity)으로 캐시해 구독자 수와 관계없이 메시지당 한 번만 변환한다.
+ * 클라이언트가 보내는 CBOR 프레임(content-type: application/cbor)은 메시지 컨버터에서 바로 역직렬화된다.
+ */
+@Slf4j
+@Component
+public class StompPayloadFormatInterceptor implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private static final String TEXT_ONLY_ATTRIBUTE = StompPayloadFormatInterceptor.class.getName() + ".TEXT_ONLY";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
+
+    private final Map<String, StompPayloadFormat> sessionFormats = new ConcurrentHashMap<>();
+
+    // 배열은 equals/hashCode 가 identity 이므로 원본 payload 가 GC 되면 캐시도 함께 사라짐
+    private final Map<byte[], byte[]> transcoded = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+        if (accessor == null || accessor.getSessionId() == null) {
+            return message;
+        }
+
+        if (accessor instanceof StompHeaderAccessor stomp && StompCommand.CONNECT.equals(stomp.getCommand())) {
+            Map<String, Object> attributes = stomp.getSessionAttributes();
+            boolean textOnly = attributes != null && Boolean.TRUE.equals(attributes.get(TEXT_ONLY_ATTRIBUTE));
+            StompPayloadFormat format = textOnly ? StompPayloadFormat.JSON : StompPayloadFormat.fromHeader(
+                    stomp.getFirstNativeHeader(StompPayloadFormat.CONNECT_HEADER));
+            sessionFormats.put(stomp.getSessionId(), format);
+            log.debug("STOMP 본문 인코딩 - 세션: {}, 형식: {}", stomp.getSessionId(), format);
+            return message;
+        }
+
+        // 클라이언트가 보낸 SEND 프레임(StompHeaderAccessor)은 변환 대상이 아님
+        if (accessor instanceof StompHeaderAccessor
+                || accessor.getMessageType() != SimpMessageType.MESSAGE
+                || sessionFormats.get(accessor.getSessionId()) != StompPayloadFormat.CBOR
+                || !(message.getPayload() instanceof byte[] json)
+                || accessor.getContentType() == null
+                || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(accessor.getContentType())) {
+            return message;
+        }
+
+        byte[] cbor = transcoded.computeIfAbsent(json, this::toCbor);
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.copyHeaders(message.getHeaders());
+        headers.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        headers.setNativeHeader(StompPayloadFormat.CONNECT_HEADER, "cbor");
+        return MessageBuilder.createMessage(cbor, headers.getMessageHeaders());
+    }
+
+    /**
+     * CONNECT 전에 세션 종류를 기록 (SockJS 세션은 바이너리 프레임 불가)
+     */
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                if (session instanceof SockJsSession) {
+                    session.getAttributes().put(TEXT_ONLY_ATTRIBUTE, Boolean.TRUE);
+                }
+                super.afterConnectionEstablished(session);
+            }
+        };
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionFormats.remove(event.getSessionId());
+    }
+
+    private byte[] toCbor(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = jsonFactory.createParser(json);
+             JsonGenerator generator = cborFactory.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new IllegalStateException("CBOR 변환 실패", e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,353 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.dto.DiaryEditErrorMessageDto;
+import com.anondocs.anondocs_server.dto.UserPrincipalDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 실시간 쓰기 요청 속도 제한 (clientInboundChannel 인터셉터, @MessageMapping 핸들러 앞단)
+ *
+ * - 목적지 패턴별로 세션 단위와 사용자 단위 토큰 버킷을 모두 통과해야 핸들러로 전달
+ *   (사용자 버킷에서 거절되면 세션 버킷에서 받은 토큰은 돌려줌 - 거절된 프레임은 어느 버킷도 소모하지 않음)
+ * - 토큰 버킷은 GCRA(다음 허용 시각 하나만 저장)로 구현해 버킷마다 AtomicLong CAS 한 번으로 판정 (락 없음)
+ * - 거절된 프레임은 버리고 /user/queue/errors 로 RATE_LIMITED 전송 (세션당 초당 최대 1회),
+ *   anondocs.realtime.rate-limited{rule, scope=session|user} 카운터 증가
+ * - RATE_LIMITED 에는 거절된 편집의 clientId/clientSeq 를 담아 클라이언트가 어떤 편집을 다시 보낼지 알 수 있게 함
+ *   (clientId/clientSeq 네이티브 헤더 우선, 없으면 본문 최상위 필드, 배치는 마지막 항목의 seq)
+ *
+ * 규칙 형식 (anondocs.realtime.rate-limit.rules, 쉼표로 구분):
+ *   목적지패턴:세션 초당 허용:세션 버스트:사용자 초당 허용:사용자 버스트
+ */
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    public static final String DEFAULT_RULES =
+            "/app/diaries/create:1:5:2:10,"
+                    + "/app/diaries/*/edit-lww:20:40:40:80,"
+                    + "/app/diaries/*/edit:20:40:40:80,"
+                    + "/app/diaries/*/edit-delta:30:60:60:120,"
+                    + "/app/diaries/*/edit-batch:10:20:20:40,"
+                    + "/app/diaries/*/edit-crdt:30:60:60:120";
+
+    private static final String DIARY_DESTINATION = "/app/diaries/{diaryId}/**";
+    private static final long ERROR_NOTIFY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final DiaryBroadcaster diaryBroadcaster;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final boolean enabled;
+    private final List<Rule> rules;
+
+    private final Map<String, SessionBuckets> sessionBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLongArray> userBuckets = new ConcurrentHashMap<>();
+
+    // brokerChannel 설정(WebSocketConfig)과의 순환 참조를 피하기 위해 브로드캐스터는 지연 주입
+    public StompRateLimitInterceptor(@Lazy DiaryBroadcaster diaryBroadcaster,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${anondocs.realtime.rate-limit.enabled:true}") boolean enabled,
+                                     @Value("${anondocs.realtime.rate-limit.rules:" + DEFAULT_RULES + "}") String rules) {
+        this.diaryBroadcaster = diaryBroadcaster;
+        this.enabled = enabled;
+        this.rules = parseRules(rules, meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (!enabled || accessor == null || !StompCommand.SEND.equals(accessor.getCommand())
+                || accessor.getSessionId() == null || accessor.getDestination() == null) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        int ruleIndex = findRule(destination);
+        if (ruleIndex < 0) {
+            return message;
+        }
+        Rule rule = rules.get(ruleIndex);
+        long now = System.nanoTime();
+
+        // 1. 세션 버킷
+        SessionBuckets session = sessionBuckets.computeIfAbsent(accessor.getSessionId(),
+                id -> new SessionBuckets(rules.size(), now));
+        long retryAfterNanos = tryAcquire(session.tats, ruleIndex, now, rule.sessionIntervalNanos(), rule.sessionToleranceNanos());
+        if (retryAfterNanos > 0) {
+            rule.sessionRejected().increment();
+            reject(message, accessor, session, destination, now, retryAfterNanos);
+            return null;
+        }
+
+        // 2. 사용자 버킷 (같은 사용자의 여러 세션 합산)
+        Long userId = userId(accessor);
+        if (userId != null) {
+            AtomicLongArray tats = userBuckets.computeIfAbsent(userId, id -> newTats(rules.size(), now));
+            retryAfterNanos = tryAcquire(tats, ruleIndex, now, rule.userIntervalNanos(), rule.userToleranceNanos());
+            if (retryAfterNanos > 0) {
+                // 전달하지 않은 프레임이 세션 버킷을 소모하지 않도록 1 에서 받은 토큰을 돌려줌
+                release(session.tats, ruleIndex, rule.sessionIntervalNanos());
+                rule.userRejected().increment();
+                reject(message, accessor, session, destination, now, retryAfterNanos);
+                return null;
+            }
+        }
+
+        return message;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionBuckets.remove(event.getSessionId());
+    }
+
+    // 버킷이 가득 찬(모든 허용 시각이 지난) 사용자는 상태가 초기값과 같으므로 제거
+    @Scheduled(fixedDelay = 60_000)
+    public void removeIdleUserBuckets() {
+        long now = System.nanoTime();
+        userBuckets.values().removeIf(tats -> {
+            for (int i = 0; i < tats.length(); i++) {
+                if (tats.get(i) - now > 0) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * GCRA: tat 는 버킷이 다시 가득 차는 시각. tat - now 가 tolerance 이하면 허용하고 tat 를 interval 만큼 미룸
+     *
+     * @return 0 이면 허용, 양수면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    private static long tryAcquire(AtomicLongArray tats, int index, long now, long interval, long tolerance) {
+        while (true) {
+            long tat = tats.get(index);
+            long base = tat - now > 0 ? tat : now;
+            long waited = base - now - tolerance;
+            if (waited > 0) {
+                return waited;
+            }
+            if (tats.compareAndSet(index, tat, base + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire 로 받은 토큰 반환 (tat 를 interval 만큼 되돌림, 그 사이 다른 획득이 있어도 덧셈이라 순서와 무관)
+     */
+    private static void release(AtomicLongArray tats, int index, long interval) {
+        tats.getAndAdd(index, -interval);
+    }
+
+    private void reject(Message<?> message, StompHeaderAccessor accessor, SessionBuckets session, String destination,
+                        long now, long retryAfterNanos) {
+        log.debug("요청 속도 제한 - 세션: {}, 목적지: {}", accessor.getSessionId(), destination);
+
+        // 거절 알림이 또 다른 폭주가 되지 않도록 세션당 초당 1회만 전송
+        long lastNotified = session.lastNotifiedAt.get();
+        if (now - lastNotified < ERROR_NOTIFY_INTERVAL_NANOS || !session.lastNotifiedAt.compareAndSet(lastNotified, now)
+                || accessor.getUser() == null) {
+            return;
+        }
+
+        ClientRef client = clientRef(message, accessor);
+        DiaryEditErrorMessageDto error = DiaryEditErrorMessageDto.builder()
+                .diaryId(diaryId(destination))
+                .clientId(client.clientId())
+                .clientSeq(client.clientSeq())
+                .code("RATE_LIMITED")
+                .message("요청이 너무 많습니다. 잠시 후 다시 시도하세요.")
+                .retryAfterMillis(Math.max(1, TimeUnit.NANOSECONDS.toMillis(retryAfterNanos)))
+                .build();
+        try {
+            diaryBroadcaster.sendToSession(accessor.getUser().getName(), accessor.getSessionId(), "/queue/errors", error);
+        } catch (Exception e) {
+            log.warn("속도 제한 알림 전송 실패 - 세션: {}", accessor.getSessionId(), e);
+        }
+    }
+
+    /**
+     * 거절된 프레임의 clientId/clientSeq (알림을 보낼 때만 호출되므로 세션당 초당 최대 1회 파싱)
+     */
+    private ClientRef clientRef(Message<?> message, StompHeaderAccessor accessor) {
+        String clientId = accessor.getFirstNativeHeader("clientId");
+        Long clientSeq = parseLong(accessor.getFirstNativeHeader("clientSeq"));
+        if (clientId != null && clientSeq != null) {
+            return new ClientRef(clientId, clientSeq);
+        }
+        if (!(message.getPayload() instanceof byte[] payload) || payload.length == 0) {
+            return new ClientRef(clientId, clientSeq);
+        }
+
+        boolean cbor = accessor.getContentType() != null
+                && StompPayloadFormat.CBOR.getMimeType().isCompatibleWith(accessor.getContentType());
+        try (JsonParser parser = (cbor ? cborFactory : jsonFactory).createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new ClientRef(clientId, clientSeq);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("clientId".equals(field) && clientId == null && value == JsonToken.VALUE_STRING) {
+                    clientId = parser.getText();
+                } else if ("clientSeq".equals(field) && clientSeq == null && value == JsonToken.VALUE_NUMBER_INT) {
+                    clientSeq = parser.getLongValue();
+                } else if ("edits".equals(field) && clientSeq == null && value == JsonToken.START_ARRAY) {
+                    clientSeq = lastBatchSeq(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            log.debug("속도 제한 알림용 본문 파싱 실패 - 세션: {}", accessor.getSessionId());
+        }
+        return new ClientRef(clientId, clientSeq);
+    }
+
+    // 배치 편집 edits 배열에서 마지막 항목의 seq
+    private static Long lastBatchSeq(JsonParser parser) throws IOException {
+        Long seq = null;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("seq".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    seq = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return seq;
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private int findRule(String destination) {
+        for (int i = 0; i < rules.size(); i++) {
+            if (pathMatcher.match(rules.get(i).pattern(), destination)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Long diaryId(String destination) {
+        if (!pathMatcher.match(DIARY_DESTINATION, destination)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(pathMatcher.extractUriTemplateVariables(DIARY_DESTINATION, destination).get("diaryId"));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long userId(StompHeaderAccessor accessor) {
+        if (accessor.getUser() instanceof Authentication auth && auth.getPrincipal() instanceof UserPrincipalDto user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private static AtomicLongArray newTats(int size, long now) {
+        AtomicLongArray tats = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            tats.set(i, now);
+        }
+        return tats;
+    }
+
+    private static List<Rule> parseRules(String rules, MeterRegistry meterRegistry) {
+        List<Rule> parsed = new ArrayList<>();
+        for (String rule : StringUtils.commaDelimitedListToStringArray(rules)) {
+            if (!StringUtils.hasText(rule)) {
+                continue;
+            }
+            String[] parts = rule.trim().split(":");
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("속도 제한 규칙 형식 오류: " + rule);
+            }
+
+            String pattern = parts[0];
+            long sessionInterval = intervalNanos(parts[1]);
+            long userInterval = intervalNanos(parts[3]);
+            parsed.add(new Rule(pattern,
+                    sessionInterval, sessionInterval * (Long.parseLong(parts[2]) - 1),
+                    userInterval, userInterval * (Long.parseLong(parts[4]) - 1),
+                    rejectedCounter(meterRegistry, pattern, "session"),
+                    rejectedCounter(meterRegistry, pattern, "user")));
+        }
+        return parsed;
+    }
+
+    private static long intervalNanos(String perSecond) {
+        return (long) (TimeUnit.SECONDS.toNanos(1) / Double.parseDouble(perSecond));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String pattern, String scope) {
+        return Counter.builder("anondocs.realtime.rate-limited")
+                .description("속도 제한으로 거절된 STOMP 프레임 수")
+                .tag("rule", pattern)
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    private record Rule(String pattern,
+                        long sessionIntervalNanos, long sessionToleranceNanos,
+                        long userIntervalNanos, long userToleranceNanos,
+                        Counter sessionRejected, Counter userRejected) {
+    }
+
+    private record ClientRef(String clientId, Long clientSeq) {
+    }
+
+    private static final class SessionBuckets {
+
+        private final AtomicLongArray tats;
+        private final AtomicLong lastNotifiedAt;
+
+        private SessionBuckets(int size, long now) {
+            this.tats = newTats(size, now);
+            this.lastNotifiedAt = new AtomicLong(now - ERROR_NOTIFY_INTERVAL_NANOS);
+        }
+    }
+}
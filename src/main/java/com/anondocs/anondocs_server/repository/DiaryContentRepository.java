@@ -0,0 +1,21 @@
+package com.anondocs.anondocs_server.repository;
+
+import com.anondocs.anondocs_server.domain.diary.DiaryContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DiaryContentRepository extends JpaRepository<DiaryContent, Long> {
+
+    // 조건부 UPDATE(DiaryRepository.updateMetadataIfOwnerAndVersion) 성공 후 본문만 교체 (data 는 DiaryContent.encode 결과)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update DiaryContent c set c.data = :data, c.compressed = :compressed " +
+            "where c.id = (select d.body.id from Diary d where d.id = :diaryId)")
+    int updateByDiaryId(@Param("diaryId") Long diaryId,
+                        @Param("data") byte[] data,
+                        @Param("compressed") boolean compressed);
+
+}
@@ -2,22 +2,94 @@ package com.anondocs.anondocs_server.repository;
 
 import com.anondocs.anondocs_server.domain.diary.Diary;
 import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
-import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.dto.DiaryFeedItemResponse;
+import com.anondocs.anondocs_server.dto.DiarySummaryResponse;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 
 @Repository
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
 
-    // 내 일기 목록 조회 (삭제되지 않은 것만)
-    Page<Diary> findByUserAndDeletedFalse(User user, Pageable pageable);
+    // 목록 projection (엔티티/영속성 컨텍스트 없이 DTO 로 바로, 본문은 미리보기 컬럼만)
+    String SUMMARY_SELECT = "select new com.anondocs.anondocs_server.dto.DiarySummaryResponse(" +
+            "d.id, d.title, d.contentPreview, d.visibility, d.version, d.createdAt, d.updatedAt, d.publishedAt) " +
+            "from Diary d ";
+    String FEED_ITEM_SELECT = "select new com.anondocs.anondocs_server.dto.DiaryFeedItemResponse(" +
+            "d.id, d.title, d.contentPreview, d.publishedAt, d.createdAt) " +
+            "from Diary d ";
+
+    // 내 일기 목록 조회 (삭제되지 않은 것만, user_id 로 바로 필터)
+    @Query(value = SUMMARY_SELECT + "where d.user.id = :userId and d.deleted = false",
+            countQuery = "select count(d) from Diary d where d.user.id = :userId and d.deleted = false")
+    Page<DiarySummaryResponse> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 내 일기 키셋 조회 - 첫 페이지 (createdAt DESC, id DESC, count 쿼리 없음)
+    @Query(SUMMARY_SELECT + "where d.user.id = :userId and d.deleted = false " +
+            "order by d.createdAt desc, d.id desc")
+    List<DiarySummaryResponse> findMineFirst(@Param("userId") Long userId, Limit limit);
+
+    // 내 일기 키셋 조회 - (createdAt, id) 커서 다음부터
+    @Query(SUMMARY_SELECT + "where d.user.id = :userId and d.deleted = false " +
+            "and (d.createdAt < :createdAt or (d.createdAt = :createdAt and d.id < :id)) " +
+            "order by d.createdAt desc, d.id desc")
+    List<DiarySummaryResponse> findMineAfter(@Param("userId") Long userId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Limit limit);
 
     // 익명 공개 피드용 (삭제되지 않고 ANONYMOUS인 것만)
-    Page<Diary> findByVisibilityAndDeletedFalse(DiaryVisibility visibility, Pageable pageable);
+    @Query(value = FEED_ITEM_SELECT + "where d.visibility = :visibility and d.deleted = false",
+            countQuery = "select count(d) from Diary d where d.visibility = :visibility and d.deleted = false")
+    Page<DiaryFeedItemResponse> findFeedItems(@Param("visibility") DiaryVisibility visibility, Pageable pageable);
+
+    // 공개 피드 키셋 조회 - 첫 페이지 (publishedAt DESC, id DESC, count 쿼리 없음)
+    @Query(FEED_ITEM_SELECT + "where d.visibility = :visibility and d.deleted = false " +
+            "order by d.publishedAt desc, d.id desc")
+    List<DiaryFeedItemResponse> findFeedFirst(@Param("visibility") DiaryVisibility visibility, Limit limit);
+
+    // 공개 피드 키셋 조회 - (publishedAt, id) 커서 다음부터 (앞 페이지 행을 건너뛰지 않고 인덱스에서 바로 시작)
+    @Query(FEED_ITEM_SELECT + "where d.visibility = :visibility and d.deleted = false " +
+            "and (d.publishedAt < :publishedAt or (d.publishedAt = :publishedAt and d.id < :id)) " +
+            "order by d.publishedAt desc, d.id desc")
+    List<DiaryFeedItemResponse> findFeedAfter(@Param("visibility") DiaryVisibility visibility,
+                                              @Param("publishedAt") LocalDateTime publishedAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
+
+    // 본문이 필요한 단건 조회 (diary + diary_content 한 번에, 그 외 findById 는 diary 행만 읽음)
+    @EntityGraph(attributePaths = "body")
+    Optional<Diary> findWithContentById(Long id);
+
+    // 버전 기반 편집 조건부 UPDATE: 소유자/버전/삭제 여부 확인 + 미리보기 쓰기 + 버전 변경 (0이면 실패)
+    // 본문 자체는 같은 트랜잭션에서 DiaryContentRepository.updateByDiaryId 로 저장
+    // newVersion: 단건 편집은 expectedVersion + 1, 편집 액터 group commit 은 묶음에 적용한 편집 수만큼 증가한 값
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Diary d set d.contentPreview = :contentPreview, " +
+            "d.version = :newVersion, d.updatedAt = :updatedAt " +
+            "where d.id = :diaryId and d.user.id = :userId and d.version = :expectedVersion and d.deleted = false")
+    int updateMetadataIfOwnerAndVersion(@Param("diaryId") Long diaryId,
+                                        @Param("userId") Long userId,
+                                        @Param("contentPreview") String contentPreview,
+                                        @Param("expectedVersion") Long expectedVersion,
+                                        @Param("newVersion") Long newVersion,
+                                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 조건부 UPDATE 실패 시 원인 판별용 (본문 제외)
+    @Query("select d.version as version, d.user.id as userId, d.deleted as deleted from Diary d where d.id = :diaryId")
+    Optional<DiaryVersionView> findVersionViewById(@Param("diaryId") Long diaryId);
 
 }
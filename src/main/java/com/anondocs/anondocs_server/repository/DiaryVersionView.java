@@ -0,0 +1,14 @@
+package com.anondocs.anondocs_server.repository;
+
+/**
+ * 조건부 UPDATE 실패 원인(없음/삭제/소유자/버전) 판별용 projection
+ * 본문(@Lob)과 User 프록시를 로드하지 않는다.
+ */
+public interface DiaryVersionView {
+
+    Long getVersion();
+
+    Long getUserId();
+
+    boolean isDeleted();
+}
@@ -2,6 +2,9 @@ package com.anondocs.anondocs_server.repository;
 
 import com.anondocs.anondocs_server.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +15,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // 일기 수 카운터 (count(*) 대신 유지되는 값, User 엔티티 로드 없음)
+    @Query("select u.diaryCount from User u where u.id = :userId")
+    Optional<Long> findDiaryCountById(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update User u set u.diaryCount = u.diaryCount + :delta where u.id = :userId")
+    int addDiaryCount(@Param("userId") Long userId, @Param("delta") long delta);
 }
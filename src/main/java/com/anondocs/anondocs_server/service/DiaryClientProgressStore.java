@@ -0,0 +1,48 @@
+package com.anondocs.anondocs_server.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일기+클라이언트별 마지막 적용 seq 와 그때의 버전 (재전송 중복 제거용)
+ *
+ * - 액터 상태(DiaryEditState)와 분리해서 보관하므로 액터가 유휴 제거/invalidate 로 상태를 버려도 유지됨
+ * - 저장에 성공한 편집의 진행 상황만 기록 (저장 실패로 버려진 편집의 seq 는 남지 않음)
+ * - 마지막 기록 이후 ttl 이 지난 항목은 evictExpired() 로 제거
+ *   (그 뒤에 도착한 재전송은 새 편집으로 처리되므로 ttl 은 클라이언트 재전송 제한 시간보다 길게 둔다)
+ * - 같은 일기의 항목은 그 일기의 액터 스레드에서만 쓰고, 제거는 스케줄러 스레드에서 수행
+ */
+class DiaryClientProgressStore {
+
+    private final Map<Key, ClientProgress> progress = new ConcurrentHashMap<>();
+
+    /**
+     * @return 기록된 진행 상황, 없거나 이미 제거됐으면 null
+     */
+    ClientProgress find(Long diaryId, String clientId) {
+        return progress.get(new Key(diaryId, clientId));
+    }
+
+    void record(Long diaryId, String clientId, Long seq, Long version, long now) {
+        progress.put(new Key(diaryId, clientId), new ClientProgress(seq, version, now));
+    }
+
+    /**
+     * @return 제거한 항목 수
+     */
+    int evictExpired(long now, long ttlMillis) {
+        int before = progress.size();
+        progress.values().removeIf(entry -> now - entry.updatedMillis() >= ttlMillis);
+        return before - progress.size();
+    }
+
+    int size() {
+        return progress.size();
+    }
+
+    record ClientProgress(Long seq, Long version, long updatedMillis) {
+    }
+
+    private record Key(Long diaryId, String clientId) {
+    }
+}
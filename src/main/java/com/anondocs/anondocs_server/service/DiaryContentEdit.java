@@ -0,0 +1,65 @@
+package com.anondocs.anondocs_server.service;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 편집 액터에 제출하는 편집 연산
+ *
+ * - baseVersion: 클라이언트가 편집을 시작한 버전
+ * - steps: baseVersion 본문에 순서대로 적용할 변경들 (배치 편집이면 여러 개, 적용할 수 없으면 예외)
+ * - clientId: 재전송 중복 제거용 클라이언트 식별자 (없으면 중복 제거 안 함)
+ *
+ * baseVersion 이 현재 버전과 다르면 액터가 보관 중인 해당 버전 본문에 steps 를 적용한 뒤
+ * 현재 본문과 3-way 병합한다. 여러 step 은 버전 하나로 함께 반영된다.
+ */
+@Getter
+public class DiaryContentEdit {
+
+    private final Long baseVersion;
+    private final String clientId;
+    private final List<Step> steps;
+
+    public DiaryContentEdit(Long baseVersion, UnaryOperator<String> change) {
+        this(baseVersion, null, List.of(new Step(null, change)));
+    }
+
+    public DiaryContentEdit(Long baseVersion, String clientId, List<Step> steps) {
+        this.baseVersion = baseVersion;
+        this.clientId = clientId;
+        this.steps = List.copyOf(steps);
+    }
+
+    /**
+     * @return 마지막 step 의 clientSeq (없으면 null)
+     */
+    public Long getLastClientSeq() {
+        return steps.isEmpty() ? null : steps.get(steps.size() - 1).clientSeq();
+    }
+
+    public String applyTo(String baseContent) {
+        return applyTo(baseContent, null);
+    }
+
+    /**
+     * appliedSeq 이하의 step 은 이미 반영된 것으로 보고 건너뛴다.
+     */
+    public String applyTo(String baseContent, Long appliedSeq) {
+        String content = baseContent;
+        for (Step step : steps) {
+            if (appliedSeq != null && step.clientSeq() != null && step.clientSeq() <= appliedSeq) {
+                continue;
+            }
+            content = step.change().apply(content);
+        }
+        return content;
+    }
+
+    /**
+     * @param clientSeq 클라이언트가 붙인 순번 (단건 편집이면 null 가능)
+     */
+    public record Step(Long clientSeq, UnaryOperator<String> change) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.anondocs.anondocs_server.service;
+
+import com.anondocs.anondocs_server.dto.DiaryEditOperationDto;
+import com.anondocs.anondocs_server.exception.InvalidDiaryDeltaException;
+
+import java.util.List;
+
+/**
+ * 위치 기반 삽입/삭제 연산을 본문에 적용하는 유틸리티
+ * 연산은 순서대로 적용되며, 각 연산의 position 은 직전 연산까지 반영된 본문 기준이다.
+ */
+public final class DiaryDeltaApplier {
+
+    private DiaryDeltaApplier() {
+    }
+
+    public static String apply(String content, List<DiaryEditOperationDto> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new InvalidDiaryDeltaException("편집 연산이 비어 있습니다.");
+        }
+
+        StringBuilder builder = new StringBuilder(content == null ? "" : content);
+
+        for (DiaryEditOperationDto operation : operations) {
+            if (operation.getType() == null || operation.getPosition() == null) {
+                throw new InvalidDiaryDeltaException("연산 종류와 위치는 필수입니다.");
+            }
+
+            int position = operation.getPosition();
+
+            switch (operation.getType()) {
+                case INSERT -> {
+                    String text = operation.getText();
+                    if (text == null || text.isEmpty()) {
+                        throw new InvalidDiaryDeltaException("삽입할 내용이 비어 있습니다.");
+                    }
+                    if (position < 0 || position > builder.length()) {
+                        throw new InvalidDiaryDeltaException("삽입 위치가 본문 범위를 벗어났습니다: " + position);
+                    }
+                    builder.insert(position, text);
+                }
+                case DELETE -> {
+                    Integer length = operation.getLength();
+                    if (length == null || length <= 0) {
+                        throw new InvalidDiaryDeltaException("삭제 길이는 1 이상이어야 합니다.");
+                    }
+                    if (position < 0 || position > builder.length() || length > builder.length() - position) {
+                        throw new InvalidDiaryDeltaException("삭제 범위가 본문 범위를 벗어났습니다: " + position + "+" + length);
+                    }
+                    builder.delete(position, position + length);
+                }
+            }
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,268 @@
+package com.anondocs.anondocs_server.service;
+
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.exception.DiaryVersionConflictException;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * 일기 하나의 편집을 직렬로 처리하는 single-writer 액터
+ *
+ * - 메일박스에 쌓인 편집을 공유 스레드 풀 위에서 한 번에 하나씩, 도착 순서대로 적용
+ * - 현재 본문/버전을 메모리에 들고 있어서 편집마다 엔티티를 다시 로드하지 않음
+ * - baseVersion 이 오래된 편집은 최근 버전 윈도우에서 공통 조상을 찾아 3-way 병합, 병합이 안 될 때만 충돌
+ * - 한 번에 꺼낸 편집 묶음은 메모리에 모두 적용한 뒤 조건부 UPDATE 한 번으로 저장 (group commit)
+ * - 저장이 끝난 뒤에 콜백을 호출하므로, 브로드캐스트되는 편집은 항상 DB에 반영된 상태
+ * - clientId/clientSeq 가 있는 편집은 클라이언트별 마지막 적용 seq 이하이면 건너뛰어 재전송을 멱등하게 처리
+ *   (적용 seq 는 액터 시스템의 DiaryClientProgressStore 에 저장 성공 후 기록되므로 상태를 다시 로드해도 유지)
+ * - 액터 밖(LWW/CRDT)에서 본문이 저장되면 invalidate() 로 표시하고, 다음 처리 전에 DB에서 다시 로드
+ * - 스레드 풀이 종료돼 실행이 거절되면 남은 편집은 처리하지 않고 실패로 콜백
+ */
+@Slf4j
+class DiaryEditActor {
+
+    private final Long diaryId;
+    private final DiaryService diaryService;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final int revisionWindow;
+    private final MergeMetrics mergeMetrics;
+    private final DiaryClientProgressStore progressStore;
+
+    private final Queue<Command> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean invalidated = new AtomicBoolean();
+
+    private volatile long lastActivityMillis = System.currentTimeMillis();
+    private boolean retired;
+
+    // 액터 스레드 전용
+    private DiaryEditState state;
+
+    DiaryEditActor(Long diaryId, DiaryService diaryService, Executor executor,
+                   int maxBatchSize, int revisionWindow, MergeMetrics mergeMetrics,
+                   DiaryClientProgressStore progressStore) {
+        this.diaryId = diaryId;
+        this.diaryService = diaryService;
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+        this.revisionWindow = revisionWindow;
+        this.mergeMetrics = mergeMetrics;
+        this.progressStore = progressStore;
+    }
+
+    /**
+     * @return 이미 제거된 액터면 false (호출자가 새 액터로 다시 제출)
+     */
+    synchronized boolean offer(Long userId, DiaryContentEdit edit, BiConsumer<DiaryEditResult, Throwable> callback) {
+        if (retired) {
+            return false;
+        }
+        lastActivityMillis = System.currentTimeMillis();
+        mailbox.add(new Command(userId, edit, callback));
+        if (scheduled.compareAndSet(false, true)) {
+            schedule();
+        }
+        return true;
+    }
+
+    /**
+     * 메모리 상태가 DB와 달라졌음을 표시 (다음 처리 전에 다시 로드)
+     */
+    void invalidate() {
+        invalidated.set(true);
+    }
+
+    /**
+     * 처리 중이거나 대기 중인 편집이 없고 ttl 동안 활동이 없으면 제거 상태로 전환
+     */
+    synchronized boolean retireIfIdle(long now, long idleTtlMillis) {
+        if (scheduled.get() || !mailbox.isEmpty() || now - lastActivityMillis < idleTtlMillis) {
+            return false;
+        }
+        retired = true;
+        return true;
+    }
+
+    private void drain() {
+        List<Command> batch = new ArrayList<>();
+        Command command;
+        while (batch.size() < maxBatchSize && (command = mailbox.poll()) != null) {
+            batch.add(command);
+        }
+
+        try {
+            process(batch);
+        } catch (Exception e) {
+            log.error("편집 액터 처리 실패 - 일기: {}", diaryId, e);
+        } finally {
+            scheduled.set(false);
+            if (!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+                schedule();
+            }
+        }
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // 종료 중인 스레드 풀 -> 남은 편집은 실패로 응답 (scheduled 를 먼저 풀어야 이후 offer 도 여기로 옴)
+            scheduled.set(false);
+            rejectPending();
+        }
+    }
+
+    private void rejectPending() {
+        IllegalStateException failure = new IllegalStateException("서버가 종료 중이라 편집을 처리할 수 없습니다.");
+        Command command;
+        while ((command = mailbox.poll()) != null) {
+            try {
+                command.callback.accept(null, failure);
+            } catch (Exception e) {
+                log.error("편집 콜백 실패 - 일기: {}", diaryId, e);
+            }
+        }
+    }
+
+    private void process(List<Command> batch) {
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+
+        // 0. 액터 밖에서 저장된 본문이 있으면 다시 로드
+        if (invalidated.getAndSet(false)) {
+            state = null;
+        }
+
+        // 1. 메모리 상태에 순서대로 적용
+        for (Command command : batch) {
+            try {
+                DiaryEditState current = loadIfNeeded(command.userId);
+                if (!current.getOwnerId().equals(command.userId)) {
+                    throw new SecurityException("본인의 일기만 수정할 수 있습니다.");
+                }
+
+                outcomes.add(new Outcome(command, apply(current, command.edit), null));
+            } catch (Exception e) {
+                outcomes.add(new Outcome(command, null, e));
+            }
+        }
+
+        // 2. 바뀐 내용이 있으면 한 번에 저장
+        if (state != null && state.isDirty()) {
+            RuntimeException persistFailure = persist();
+            if (persistFailure != null) {
+                outcomes.replaceAll(outcome -> outcome.error == null
+                        ? new Outcome(outcome.command, null, persistFailure)
+                        : outcome);
+            }
+        }
+
+        // 3. 도착 순서대로 콜백 (액터 스레드에서 호출되므로 일기 내 브로드캐스트 순서 보장)
+        for (Outcome outcome : outcomes) {
+            try {
+                outcome.command.callback.accept(outcome.result, outcome.error);
+            } catch (Exception e) {
+                log.error("편집 콜백 실패 - 일기: {}", diaryId, e);
+            }
+        }
+    }
+
+    private DiaryEditResult apply(DiaryEditState current, DiaryContentEdit edit) {
+        String clientId = edit.getClientId();
+        Long lastSeq = edit.getLastClientSeq();
+        Long appliedSeq = clientId == null ? null : current.getLastAppliedSeq(clientId);
+        Long baseVersion = edit.getBaseVersion();
+
+        if (appliedSeq != null && lastSeq != null) {
+            // 이미 전부 적용한 편집의 재전송 -> 상태 변경 없이 현재 상태로 응답
+            if (lastSeq <= appliedSeq) {
+                return new DiaryEditResult(diaryId, current.getContent(), current.getVersion(), false, clientId, appliedSeq);
+            }
+            // 앞부분만 적용된 배치 -> 남은 step 은 그 적용 결과 버전 위에서 이어서 적용
+            if (edit.getSteps().get(0).clientSeq() != null && edit.getSteps().get(0).clientSeq() <= appliedSeq) {
+                baseVersion = current.getClientVersion(clientId);
+            }
+        }
+
+        boolean stale = !current.getVersion().equals(baseVersion);
+        current.apply(stale
+                ? merge(current, baseVersion, edit, appliedSeq)
+                : edit.applyTo(current.getContent(), appliedSeq));
+
+        if (clientId != null && lastSeq != null) {
+            current.recordClientSeq(clientId, lastSeq);
+        }
+        return new DiaryEditResult(diaryId, current.getContent(), current.getVersion(), stale, clientId, lastSeq);
+    }
+
+    /**
+     * 오래된 baseVersion 편집을 현재 본문과 3-way 병합
+     * 공통 조상이 윈도우 밖이거나 변경 구간이 겹치면 DiaryVersionConflictException
+     */
+    private String merge(DiaryEditState current, Long baseVersion, DiaryContentEdit edit, Long appliedSeq) {
+        mergeMetrics.conflicts().increment();
+
+        String base = current.findRevision(baseVersion);
+        String merged = base == null
+                ? null
+                : DiaryThreeWayMerger.merge(base, edit.applyTo(base, appliedSeq), current.getContent());
+
+        if (merged == null) {
+            mergeMetrics.rejected().increment();
+            throw new DiaryVersionConflictException("일기가 다른 사용자에 의해 이미 수정되었습니다.", current.getVersion());
+        }
+
+        mergeMetrics.merged().increment();
+        log.debug("버전 충돌 병합 - 일기: {}, 기준 버전: {}, 현재 버전: {}", diaryId, baseVersion, current.getVersion());
+        return merged;
+    }
+
+    private RuntimeException persist() {
+        try {
+            boolean saved = diaryService.saveEditedContent(
+                    state.getOwnerId(), diaryId, state.getContent(), state.getPersistedVersion(), state.getVersion());
+            if (saved) {
+                state.markPersisted();
+                return null;
+            }
+
+            // 액터 밖(LWW/CRDT 등)에서 DB가 바뀌었거나 삭제/소유자 변경 -> 메모리 편집을 버리고 다시 로드
+            Long ownerId = state.getOwnerId();
+            state = null;
+            Long currentVersion = loadIfNeeded(ownerId).getVersion();
+            return new DiaryVersionConflictException("일기가 다른 경로로 이미 수정되었습니다.", currentVersion);
+
+        } catch (RuntimeException e) {
+            log.error("편집 액터 저장 실패 - 일기: {}", diaryId, e);
+            state = null; // 다음 편집에서 DB 기준으로 다시 로드
+            return e;
+        }
+    }
+
+    private DiaryEditState loadIfNeeded(Long userId) {
+        if (state == null) {
+            Diary diary = diaryService.getMyDiary(userId, diaryId);
+            state = new DiaryEditState(diaryId, userId, diary.getContent(), diary.getVersion(), revisionWindow,
+                    progressStore);
+        }
+        return state;
+    }
+
+    record MergeMetrics(Counter conflicts, Counter merged, Counter rejected) {
+    }
+
+    private record Command(Long userId, DiaryContentEdit edit, BiConsumer<DiaryEditResult, Throwable> callback) {
+    }
+
+    private record Outcome(Command command, DiaryEditResult result, Exception error) {
+    }
+}
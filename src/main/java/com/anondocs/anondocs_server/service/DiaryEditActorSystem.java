@@ -0,0 +1,180 @@
+package com.anondocs.anondocs_server.service;
+
+import com.anondocs.anondocs_server.dto.DiaryEditBatchItemDto;
+import com.anondocs.anondocs_server.dto.DiaryEditOperationDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * 버전 기반 편집(/edit, /edit-delta, /edit-batch)을 일기별 single-writer 액터로 처리
+ *
+ * - 같은 일기의 편집은 하나의 액터에서 도착 순서대로 적용되므로 DB 행 락 경합/낙관적 락 재시도가 없음
+ * - 서로 다른 일기의 액터는 공유 스레드 풀(anondocs.diary.actor.threads) 위에서 병렬로 실행
+ * - 결과는 콜백으로 전달되며 콜백은 액터 스레드에서 저장 이후에 호출됨
+ * - 오래된 버전 기준 편집은 최근 revision-window 개 버전 안에서 3-way 병합을 시도
+ *   (anondocs.diary.edit.conflicts = 충돌 수, anondocs.diary.edit.merges{result=merged|rejected} = 병합 결과)
+ * - idle-ttl-ms 동안 편집이 없는 액터는 제거 (다음 편집 때 DB에서 다시 로드)
+ * - 재전송 중복 제거용 클라이언트별 적용 seq 는 액터와 별도로 client-progress-ttl-ms 동안 보관
+ *   (액터 제거/invalidate 후에도 유지, ttl 이 지난 뒤 도착한 재전송은 새 편집으로 처리)
+ * - LWW/CRDT 경로가 본문을 저장하면 invalidate() 로 해당 액터의 메모리 상태를 버림
+ * - 종료(shutdown) 이후 제출된 편집은 실패로 콜백
+ */
+@Slf4j
+@Component
+public class DiaryEditActorSystem {
+
+    private final DiaryService diaryService;
+    private final ExecutorService executor;
+    private final int maxBatchSize;
+    private final int revisionWindow;
+    private final DiaryEditActor.MergeMetrics mergeMetrics;
+    private final DiaryClientProgressStore progressStore = new DiaryClientProgressStore();
+
+    private final Map<Long, DiaryEditActor> actors = new ConcurrentHashMap<>();
+
+    @Value("${anondocs.diary.actor.idle-ttl-ms:300000}")
+    private long idleTtlMillis;
+
+    @Value("${anondocs.diary.actor.client-progress-ttl-ms:1800000}")
+    private long clientProgressTtlMillis;
+
+    public DiaryEditActorSystem(DiaryService diaryService,
+                                MeterRegistry meterRegistry,
+                                @Value("${anondocs.diary.actor.threads:4}") int threads,
+                                @Value("${anondocs.diary.actor.max-batch-size:64}") int maxBatchSize,
+                                @Value("${anondocs.diary.actor.revision-window:32}") int revisionWindow) {
+        this.diaryService = diaryService;
+        this.maxBatchSize = maxBatchSize;
+        this.revisionWindow = revisionWindow;
+        this.mergeMetrics = new DiaryEditActor.MergeMetrics(
+                Counter.builder("anondocs.diary.edit.conflicts")
+                        .description("baseVersion 이 현재 버전과 달랐던 편집 수")
+                        .register(meterRegistry),
+                Counter.builder("anondocs.diary.edit.merges")
+                        .description("버전 충돌 편집의 3-way 병합 결과")
+                        .tag("result", "merged")
+                        .register(meterRegistry),
+                Counter.builder("anondocs.diary.edit.merges")
+                        .description("버전 충돌 편집의 3-way 병합 결과")
+                        .tag("result", "rejected")
+                        .register(meterRegistry));
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "diary-edit-actor-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 전체 본문 + 기대 버전 편집 (버전이 다르고 병합도 안 되면 DiaryVersionConflictException)
+     * clientId/clientSeq 는 선택값이며, 주어지면 같은 seq 의 재전송은 한 번만 반영된다.
+     */
+    public void submitVersionedEdit(Long userId, Long diaryId, String content, Long expectedVersion,
+                                    String clientId, Long clientSeq,
+                                    BiConsumer<DiaryEditResult, Throwable> callback) {
+        submit(userId, diaryId, singleStep(expectedVersion, clientId, clientSeq, base -> content), callback);
+    }
+
+    /**
+     * 델타 편집 (연산 위치는 baseVersion 본문 기준)
+     */
+    public void submitDeltaEdit(Long userId, Long diaryId, List<DiaryEditOperationDto> operations, Long baseVersion,
+                                String clientId, Long clientSeq,
+                                BiConsumer<DiaryEditResult, Throwable> callback) {
+        submit(userId, diaryId,
+                singleStep(baseVersion, clientId, clientSeq, base -> DiaryDeltaApplier.apply(base, operations)),
+                callback);
+    }
+
+    /**
+     * 배치 편집: 항목들을 baseVersion 본문에 순서대로 적용해 버전 하나로 반영 (하나라도 실패하면 전부 미반영)
+     * 항목은 전체 본문(content) 또는 직전 항목 결과 기준의 델타(operations) 중 하나
+     */
+    public void submitBatchEdit(Long userId, Long diaryId, String clientId, Long baseVersion,
+                                List<DiaryEditBatchItemDto> items,
+                                BiConsumer<DiaryEditResult, Throwable> callback) {
+        List<DiaryContentEdit.Step> steps = new ArrayList<>(items.size());
+        for (DiaryEditBatchItemDto item : items) {
+            if (item.getContent() != null) {
+                String content = item.getContent();
+                steps.add(new DiaryContentEdit.Step(item.getSeq(), base -> content));
+            } else {
+                List<DiaryEditOperationDto> operations = item.getOperations();
+                steps.add(new DiaryContentEdit.Step(item.getSeq(), base -> DiaryDeltaApplier.apply(base, operations)));
+            }
+        }
+        submit(userId, diaryId, new DiaryContentEdit(baseVersion, clientId, steps), callback);
+    }
+
+    public void submit(Long userId, Long diaryId, DiaryContentEdit edit,
+                       BiConsumer<DiaryEditResult, Throwable> callback) {
+        while (true) {
+            DiaryEditActor actor = actors.computeIfAbsent(diaryId,
+                    id -> new DiaryEditActor(id, diaryService, executor, maxBatchSize, revisionWindow, mergeMetrics,
+                            progressStore));
+            if (actor.offer(userId, edit, callback)) {
+                return;
+            }
+            // 제거 직후의 액터를 잡은 경우 -> 새 액터로 다시 시도
+            actors.remove(diaryId, actor);
+        }
+    }
+
+    /**
+     * 액터 밖에서 본문이 저장된 뒤 호출 (다음 편집은 DB의 최신 본문/버전 기준으로 처리)
+     */
+    public void invalidate(Long diaryId) {
+        DiaryEditActor actor = actors.get(diaryId);
+        if (actor != null) {
+            actor.invalidate();
+        }
+    }
+
+    private static DiaryContentEdit singleStep(Long baseVersion, String clientId, Long clientSeq,
+                                               UnaryOperator<String> change) {
+        return new DiaryContentEdit(baseVersion, clientId, List.of(new DiaryContentEdit.Step(clientSeq, change)));
+    }
+
+    @Scheduled(fixedDelayString = "${anondocs.diary.actor.idle-check-interval-ms:60000}")
+    public void retireIdleActors() {
+        long now = System.currentTimeMillis();
+        actors.forEach((diaryId, actor) -> {
+            if (actor.retireIfIdle(now, idleTtlMillis)) {
+                actors.remove(diaryId, actor);
+            }
+        });
+
+        int expired = progressStore.evictExpired(now, clientProgressTtlMillis);
+        if (expired > 0) {
+            log.debug("만료된 클라이언트 적용 seq 제거 - {}건, 남은 수: {}", expired, progressStore.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 액터는 배치마다 바로 저장하므로, 남은 메일박스만 처리되도록 기다린다
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("편집 액터 종료 대기 시간 초과 - 남은 액터 수: {}", actors.size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.anondocs.anondocs_server.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 편집 액터가 반영한 편집 결과 (브로드캐스트용)
+ * merged 가 true 면 오래된 baseVersion 편집을 서버에서 3-way 병합한 결과
+ * clientSeq 는 이 결과에 반영된 해당 클라이언트의 마지막 seq (clientId 가 없으면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class DiaryEditResult {
+
+    private final Long diaryId;
+    private final String content;
+    private final Long version;
+    private final boolean merged;
+    private final String clientId;
+    private final Long clientSeq;
+}
@@ -0,0 +1,116 @@
+package com.anondocs.anondocs_server.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 편집 액터가 보관하는 일기의 권위 있는(authoritative) 현재 상태
+ * 충돌 병합의 공통 조상으로 쓰기 위해 최근 revisionWindow 개 버전의 본문도 함께 보관한다.
+ * 재전송 중복 제거용 클라이언트별 마지막 적용 seq 는 DiaryClientProgressStore 에 두고,
+ * 아직 저장되지 않은 편집의 seq 만 여기 보관했다가 저장에 성공하면(markPersisted) 옮긴다.
+ * 액터 스레드 안에서만 읽고 쓴다.
+ */
+@Getter
+public class DiaryEditState {
+
+    private final Long diaryId;
+    private final Long ownerId;
+    private String content;
+    private Long version;
+
+    // DB에 마지막으로 반영된 버전 (조건부 UPDATE 의 기준)
+    private Long persistedVersion;
+
+    private final int revisionWindow;
+    private final Deque<Revision> revisions = new ArrayDeque<>();
+
+    @Getter(AccessLevel.NONE)
+    private final DiaryClientProgressStore progressStore;
+
+    // 메모리에 적용했지만 아직 저장되지 않은 편집의 clientId -> seq/버전
+    @Getter(AccessLevel.NONE)
+    private final Map<String, PendingProgress> pendingProgress = new HashMap<>();
+
+    DiaryEditState(Long diaryId, Long ownerId, String content, Long version, int revisionWindow,
+                   DiaryClientProgressStore progressStore) {
+        this.diaryId = diaryId;
+        this.ownerId = ownerId;
+        this.content = content;
+        this.version = version;
+        this.persistedVersion = version;
+        this.revisionWindow = Math.max(1, revisionWindow);
+        this.progressStore = progressStore;
+        this.revisions.addLast(new Revision(version, content));
+    }
+
+    /**
+     * @return 해당 버전의 본문, 윈도우 밖이면 null
+     */
+    public String findRevision(Long targetVersion) {
+        for (Revision revision : revisions) {
+            if (revision.version.equals(targetVersion)) {
+                return revision.content;
+            }
+        }
+        return null;
+    }
+
+    public Long getLastAppliedSeq(String clientId) {
+        PendingProgress pending = pendingProgress.get(clientId);
+        if (pending != null) {
+            return pending.seq();
+        }
+        DiaryClientProgressStore.ClientProgress progress = progressStore.find(diaryId, clientId);
+        return progress == null ? null : progress.seq();
+    }
+
+    /**
+     * @return 해당 클라이언트의 마지막 편집이 반영된 버전
+     */
+    public Long getClientVersion(String clientId) {
+        PendingProgress pending = pendingProgress.get(clientId);
+        if (pending != null) {
+            return pending.version();
+        }
+        DiaryClientProgressStore.ClientProgress progress = progressStore.find(diaryId, clientId);
+        return progress == null ? null : progress.version();
+    }
+
+    void recordClientSeq(String clientId, Long seq) {
+        pendingProgress.put(clientId, new PendingProgress(seq, version));
+    }
+
+    void apply(String newContent) {
+        this.content = newContent;
+        this.version = this.version + 1;
+
+        revisions.addLast(new Revision(version, newContent));
+        while (revisions.size() > revisionWindow) {
+            revisions.removeFirst();
+        }
+    }
+
+    boolean isDirty() {
+        return !version.equals(persistedVersion);
+    }
+
+    void markPersisted() {
+        this.persistedVersion = this.version;
+
+        long now = System.currentTimeMillis();
+        pendingProgress.forEach((clientId, pending) ->
+                progressStore.record(diaryId, clientId, pending.seq(), pending.version(), now));
+        pendingProgress.clear();
+    }
+
+    private record Revision(Long version, String content) {
+    }
+
+    private record PendingProgress(Long seq, Long version) {
+    }
+}
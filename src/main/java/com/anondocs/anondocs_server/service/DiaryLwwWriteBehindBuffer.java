@@ -0,0 +1,240 @@
+package com.anondocs.anondocs_server.service;
+
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.exception.DiaryVersionConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LWW 편집용 write-behind 버퍼
+ *
+ * - 일기별로 마지막 본문만 메모리에 보관하고, 주기(flush-interval-ms)마다 또는
+ *   쌓인 편집 수가 max-pending-writes 에 도달하면 한 번에 DB에 저장 (중간 본문 N개 -> UPDATE 1번)
+ * - 일기별 첫 편집은 바로 저장하면서 소유자 검증과 현재 버전을 확보하고, 이후 편집은 메모리에서 소유자만 확인
+ * - LWW 는 버전 체크를 하지 않으므로 브로드캐스트되는 version 은 마지막으로 저장된 버전
+ * - 모아둔 본문의 저장은 마지막으로 저장한 버전 기준 조건부 UPDATE. 그 사이 다른 경로가 저장해 버전이 달라졌으면
+ *   DB의 현재 버전 기준으로 다시 저장 (LWW 이므로 이미 브로드캐스트된 마지막 본문이 이김, 최대 max-conflict-retries 번)
+ *   재시도로도 저장하지 못하면 본문을 버리지 않고 다음 주기에 다시 시도
+ * - 같은 일기의 첫 편집이 동시에 들어오면 버퍼 항목은 하나만 남기고, 버전은 둘 중 큰 값을 유지
+ * - 종료 시(@PreDestroy) 남은 본문을 모두 저장
+ * - 저장할 때마다 편집 액터의 메모리 상태를 무효화 (버전 기반 편집이 DB의 최신 본문 기준으로 처리되도록)
+ */
+@Slf4j
+@Component
+public class DiaryLwwWriteBehindBuffer {
+
+    private final DiaryService diaryService;
+    private final DiaryEditActorSystem diaryEditActorSystem;
+    private final Counter collapsedWrites;
+    private final Counter flushedWrites;
+
+    private final Map<Long, PendingLwwWrite> pendingWrites = new ConcurrentHashMap<>();
+
+    @Value("${anondocs.lww.write-behind.max-pending-writes:50}")
+    private int maxPendingWrites;
+
+    @Value("${anondocs.lww.write-behind.idle-ttl-ms:60000}")
+    private long idleTtlMillis;
+
+    @Value("${anondocs.lww.write-behind.max-conflict-retries:3}")
+    private int maxConflictRetries;
+
+    public DiaryLwwWriteBehindBuffer(DiaryService diaryService, DiaryEditActorSystem diaryEditActorSystem,
+                                     MeterRegistry meterRegistry) {
+        this.diaryService = diaryService;
+        this.diaryEditActorSystem = diaryEditActorSystem;
+        this.collapsedWrites = Counter.builder("anondocs.diary.lww.writes.collapsed")
+                .description("저장 전에 더 최신 본문으로 덮여서 생략된 LWW 쓰기 수")
+                .register(meterRegistry);
+        this.flushedWrites = Counter.builder("anondocs.diary.lww.writes.flushed")
+                .description("실제로 DB에 반영된 LWW 쓰기 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 브로드캐스트에 사용할 버전 (마지막으로 저장된 버전)
+     */
+    public Long submit(Long userId, Long diaryId, String content) {
+        while (true) {
+            PendingLwwWrite pending = pendingWrites.get(diaryId);
+
+            if (pending == null) {
+                // 첫 편집: 동기 저장으로 소유자 검증 + 버전 확보
+                Diary diary = diaryService.updateDiaryContentLww(userId, diaryId, content);
+                diaryEditActorSystem.invalidate(diaryId);
+
+                // 동시에 들어온 다른 첫 편집이 먼저 항목을 만들었으면 더 최신 버전만 반영
+                PendingLwwWrite existing = pendingWrites.putIfAbsent(diaryId,
+                        new PendingLwwWrite(diaryId, userId, diary.getVersion()));
+                if (existing != null) {
+                    synchronized (existing) {
+                        existing.version = Math.max(existing.version, diary.getVersion());
+                    }
+                }
+                return diary.getVersion();
+            }
+
+            boolean flushNow;
+            Long version;
+            synchronized (pending) {
+                if (pending.evicted) {
+                    continue;
+                }
+                if (!pending.ownerId.equals(userId)) {
+                    throw new SecurityException("본인의 일기만 수정할 수 있습니다.");
+                }
+                pending.content = content;
+                pending.pendingCount++;
+                pending.lastAccessMillis = System.currentTimeMillis();
+
+                flushNow = pending.pendingCount >= maxPendingWrites;
+                version = pending.version;
+            }
+
+            if (flushNow) {
+                flush(pending);
+            }
+            return version;
+        }
+    }
+
+    /**
+     * 아직 DB에 저장되지 않은 마지막 LWW 본문 (재연결 스냅샷이 DB보다 오래된 본문을 주지 않도록)
+     */
+    public Optional<String> findPendingContent(Long diaryId) {
+        PendingLwwWrite pending = pendingWrites.get(diaryId);
+        if (pending == null) {
+            return Optional.empty();
+        }
+        synchronized (pending) {
+            return pending.evicted ? Optional.empty() : Optional.ofNullable(pending.content);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${anondocs.lww.write-behind.flush-interval-ms:500}")
+    public void flushPending() {
+        long now = System.currentTimeMillis();
+        for (PendingLwwWrite pending : pendingWrites.values()) {
+            flush(pending);
+            evictIfIdle(pending, now);
+        }
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        pendingWrites.values().forEach(this::flush);
+    }
+
+    private void flush(PendingLwwWrite pending) {
+        // 같은 일기의 저장은 순서대로 (오래된 본문이 최신 본문을 덮지 않도록)
+        synchronized (pending.flushLock) {
+            String content;
+            int count;
+            synchronized (pending) {
+                if (pending.pendingCount == 0) {
+                    return;
+                }
+                content = pending.content;
+                count = pending.pendingCount;
+                pending.content = null;
+                pending.pendingCount = 0;
+            }
+
+            Long expectedVersion;
+            synchronized (pending) {
+                expectedVersion = pending.version;
+            }
+
+            try {
+                Long version = writeLastWins(pending, content, expectedVersion);
+                diaryEditActorSystem.invalidate(pending.diaryId);
+                synchronized (pending) {
+                    pending.version = Math.max(pending.version, version);
+                }
+                flushedWrites.increment();
+                collapsedWrites.increment(count - 1);
+
+            } catch (EntityNotFoundException | SecurityException e) {
+                // 더 이상 저장할 수 없는 일기 -> 버퍼에서 제거
+                log.warn("LWW 버퍼 저장 불가, 제거 - 일기: {}, 사유: {}", pending.diaryId, e.getMessage());
+                evict(pending);
+
+            } catch (Exception e) {
+                log.error("LWW 버퍼 저장 실패, 다음 주기에 재시도 - 일기: {}", pending.diaryId, e);
+                synchronized (pending) {
+                    if (pending.pendingCount == 0) {
+                        pending.content = content;
+                    }
+                    pending.pendingCount += count;
+                }
+            }
+        }
+    }
+
+    /**
+     * 조건부 UPDATE, 버전이 달라졌으면 DB의 현재 버전 기준으로 다시 저장
+     *
+     * @return 저장된 버전
+     */
+    private Long writeLastWins(PendingLwwWrite pending, String content, Long expectedVersion) {
+        Long expected = expectedVersion;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return diaryService.updateDiaryContentAtomically(pending.ownerId, pending.diaryId, content, expected);
+            } catch (DiaryVersionConflictException e) {
+                if (attempt >= maxConflictRetries) {
+                    throw e;
+                }
+                log.debug("LWW 버퍼 저장 버전 충돌, 현재 버전으로 재시도 - 일기: {}, 기준: {}, 현재: {}",
+                        pending.diaryId, expected, e.getCurrentVersion());
+                expected = e.getCurrentVersion();
+            }
+        }
+    }
+
+    private void evict(PendingLwwWrite pending) {
+        synchronized (pending) {
+            pending.evicted = true;
+            pendingWrites.remove(pending.diaryId, pending);
+        }
+    }
+
+    private void evictIfIdle(PendingLwwWrite pending, long now) {
+        synchronized (pending) {
+            if (pending.pendingCount == 0 && now - pending.lastAccessMillis > idleTtlMillis) {
+                pending.evicted = true;
+                pendingWrites.remove(pending.diaryId, pending);
+            }
+        }
+    }
+
+    private static class PendingLwwWrite {
+
+        private final Long diaryId;
+        private final Long ownerId;
+        private final Object flushLock = new Object();
+
+        private String content;
+        private int pendingCount;
+        private Long version;
+        private boolean evicted;
+        private long lastAccessMillis;
+
+        private PendingLwwWrite(Long diaryId, Long ownerId, Long version) {
+            this.diaryId = diaryId;
+            this.ownerId = ownerId;
+            this.version = version;
+            this.lastAccessMillis = System.currentTimeMillis();
+        }
+    }
+}
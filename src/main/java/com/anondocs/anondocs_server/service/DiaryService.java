@@ -2,14 +2,23 @@ package com.anondocs.anondocs_server.service;
 
 import com.anondocs.anondocs_server.domain.diary.Diary;
 import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.dto.DiaryCursor;
+import com.anondocs.anondocs_server.dto.DiaryFeedItemResponse;
+import com.anondocs.anondocs_server.dto.DiarySummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
 
 public interface DiaryService {
 
     Diary createDiary(Long userId, String title, String content, DiaryVisibility diaryVisibility);
 
-    Page<Diary> getMyDiaries(Long userId, Pageable pageable);
+    Page<DiarySummaryResponse> getMyDiaries(Long userId, Pageable pageable);
+
+    Slice<DiarySummaryResponse> getMyDiaries(Long userId, DiaryCursor cursor, int size);
+
+    long countMyDiaries(Long userId);
 
     Diary getMyDiary(Long userId, Long diaryId);
 
@@ -17,10 +26,16 @@ public interface DiaryService {
 
     void deleteDiary(Long userId, Long diaryId);
 
-    Page<Diary> getPublicFeed(Pageable pageable);
+    Page<DiaryFeedItemResponse> getPublicFeed(Pageable pageable);
+
+    Slice<DiaryFeedItemResponse> getPublicFeed(DiaryCursor cursor, int size);
 
     Diary updateDiaryContentLww(Long userId, Long diaryId, String content);
 
-    Diary updateDiaryContentWithVersion(Long userId, Long diaryId, String content, Long expectedVersion);
+    Long updateDiaryContentAtomically(Long userId, Long diaryId, String content, Long expectedVersion);
+
+    boolean updateDiaryContentFromCrdt(Long userId, Long diaryId, String content, Long expectedVersion);
+
+    boolean saveEditedContent(Long userId, Long diaryId, String content, Long expectedVersion, Long newVersion);
 
 }
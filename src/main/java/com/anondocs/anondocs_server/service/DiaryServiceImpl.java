@@ -1,20 +1,34 @@
 package com.anondocs.anondocs_server.service;
 
+import com.anondocs.anondocs_server.auth.DiaryAccessCache;
+import com.anondocs.anondocs_server.dto.DiaryCursor;
+import com.anondocs.anondocs_server.dto.DiaryFeedItemResponse;
+import com.anondocs.anondocs_server.dto.DiarySummaryResponse;
 import com.anondocs.anondocs_server.exception.DiaryVersionConflictException;
+import com.anondocs.anondocs_server.realtime.RealtimeMetrics;
+import com.anondocs.anondocs_server.repository.DiaryContentRepository;
 import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.DiaryVersionView;
 import com.anondocs.anondocs_server.repository.UserRepository;
 import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryContent;
 import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
 import com.anondocs.anondocs_server.domain.user.User;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 
 @Service
 @Transactional
@@ -23,12 +37,20 @@ public class DiaryServiceImpl implements DiaryService{
 
     private final UserRepository userRepository;
     private final DiaryRepository diaryRepository;
+    private final DiaryContentRepository diaryContentRepository;
     private final DiaryAiService diaryAiService;
+    private final DiaryAccessCache diaryAccessCache;
+    private final RealtimeMetrics realtimeMetrics;
 
     public Diary createDiary(Long userId, String title, String content, DiaryVisibility diaryVisibility) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        realtimeMetrics.trackTransaction("create");
+
+        // 카운터 증가 UPDATE 로 사용자 존재도 확인 (User 엔티티/일기 컬렉션을 읽지 않아 기존 일기 수와 무관한 비용)
+        if (userRepository.addDiaryCount(userId, 1) == 0) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
 
+        User user = userRepository.getReferenceById(userId);
         Diary diary = Diary.makeDiary(title, content, diaryVisibility, user);
 
         diary.publishIfAnonymous();
@@ -41,10 +63,7 @@ public class DiaryServiceImpl implements DiaryService{
     }
 
     @Transactional(readOnly = true)
-    public Page<Diary> getMyDiaries(Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
+    public Page<DiarySummaryResponse> getMyDiaries(Long userId, Pageable pageable) {
         Pageable sorted = PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize(),
@@ -53,12 +72,32 @@ public class DiaryServiceImpl implements DiaryService{
                         : pageable.getSort()
         );
 
-        return diaryRepository.findByUserAndDeletedFalse(user, sorted);
+        return diaryRepository.findSummariesByUserId(userId, sorted);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<DiarySummaryResponse> getMyDiaries(Long userId, DiaryCursor cursor, int size) {
+        // User 엔티티를 로드하지 않고 user_id 로 바로 조회
+        Limit limit = Limit.of(size + 1);
+        List<DiarySummaryResponse> diaries = cursor == null
+                ? diaryRepository.findMineFirst(userId, limit)
+                : diaryRepository.findMineAfter(userId, cursor.at(), cursor.id(), limit);
+
+        return toSlice(diaries, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countMyDiaries(Long userId) {
+        return userRepository.findDiaryCountById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
     }
 
     @Transactional(readOnly = true)
     public Diary getMyDiary(Long userId, Long diaryId) {
-        Diary diary = diaryRepository.findById(diaryId)
+        // 호출부(REST 응답, 편집 액터/CRDT 로드, resync)가 트랜잭션 밖에서 본문을 읽으므로 본문까지 함께 로드
+        Diary diary = diaryRepository.findWithContentById(diaryId)
                 .orElseThrow(() -> new EntityNotFoundException("일기를 찾을 수 없습니다."));
 
         if (diary.getUser().getId() != userId) {
@@ -84,6 +123,11 @@ public class DiaryServiceImpl implements DiaryService{
             throw new EntityNotFoundException("삭제된 일기입니다.");
         }
 
+        // 공개 범위가 바뀌면 구독 권한 판정도 다시 (커밋 후 무효화)
+        if (diary.getVisibility() != visibility) {
+            diaryAccessCache.invalidate(diaryId);
+        }
+
         diary.updateDiary(title, content, visibility);
         diary.publishIfAnonymous();
 
@@ -100,11 +144,15 @@ public class DiaryServiceImpl implements DiaryService{
             throw new SecurityException("본인의 일기만 조회할 수 있습니다.");
         }
 
+        if (!diary.isDeleted()) {
+            userRepository.addDiaryCount(userId, -1);
+        }
         diary.Delete();
+        diaryAccessCache.invalidate(diaryId);
     }
 
     @Transactional(readOnly = true)
-    public Page<Diary> getPublicFeed(Pageable pageable) {
+    public Page<DiaryFeedItemResponse> getPublicFeed(Pageable pageable) {
         // 기본 정렬: publishedAt DESC
         Pageable sorted = PageRequest.of(
                 pageable.getPageNumber(),
@@ -114,10 +162,24 @@ public class DiaryServiceImpl implements DiaryService{
                         : pageable.getSort()
         );
 
-        return diaryRepository.findByVisibilityAndDeletedFalse(DiaryVisibility.ANONYMOUS, sorted);
+        return diaryRepository.findFeedItems(DiaryVisibility.ANONYMOUS, sorted);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<DiaryFeedItemResponse> getPublicFeed(DiaryCursor cursor, int size) {
+        // 한 건 더 읽어서 다음 페이지 여부 판단 (count 쿼리 없음)
+        Limit limit = Limit.of(size + 1);
+        List<DiaryFeedItemResponse> diaries = cursor == null
+                ? diaryRepository.findFeedFirst(DiaryVisibility.ANONYMOUS, limit)
+                : diaryRepository.findFeedAfter(DiaryVisibility.ANONYMOUS, cursor.at(), cursor.id(), limit);
+
+        return toSlice(diaries, size);
     }
 
     public Diary updateDiaryContentLww(Long userId, Long diaryId, String content) {
+        realtimeMetrics.trackTransaction("lww");
+
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new EntityNotFoundException("일기를 찾을 수 없습니다."));
 
@@ -129,26 +191,76 @@ public class DiaryServiceImpl implements DiaryService{
         return diary;
     }
 
+    /**
+     * 버전 기반 편집을 조건부 UPDATE 로 처리 (diary 메타데이터 + diary_content 본문 두 문장, 엔티티/본문 로드 없음)
+     * 실패했을 때만 가벼운 projection 으로 원인을 구분한다.
+     *
+     * @return 새 버전
+     */
     @Override
-    public Diary updateDiaryContentWithVersion(Long userId, Long diaryId, String content, Long expectedVersion) {
-        Diary diary = diaryRepository.findById(diaryId)
+    public Long updateDiaryContentAtomically(Long userId, Long diaryId, String content, Long expectedVersion) {
+        realtimeMetrics.trackTransaction("atomic");
+
+        if (writeIfOwnerAndVersion(userId, diaryId, content, expectedVersion, expectedVersion + 1)) {
+            return expectedVersion + 1;
+        }
+
+        DiaryVersionView current = diaryRepository.findVersionViewById(diaryId)
                 .orElseThrow(() -> new EntityNotFoundException("일기를 찾을 수 없습니다."));
 
-        if (!Long.valueOf(diary.getUser().getId()).equals(userId)) {
+        if (current.isDeleted()) {
+            throw new EntityNotFoundException("삭제된 일기입니다.");
+        }
+
+        if (!current.getUserId().equals(userId)) {
             throw new SecurityException("본인의 일기만 수정할 수 있습니다.");
         }
 
-        // 서버 버전 vs 클라이언트 버전 비교
-        Long serverVersion = diary.getVersion();
-        if (!serverVersion.equals(expectedVersion)) {
-            // 이미 다른 사용자가 수정해서 버전이 달라진 상태
-            throw new DiaryVersionConflictException("일기가 다른 사용자에 의해 이미 수정되었습니다.", serverVersion);
+        throw new DiaryVersionConflictException("일기가 다른 사용자에 의해 이미 수정되었습니다.", current.getVersion());
+    }
+
+    @Override
+    public boolean updateDiaryContentFromCrdt(Long userId, Long diaryId, String content, Long expectedVersion) {
+        realtimeMetrics.trackTransaction("crdt");
+
+        // CRDT 문서를 로드한 이후 다른 모드(액터/LWW)가 저장했으면 조건에서 걸러짐 (모드 혼용 방지)
+        return writeIfOwnerAndVersion(userId, diaryId, content, expectedVersion, expectedVersion + 1);
+    }
+
+    @Override
+    public boolean saveEditedContent(Long userId, Long diaryId, String content, Long expectedVersion, Long newVersion) {
+        realtimeMetrics.trackTransaction("actor");
+
+        // 편집 액터가 메모리에서 적용한 결과를 한 번에 반영 (액터의 소유자 확인 이후 소유자가 바뀌었어도 조건에서 걸러짐)
+        return writeIfOwnerAndVersion(userId, diaryId, content, expectedVersion, newVersion);
+    }
+
+    /**
+     * 소유자/버전 조건부로 diary 메타데이터와 diary_content 본문을 같은 트랜잭션에서 갱신 (엔티티 로드 없음)
+     *
+     * 본문이 별도 테이블이라 UPDATE 가 두 문장이 된다. 두 번째 문장은 조건을 통과한 경우에만 실행되는
+     * PK UPDATE 하나이고 추가 SELECT 는 없다. (비용: DiaryContentWriteBenchmarkTest)
+     * 한 문장으로 합치려면 PostgreSQL 의 data-modifying CTE 가 필요해 H2(테스트/벤치마크)에서 실행할 수 없고,
+     * @Lob 매핑(PostgreSQL oid)을 우회하는 네이티브 쿼리가 되므로 두 문장을 유지한다.
+     *
+     * @return 조건을 통과해 저장했으면 true
+     */
+    private boolean writeIfOwnerAndVersion(Long userId, Long diaryId, String content, Long expectedVersion, Long newVersion) {
+        int updated = diaryRepository.updateMetadataIfOwnerAndVersion(
+                diaryId, userId, Diary.preview(content), expectedVersion, newVersion, LocalDateTime.now());
+        if (updated != 1) {
+            return false;
         }
 
-        diary.changeContent(content); // 수정
-        // 트랜잭션 종료 시 JPA가 version을 +1 해줌 (@Version 덕분)
+        DiaryContent.Encoded encoded = DiaryContent.encode(content);
+        diaryContentRepository.updateByDiaryId(diaryId, encoded.data(), encoded.compressed());
+        return true;
+    }
 
-        return diary;
+    private static <T> Slice<T> toSlice(List<T> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package com.anondocs.anondocs_server.service;
+
+/**
+ * 버전 충돌 시 공통 조상(base), 클라이언트 편집(ours), 현재 서버 본문(theirs)을 3-way 병합하는 유틸리티
+ *
+ * 각 편집을 base 기준의 연속된 변경 구간 하나(공통 접두/접미를 제외한 부분)로 보고,
+ * 두 구간이 겹치지 않으면 둘 다 반영한다. 겹치거나 같은 위치에 삽입하면 병합하지 않는다.
+ */
+public final class DiaryThreeWayMerger {
+
+    private DiaryThreeWayMerger() {
+    }
+
+    /**
+     * @return 병합된 본문, 충돌이면 null
+     */
+    public static String merge(String base, String ours, String theirs) {
+        if (ours.equals(theirs) || ours.equals(base)) {
+            return theirs;
+        }
+        if (theirs.equals(base)) {
+            return ours;
+        }
+
+        Hunk our = Hunk.of(base, ours);
+        Hunk their = Hunk.of(base, theirs);
+
+        Hunk first = our.start <= their.start ? our : their;
+        Hunk second = first == our ? their : our;
+
+        // 구간이 겹치거나 같은 지점에서 시작하면 의도를 알 수 없으므로 충돌
+        if (first.end > second.start || first.start == second.start) {
+            return null;
+        }
+
+        return base.substring(0, first.start)
+                + first.replacement
+                + base.substring(first.end, second.start)
+                + second.replacement
+                + base.substring(second.end);
+    }
+
+    /**
+     * base[start, end) 를 replacement 로 바꾸는 변경 구간
+     */
+    private static final class Hunk {
+
+        private final int start;
+        private final int end;
+        private final String replacement;
+
+        private Hunk(int start, int end, String replacement) {
+            this.start = start;
+            this.end = end;
+            this.replacement = replacement;
+        }
+
+        static Hunk of(String base, String edited) {
+            int limit = Math.min(base.length(), edited.length());
+
+            int prefix = 0;
+            while (prefix < limit && base.charAt(prefix) == edited.charAt(prefix)) {
+                prefix++;
+            }
+
+            int suffix = 0;
+            while (suffix < limit - prefix
+                    && base.charAt(base.length() - 1 - suffix) == edited.charAt(edited.length() - 1 - suffix)) {
+                suffix++;
+            }
+
+            return new Hunk(prefix, base.length() - suffix, edited.substring(prefix, edited.length() - suffix));
+        }
+    }
+}
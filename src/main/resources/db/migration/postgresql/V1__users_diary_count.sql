@@ -0,0 +1,17 @@
+-- 일기 수 카운터(users.diary_count) 추가 + 기존 사용자 값 채우기
+--
+-- 기존 PostgreSQL 데이터베이스에 새 버전을 배포하기 전에 한 번 실행 (V1 -> V2 -> V3 순서)
+-- 카운터는 일기 생성/삭제 때 UPDATE 로만 증감하므로 채우지 않으면 기존 사용자는 0 에서 시작한다.
+-- 애플리케이션을 내린 상태에서 실행 (실행 중에 생성/삭제되는 일기는 다시 세지 않음), 다시 실행해도 결과는 같다.
+
+BEGIN;
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS diary_count bigint DEFAULT 0 NOT NULL;
+
+UPDATE users u
+SET diary_count = (SELECT COUNT(*)
+                   FROM diary d
+                   WHERE d.user_id = u.id
+                     AND d.is_deleted = false);
+
+COMMIT;
@@ -0,0 +1,46 @@
+-- 목록 미리보기(diary.content_preview) 추가 + 기존 일기 값 채우기
+--
+-- 기존 PostgreSQL 데이터베이스에 새 버전을 배포하기 전에 한 번 실행 (V1 -> V2 -> V3 순서)
+-- 목록/피드 projection 은 본문 대신 content_preview 만 읽으므로 채우지 않으면 기존 일기의 미리보기가 비어 보인다.
+-- 미리보기가 비어 있는 행만 채우므로 다시 실행해도 된다.
+--
+-- 본문 위치에 따라 읽는 곳이 다름
+-- - V3 이전: diary.content (Hibernate @Lob 매핑이면 oid 대형 객체, text 면 그대로)
+-- - V3 이후: diary_content.data (V3 가 옮긴 행은 압축되지 않은 UTF-8)
+-- Diary.PREVIEW_LENGTH = 200
+
+BEGIN;
+
+ALTER TABLE diary ADD COLUMN IF NOT EXISTS content_preview varchar(200);
+
+DO $$
+DECLARE
+    content_type text;
+BEGIN
+    SELECT data_type INTO content_type
+    FROM information_schema.columns
+    WHERE table_schema = current_schema()
+      AND table_name = 'diary'
+      AND column_name = 'content';
+
+    IF content_type = 'oid' THEN
+        UPDATE diary
+        SET content_preview = left(convert_from(lo_get(content), 'UTF8'), 200)
+        WHERE content_preview IS NULL
+          AND content IS NOT NULL;
+    ELSIF content_type IS NOT NULL THEN
+        UPDATE diary
+        SET content_preview = left(content, 200)
+        WHERE content_preview IS NULL
+          AND content IS NOT NULL;
+    ELSE
+        UPDATE diary d
+        SET content_preview = left(convert_from(lo_get(c.data), 'UTF8'), 200)
+        FROM diary_content c
+        WHERE c.id = d.content_id
+          AND d.content_preview IS NULL
+          AND c.compressed = false;
+    END IF;
+END $$;
+
+COMMIT;
@@ -0,0 +1,84 @@
+-- 일기 본문을 diary.content 에서 diary_content 테이블로 옮김 (Diary.body -> DiaryContent)
+--
+-- 기존 PostgreSQL 데이터베이스에 새 버전을 배포하기 전에 한 번 실행 (V1 -> V2 -> V3 순서)
+-- diary.content_id 는 NOT NULL FK 라서 기존 행이 있으면 ddl-auto 로는 추가할 수 없고,
+-- 옛 diary.content(NOT NULL) 가 남아 있으면 새 버전의 일기 생성이 실패한다.
+-- 애플리케이션을 내린 상태에서 실행하고, 실패하면 트랜잭션 전체가 되돌려진다.
+-- diary.content 가 이미 없으면(옮긴 뒤) 복사 단계는 건너뛰므로 다시 실행해도 된다.
+--
+-- 매핑 (Hibernate 6, PostgreSQL)
+-- - DiaryContent.data (@Lob byte[]) -> oid 대형 객체, 옮긴 본문은 압축하지 않은 UTF-8 (compressed = false)
+-- - DiaryContent.id (@GeneratedValue) -> diary_content_seq (allocationSize 50)
+-- - 옮긴 행의 diary_content.id 는 diary.id 를 그대로 사용하고, 시퀀스는 그 최댓값 뒤로 옮김
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS diary_content_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS diary_content (
+    id         bigint  NOT NULL PRIMARY KEY,
+    data       oid     NOT NULL,
+    compressed boolean NOT NULL
+);
+
+ALTER TABLE diary ADD COLUMN IF NOT EXISTS content_id bigint;
+
+DO $$
+DECLARE
+    content_type text;
+BEGIN
+    SELECT data_type INTO content_type
+    FROM information_schema.columns
+    WHERE table_schema = current_schema()
+      AND table_name = 'diary'
+      AND column_name = 'content';
+
+    IF content_type IS NULL THEN
+        RAISE NOTICE 'diary.content 가 없음 - 본문 복사 단계 건너뜀';
+        RETURN;
+    END IF;
+
+    -- 1. 본문 복사 (대형 객체는 새로 만들어 diary 와 diary_content 가 같은 객체를 공유하지 않게 함)
+    IF content_type = 'oid' THEN
+        INSERT INTO diary_content (id, data, compressed)
+        SELECT d.id, lo_from_bytea(0, lo_get(d.content)), false
+        FROM diary d
+        WHERE d.content_id IS NULL;
+    ELSE
+        INSERT INTO diary_content (id, data, compressed)
+        SELECT d.id, lo_from_bytea(0, convert_to(d.content, 'UTF8')), false
+        FROM diary d
+        WHERE d.content_id IS NULL;
+    END IF;
+
+    -- 2. diary 에서 본문 행 참조
+    UPDATE diary
+    SET content_id = id
+    WHERE content_id IS NULL;
+
+    -- 3. 옛 본문 컬럼 제거 (oid 면 참조하던 대형 객체도 해제)
+    IF content_type = 'oid' THEN
+        PERFORM lo_unlink(content) FROM diary WHERE content IS NOT NULL;
+    END IF;
+    ALTER TABLE diary DROP COLUMN content;
+END $$;
+
+-- 4. 모든 행이 채워진 뒤 제약 조건 추가
+ALTER TABLE diary ALTER COLUMN content_id SET NOT NULL;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_diary_content_id') THEN
+        ALTER TABLE diary ADD CONSTRAINT uk_diary_content_id UNIQUE (content_id);
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_diary_content_id') THEN
+        ALTER TABLE diary ADD CONSTRAINT fk_diary_content_id
+            FOREIGN KEY (content_id) REFERENCES diary_content (id);
+    END IF;
+END $$;
+
+-- 5. 새 본문 행 ID 가 옮긴 행과 겹치지 않도록 시퀀스를 뒤로 이동
+SELECT setval('diary_content_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM diary_content) + 50,
+                                          (SELECT last_value FROM diary_content_seq)));
+
+COMMIT;
@@ -0,0 +1,93 @@
+package com.anondocs.anondocs_server.auth;
+
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.DiaryVersionView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DiaryAccessCacheTest {
+
+    private static final Long OWNER_ID = 1L;
+
+    private DiaryRepository diaryRepository;
+    private DiaryAccessCache cache;
+
+    @BeforeEach
+    void setUp() {
+        diaryRepository = mock(DiaryRepository.class);
+        cache = new DiaryAccessCache(diaryRepository);
+        ReflectionTestUtils.setField(cache, "ttlMillis", 60_000L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+    }
+
+    @Test
+    @DisplayName("캐시된 판정은 DB 를 다시 조회하지 않음")
+    void testCachedDecision() {
+        ownedDiary(10L);
+
+        assertThat(cache.canSubscribe(OWNER_ID, 10L)).isTrue();
+        assertThat(cache.canSubscribe(OWNER_ID, 10L)).isTrue();
+
+        verify(diaryRepository, times(1)).findVersionViewById(10L);
+    }
+
+    @Test
+    @DisplayName("DB 조회 도중 무효화되면 그 판정은 캐시에 남지 않음")
+    void testInvalidateDuringLookupNotCached() {
+        DiaryVersionView beforeDelete = view(false);
+        DiaryVersionView afterDelete = view(true);
+        when(diaryRepository.findVersionViewById(10L)).thenAnswer(invocation -> {
+            cache.invalidate(10L); // 조회 중에 삭제가 커밋된 상황
+            return Optional.of(beforeDelete);
+        }).thenReturn(Optional.of(afterDelete));
+
+        assertThat(cache.canSubscribe(OWNER_ID, 10L)).isTrue();
+
+        // 이전 허용 판정이 남아 있지 않고 다시 조회해 삭제를 반영
+        assertThat(cache.canSubscribe(OWNER_ID, 10L)).isFalse();
+        verify(diaryRepository, times(2)).findVersionViewById(10L);
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 가장 오래 쓰지 않은 판정만 제거 (LRU)")
+    void testLeastRecentlyUsedEviction() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        ownedDiary(1L);
+        ownedDiary(2L);
+        ownedDiary(3L);
+
+        cache.canSubscribe(OWNER_ID, 1L);
+        cache.canSubscribe(OWNER_ID, 2L);
+        cache.canSubscribe(OWNER_ID, 1L); // 1 을 최근 사용으로
+        cache.canSubscribe(OWNER_ID, 3L); // 2 가 제거됨
+
+        cache.canSubscribe(OWNER_ID, 1L);
+        cache.canSubscribe(OWNER_ID, 2L);
+
+        verify(diaryRepository, times(1)).findVersionViewById(1L);
+        verify(diaryRepository, times(2)).findVersionViewById(2L);
+    }
+
+    private void ownedDiary(Long diaryId) {
+        DiaryVersionView view = view(false);
+        when(diaryRepository.findVersionViewById(diaryId)).thenReturn(Optional.of(view));
+    }
+
+    private static DiaryVersionView view(boolean deleted) {
+        DiaryVersionView view = mock(DiaryVersionView.class);
+        when(view.getUserId()).thenReturn(OWNER_ID);
+        when(view.getVersion()).thenReturn(0L);
+        when(view.isDeleted()).thenReturn(deleted);
+        return view;
+    }
+}
@@ -0,0 +1,86 @@
+package com.anondocs.anondocs_server.auth;
+
+import com.anondocs.anondocs_server.dto.StompSessionStatusMessageDto;
+import com.anondocs.anondocs_server.realtime.DiaryBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StompSessionExpiryRegistryTest {
+
+    private final DiaryBroadcaster broadcaster = mock(DiaryBroadcaster.class);
+
+    // tick 10ms, 휠 16칸(한 바퀴 160ms), 유예 100ms
+    private final StompSessionExpiryRegistry registry = new StompSessionExpiryRegistry(broadcaster, 10, 16, 100);
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시 재인증을 요청하고, 유예 시간 안에 재인증이 없으면 연결 종료")
+    void testExpiredSessionChallengedThenClosed() throws Exception {
+        WebSocketSession session = openSession("s1");
+        registry.register("s1", "user1@test.com", Instant.now().plusMillis(30));
+
+        verify(broadcaster, timeout(1000)).sendToSession(eq("user1@test.com"), eq("s1"),
+                eq(StompSessionExpiryRegistry.SESSION_DESTINATION), argThat(status("REAUTH_REQUIRED")));
+        assertThat(registry.isExpired("s1")).isTrue();
+
+        verify(session, timeout(1000)).close(any(CloseStatus.class));
+    }
+
+    @Test
+    @DisplayName("재인증하면 만료 시각이 연장되어 연결 유지")
+    void testReauthenticatedSessionKeptOpen() throws Exception {
+        WebSocketSession session = openSession("s1");
+        registry.register("s1", "user1@test.com", Instant.now().plusMillis(30));
+
+        verify(broadcaster, timeout(1000)).sendToSession(any(), eq("s1"),
+                eq(StompSessionExpiryRegistry.SESSION_DESTINATION), argThat(status("REAUTH_REQUIRED")));
+        registry.reauthenticate("s1", Instant.now().plusSeconds(60));
+
+        assertThat(registry.isExpired("s1")).isFalse();
+        verify(session, after(400).never()).close(any(CloseStatus.class));
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 만료도 정확한 시각에 처리")
+    void testExpiryBeyondOneRotation() throws Exception {
+        openSession("s1");
+        registry.register("s1", "user1@test.com", Instant.now().plusMillis(400));
+
+        verify(broadcaster, after(250).never()).sendToSession(any(), any(), any(), any());
+        verify(broadcaster, timeout(1000)).sendToSession(any(), eq("s1"),
+                eq(StompSessionExpiryRegistry.SESSION_DESTINATION), argThat(status("REAUTH_REQUIRED")));
+    }
+
+    private WebSocketSession openSession(String sessionId) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        registry.decorate(mock(WebSocketHandler.class)).afterConnectionEstablished(session);
+        return session;
+    }
+
+    private static ArgumentMatcher<Object> status(String type) {
+        return payload -> payload instanceof StompSessionStatusMessageDto dto && type.equals(dto.getType());
+    }
+}
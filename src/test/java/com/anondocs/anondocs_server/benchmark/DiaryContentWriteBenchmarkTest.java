@@ -0,0 +1,124 @@
+package com.anondocs.anondocs_server.benchmark;
+
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import com.anondocs.anondocs_server.service.DiaryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 버전 기반 편집 저장 비용 벤치마크 (./gradlew benchmarkTest)
+ *
+ * 본문이 diary_content 로 분리된 뒤 조건부 편집은 UPDATE 두 문장(diary 메타데이터 + diary_content 본문)이다.
+ * 본문 크기별로 메타데이터 조건부 UPDATE 한 문장만 실행한 경우와 본문까지 저장하는 전체 경로를 비교해
+ * 두 번째 문장이 더하는 비용을 확인한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.properties",
+        properties = {"spring.jpa.show-sql=false", "logging.level.com.anondocs.anondocs_server=INFO"})
+class DiaryContentWriteBenchmarkTest {
+
+    private static final int[] CONTENT_SIZES = {100, 4_000, 64_000};
+    private static final int EDITS = 500;
+    private static final int WARMUP = 50;
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("content-write-bench@test.com")
+                .passwordHash("bench")
+                .nickname("ContentWriteBench")
+                .userStatus(UserStatus.ACTIVE)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from diary_ai_result");
+        jdbcTemplate.update("delete from diary");
+        jdbcTemplate.update("delete from diary_content");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("본문 크기별 메타데이터만 vs 메타데이터 + 본문 저장 평균 시간")
+    void benchmarkSplitWriteBySize() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        for (int size : CONTENT_SIZES) {
+            String content = "가나다라마바사아자차".repeat(size / 10);
+
+            Long metadataOnlyId = createDiary(content);
+            double metadataOnly = measure(version -> tx.executeWithoutResult(status ->
+                    diaryRepository.updateMetadataIfOwnerAndVersion(metadataOnlyId, user.getId(),
+                            Diary.preview(content), version, version + 1, LocalDateTime.now())));
+
+            Long fullId = createDiary(content);
+            double full = measure(version ->
+                    diaryService.updateDiaryContentAtomically(user.getId(), fullId, content + version, version));
+
+            System.out.printf("[benchmark] content-write size=%6d metadata-only=%6.3fms metadata+body=%6.3fms%n",
+                    size, metadataOnly, full);
+            assertThat(diaryRepository.findVersionViewById(fullId).orElseThrow().getVersion())
+                    .isEqualTo(WARMUP + EDITS);
+        }
+    }
+
+    // 버전 0 부터 한 번씩 올리며 편집 (워밍업 포함), 측정 구간 평균 ms
+    private double measure(VersionedEdit edit) {
+        long version = 0;
+        for (int w = 0; w < WARMUP; w++) {
+            edit.run(version++);
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < EDITS; i++) {
+            edit.run(version++);
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / EDITS;
+    }
+
+    private Long createDiary(String content) {
+        return diaryRepository.save(Diary.makeDiary("저장 벤치마크", content, DiaryVisibility.PRIVATE, user)).getId();
+    }
+
+    @FunctionalInterface
+    private interface VersionedEdit {
+        void run(long expectedVersion);
+    }
+}
@@ -0,0 +1,95 @@
+package com.anondocs.anondocs_server.benchmark;
+
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import com.anondocs.anondocs_server.service.DiaryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일기 생성 비용 벤치마크 (./gradlew benchmarkTest)
+ *
+ * 기존 일기 수가 10 / 1,000 / 100,000 건인 사용자마다 createDiary 를 반복 호출해 평균 시간을 비교한다.
+ * 생성 경로는 User 엔티티와 User.diaries 컬렉션을 읽지 않으므로 기존 일기 수와 관계없이 비슷해야 한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.properties",
+        properties = {"spring.jpa.show-sql=false", "logging.level.com.anondocs.anondocs_server=INFO"})
+class DiaryCreateBenchmarkTest {
+
+    private static final long[] EXISTING_COUNTS = {10, 1_000, 100_000};
+    private static final int CREATES = 200;
+    private static final int WARMUP = 20;
+    // 벌크 삽입 행은 JPA 시퀀스와 겹치지 않는 id 구간 사용 (사용자마다 1,000,000 단위)
+    private static final long ID_BASE = 200_000_000L;
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from diary_ai_result");
+        jdbcTemplate.update("delete from diary");
+        jdbcTemplate.update("delete from diary_content");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("기존 일기 수별 일기 생성 평균 시간")
+    void benchmarkCreateByHistorySize() {
+        for (int i = 0; i < EXISTING_COUNTS.length; i++) {
+            long existing = EXISTING_COUNTS[i];
+            User user = userWithDiaries(i, existing);
+
+            for (int w = 0; w < WARMUP; w++) {
+                diaryService.createDiary(user.getId(), "워밍업", "본문", DiaryVisibility.PRIVATE);
+            }
+
+            long startedAt = System.nanoTime();
+            for (int c = 0; c < CREATES; c++) {
+                diaryService.createDiary(user.getId(), "제목 " + c, "본문 " + c, DiaryVisibility.PRIVATE);
+            }
+            double averageMillis = (System.nanoTime() - startedAt) / 1_000_000.0 / CREATES;
+
+            System.out.printf("[benchmark] create existing=%7d avg=%6.3fms%n", existing, averageMillis);
+            assertThat(diaryService.countMyDiaries(user.getId())).isEqualTo(existing + WARMUP + CREATES);
+        }
+    }
+
+    // 일기 rows 건을 가진 사용자 (본문/메타데이터 각각 한 문장으로 삽입)
+    private User userWithDiaries(int index, long rows) {
+        User user = userRepository.save(User.builder()
+                .email("create-bench-" + index + "@test.com")
+                .passwordHash("bench")
+                .nickname("CreateBench" + index)
+                .userStatus(UserStatus.ACTIVE)
+                .build());
+
+        long base = ID_BASE + index * 1_000_000L;
+        jdbcTemplate.update(("insert into diary_content (id, data, compressed) " +
+                "select %d + x, stringtoutf8('기존 본문 ' || x), false from system_range(1, %d)").formatted(base, rows));
+        jdbcTemplate.update(("insert into diary (id, version, user_id, title, content_id, content_preview, visibility, " +
+                "is_deleted, created_at, updated_at) " +
+                "select %d + x, 0, %d, '기존 ' || x, %d + x, '기존 본문 ' || x, 'PRIVATE', false, now(), now() " +
+                "from system_range(1, %d)").formatted(base, user.getId(), base, rows));
+        jdbcTemplate.update("update users set diary_count = ? where id = ?", rows, user.getId());
+        return user;
+    }
+}
@@ -0,0 +1,133 @@
+package com.anondocs.anondocs_server.benchmark;
+
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.dto.DiaryCursor;
+import com.anondocs.anondocs_server.dto.DiaryFeedItemResponse;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import com.anondocs.anondocs_server.service.DiaryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공개 피드 페이징 비교 벤치마크 (./gradlew benchmarkTest, 행 수는 -Dbenchmark.feed.rows 로 조정)
+ *
+ * - offset: getPublicFeed(Pageable) - 앞 페이지 행을 모두 읽고 버림 + 매 요청 count(*)
+ * - keyset: getPublicFeed(cursor, size) - (publishedAt, id) 커서 다음부터 size + 1 건만 조회
+ *
+ * 같은 깊이의 페이지를 두 방식으로 반복 조회해 평균 응답 시간을 비교한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.properties",
+        properties = {"spring.jpa.show-sql=false", "logging.level.com.anondocs.anondocs_server=INFO"})
+class DiaryFeedPaginationBenchmarkTest {
+
+    private static final long ROWS = Long.getLong("benchmark.feed.rows", 1_000_000L);
+    private static final int PAGE_SIZE = 20;
+    private static final int REPEAT = 10;
+    // 벌크 삽입 행은 JPA 시퀀스와 겹치지 않는 id 구간 사용
+    private static final long ID_BASE = 100_000_000L;
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = userRepository.save(User.builder()
+                .email("feed-bench@test.com")
+                .passwordHash("bench")
+                .nickname("FeedBench")
+                .userStatus(UserStatus.ACTIVE)
+                .build());
+
+        // 1초 간격으로 발행된 익명 공개 일기를 본문/메타데이터 각각 한 문장으로 삽입
+        long startedAt = System.nanoTime();
+        jdbcTemplate.update(("insert into diary_content (id, data, compressed) " +
+                "select %d + x, stringtoutf8('본문 ' || x), false from system_range(1, %d)").formatted(ID_BASE, ROWS));
+        jdbcTemplate.update(("insert into diary (id, version, user_id, title, content_id, content_preview, visibility, published_at, " +
+                "is_deleted, created_at, updated_at) " +
+                "select %d + x, 0, %d, '피드 ' || x, %d + x, '본문 ' || x, 'ANONYMOUS', " +
+                "dateadd('SECOND', x, timestamp '2024-01-01 00:00:00'), false, now(), now() " +
+                "from system_range(1, %d)").formatted(ID_BASE, user.getId(), ID_BASE, ROWS));
+        System.out.printf("[benchmark] feed rows=%d inserted in %.1fs%n", ROWS, (System.nanoTime() - startedAt) / 1e9);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from diary");
+        jdbcTemplate.update("delete from diary_content");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("페이지 깊이별 offset vs keyset 응답 시간")
+    void benchmarkFeedDepth() {
+        long lastPage = ROWS / PAGE_SIZE - 1;
+        long[] pages = {0, 10, 1_000, lastPage / 2, lastPage};
+
+        for (long page : pages) {
+            int pageNumber = (int) page;
+            DiaryCursor cursor = cursorBefore(page * PAGE_SIZE);
+
+            // 같은 페이지를 가리키는지 확인
+            Page<DiaryFeedItemResponse> offsetPage = diaryService.getPublicFeed(PageRequest.of(pageNumber, PAGE_SIZE));
+            Slice<DiaryFeedItemResponse> keysetSlice = diaryService.getPublicFeed(cursor, PAGE_SIZE);
+            assertThat(keysetSlice.getContent()).extracting(DiaryFeedItemResponse::getId)
+                    .containsExactlyElementsOf(offsetPage.getContent().stream().map(DiaryFeedItemResponse::getId).toList());
+
+            double offsetMillis = averageMillis(() -> diaryService.getPublicFeed(PageRequest.of(pageNumber, PAGE_SIZE)));
+            double keysetMillis = averageMillis(() -> diaryService.getPublicFeed(cursor, PAGE_SIZE));
+
+            System.out.printf("[benchmark] feed page=%7d offset=%8.2fms keyset=%8.2fms%n", page, offsetMillis, keysetMillis);
+        }
+    }
+
+    // position 번째 행 바로 앞 행의 커서 (첫 페이지는 null)
+    private DiaryCursor cursorBefore(long position) {
+        if (position == 0) {
+            return null;
+        }
+        return jdbcTemplate.queryForObject(
+                "select published_at, id from diary where visibility = 'ANONYMOUS' and is_deleted = false " +
+                        "order by published_at desc, id desc offset ? rows fetch next 1 rows only",
+                (rs, rowNum) -> new DiaryCursor(rs.getObject("published_at", LocalDateTime.class), rs.getLong("id")),
+                position - 1);
+    }
+
+    private static double averageMillis(Runnable query) {
+        query.run(); // 워밍업
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / REPEAT;
+    }
+}
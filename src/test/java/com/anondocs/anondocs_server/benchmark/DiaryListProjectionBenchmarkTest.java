@@ -0,0 +1,128 @@
+package com.anondocs.anondocs_server.benchmark;
+
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import com.anondocs.anondocs_server.service.DiaryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 entity vs projection 비교 벤치마크 (./gradlew benchmarkTest)
+ *
+ * - entity: Diary 엔티티 50건 조회 (본문 @Lob 전체 + 영속성 컨텍스트 스냅샷)
+ * - projection: getMyDiaries(Pageable) - DiarySummaryResponse 로 미리보기만 조회
+ *
+ * 긴 본문 일기로 한 페이지 조회 시 스레드 할당 바이트와 평균 응답 시간을 비교한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.properties",
+        properties = {"spring.jpa.show-sql=false", "logging.level.com.anondocs.anondocs_server=INFO"})
+class DiaryListProjectionBenchmarkTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int CONTENT_LENGTH = 20_000;
+    private static final int REPEAT = 20;
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = userRepository.save(User.builder()
+                .email("list-bench@test.com")
+                .passwordHash("bench")
+                .nickname("ListBench")
+                .userStatus(UserStatus.ACTIVE)
+                .build());
+
+        String content = "긴 본문 ".repeat(CONTENT_LENGTH / 5);
+        List<Diary> diaries = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            diaries.add(Diary.makeDiary("제목 " + i, content, DiaryVisibility.PRIVATE, user));
+        }
+        diaryRepository.saveAll(diaries);
+    }
+
+    @AfterEach
+    void tearDown() {
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("긴 본문 50건 목록: entity vs projection 할당량/응답 시간")
+    void benchmarkListPage() {
+        PageRequest page = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // 엔티티 조회는 이전 구현처럼 트랜잭션(영속성 컨텍스트) 안에서 수행
+        Runnable entity = () -> transactionTemplate.executeWithoutResult(status -> diaryRepository.findAll(page));
+        Runnable projection = () -> diaryService.getMyDiaries(user.getId(), page);
+
+        long entityBytes = allocatedBytes(entity);
+        long projectionBytes = allocatedBytes(projection);
+        double entityMillis = averageMillis(entity);
+        double projectionMillis = averageMillis(projection);
+
+        System.out.printf("[benchmark] list entity=%8.2fms %,12dB projection=%8.2fms %,12dB%n",
+                entityMillis, entityBytes, projectionMillis, projectionBytes);
+
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    // 한 번 조회하는 동안 현재 스레드가 할당한 바이트 (워밍업 후 평균)
+    private static long allocatedBytes(Runnable query) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        query.run(); // 워밍업
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < REPEAT; i++) {
+            query.run();
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / REPEAT;
+    }
+
+    private static double averageMillis(Runnable query) {
+        query.run(); // 워밍업
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / REPEAT;
+    }
+}
@@ -0,0 +1,245 @@
+package com.anondocs.anondocs_server.benchmark;
+
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.exception.DiaryVersionConflictException;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import com.anondocs.anondocs_server.service.DiaryEditActorSystem;
+import com.anondocs.anondocs_server.service.DiaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 버전 기반 편집 경로 비교 벤치마크 (./gradlew benchmarkTest)
+ *
+ * - entity: 기준선. 트랜잭션 안에서 엔티티 SELECT(diary + diary_content) -> 버전 비교 -> dirty checking UPDATE
+ *   (서비스에서 제거된 예전 편집 경로를 벤치마크 안에서 재현)
+ * - actor: DiaryEditActorSystem (일기별 single-writer, 메모리 상태 + 조건부 UPDATE, 오래된 버전은 병합 시도)
+ * - atomic: updateDiaryContentAtomically (SELECT 없이 조건부 UPDATE, 서버 병합 없음)
+ *
+ * 본문이 diary_content 로 분리된 뒤 actor/atomic 의 조건부 저장은 UPDATE 두 문장
+ * (diary 메타데이터 조건부 UPDATE + 조건을 통과했을 때 diary_content 본문 PK UPDATE)이다.
+ *
+ * 편집자 수별로 (1) 각자 자기 일기를 편집하는 경우, (2) 모두 같은 일기를 편집하는 경우를 측정한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.properties",
+        properties = {"spring.jpa.show-sql=false", "logging.level.com.anondocs.anondocs_server=INFO"})
+class DiaryVersionedEditBenchmarkTest {
+
+    private static final int[] EDITOR_COUNTS = {1, 4, 16};
+    private static final int EDITS_PER_EDITOR = 200;
+    private static final String CONTENT = "벤치마크 본문 ".repeat(200);
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private DiaryEditActorSystem diaryEditActorSystem;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = User.builder()
+                .email("bench@test.com")
+                .passwordHash("bench")
+                .nickname("Bench")
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+        userRepository.save(user);
+    }
+
+    @Test
+    @DisplayName("편집자별 개별 일기 - entity(SELECT+UPDATE) vs actor vs atomic 처리량")
+    void benchmarkIndependentEditors() throws Exception {
+        for (int editors : EDITOR_COUNTS) {
+            for (EditPath path : EditPath.values()) {
+                List<Long> diaryIds = createDiaries(editors);
+
+                Result result = run(editors, index -> {
+                    Long diaryId = diaryIds.get(index);
+                    long version = currentVersion(diaryId);
+                    for (int i = 0; i < EDITS_PER_EDITOR; i++) {
+                        edit(path, diaryId, CONTENT + i, version);
+                        version++;
+                    }
+                    return 0;
+                });
+
+                assertThat(result.conflicts).isZero();
+                report("independent", path, editors, editors * EDITS_PER_EDITOR, result);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("모든 편집자가 같은 일기 - 충돌 시 최신 버전으로 재시도")
+    void benchmarkContendedEditors() throws Exception {
+        for (int editors : EDITOR_COUNTS) {
+            for (EditPath path : EditPath.values()) {
+                Long diaryId = createDiaries(1).get(0);
+
+                Result result = run(editors, index -> {
+                    int conflicts = 0;
+                    int done = 0;
+                    while (done < EDITS_PER_EDITOR) {
+                        try {
+                            edit(path, diaryId, CONTENT + index + "-" + done, currentVersion(diaryId));
+                            done++;
+                        } catch (DiaryVersionConflictException e) {
+                            conflicts++;
+                        }
+                    }
+                    return conflicts;
+                });
+
+                assertThat(currentVersion(diaryId)).isEqualTo((long) editors * EDITS_PER_EDITOR);
+                report("contended", path, editors, editors * EDITS_PER_EDITOR, result);
+            }
+        }
+    }
+
+    private void edit(EditPath path, Long diaryId, String content, long expectedVersion) {
+        if (path == EditPath.ACTOR) {
+            // 액터는 저장 후 콜백하므로 결과를 기다려 동기 경로와 같은 조건으로 측정
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            diaryEditActorSystem.submitVersionedEdit(user.getId(), diaryId, content, expectedVersion, null, null,
+                    (result, error) -> {
+                        if (error != null) {
+                            done.completeExceptionally(error);
+                        } else {
+                            done.complete(null);
+                        }
+                    });
+            try {
+                done.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        } else if (path == EditPath.ENTITY) {
+            editWithEntity(diaryId, content, expectedVersion);
+        } else {
+            diaryService.updateDiaryContentAtomically(user.getId(), diaryId, content, expectedVersion);
+        }
+    }
+
+    /**
+     * 기준선: 엔티티를 읽어 소유자/버전을 확인한 뒤 변경 감지로 저장
+     * (본문을 바꾸려면 diary_content 도 읽으므로 SELECT 두 번 + UPDATE 두 번, 같은 행을 동시에 바꾸면 낙관적 락 충돌)
+     */
+    private void editWithEntity(Long diaryId, String content, long expectedVersion) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Diary diary = diaryRepository.findById(diaryId).orElseThrow();
+                if (diary.getUser().getId() != user.getId()) {
+                    throw new SecurityException("본인의 일기만 수정할 수 있습니다.");
+                }
+                if (!diary.getVersion().equals(expectedVersion)) {
+                    throw new DiaryVersionConflictException("일기가 다른 사용자에 의해 이미 수정되었습니다.", diary.getVersion());
+                }
+                diary.changeContent(content);
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // SELECT 와 커밋 사이에 다른 편집이 먼저 커밋됨
+            throw new DiaryVersionConflictException("일기가 다른 사용자에 의해 이미 수정되었습니다.", null);
+        }
+    }
+
+    private long currentVersion(Long diaryId) {
+        return diaryRepository.findVersionViewById(diaryId).orElseThrow().getVersion();
+    }
+
+    private List<Long> createDiaries(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Diary diary = Diary.makeDiary("벤치마크 " + i, CONTENT, DiaryVisibility.PRIVATE, user);
+            ids.add(diaryRepository.save(diary).getId());
+        }
+        return ids;
+    }
+
+    private Result run(int editors, Editor editor) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(editors);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong conflicts = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < editors; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                conflicts.addAndGet(editor.run(index));
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        return new Result(elapsedNanos, conflicts.get());
+    }
+
+    private static void report(String scenario, EditPath path, int editors, int edits, Result result) {
+        double millis = result.elapsedNanos / 1_000_000.0;
+        System.out.printf("[benchmark] %-11s %-6s editors=%2d edits=%5d time=%8.1fms throughput=%8.1f edits/s conflicts=%d%n",
+                scenario, path.name().toLowerCase(), editors, edits, millis, edits / (millis / 1000.0), result.conflicts);
+    }
+
+    private enum EditPath {
+        ENTITY, ACTOR, ATOMIC
+    }
+
+    @FunctionalInterface
+    private interface Editor {
+        int run(int index) throws Exception;
+    }
+
+    private record Result(long elapsedNanos, long conflicts) {
+    }
+}
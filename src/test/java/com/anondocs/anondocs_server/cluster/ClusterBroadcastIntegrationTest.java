@@ -0,0 +1,240 @@
+package com.anondocs.anondocs_server.cluster;
+
+import com.anondocs.anondocs_server.AnondocsServerApplication;
+import com.anondocs.anondocs_server.auth.JwtTokenProvider;
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.dto.DiaryEditBroadcastMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditErrorMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditMessageDto;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 간 브로드캐스트 버스 테스트
+ * 테스트 컨텍스트(노드 A)와 같은 JVM 에 노드 B 를 하나 더 띄우고 loopback 전송으로 연결
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application.properties", properties = {
+        "anondocs.cluster.transport=loopback",
+        "anondocs.cluster.user-affinity=true",
+        "anondocs.cluster.node-id=node-a"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ClusterBroadcastIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private ConfigurableApplicationContext nodeB;
+    private int nodeBPort;
+    private User user;
+    private Diary sharedDiary;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        // 노드 B: 같은 DB 를 공유하므로 스키마는 노드 A 것을 그대로 사용
+        nodeB = new SpringApplicationBuilder(AnondocsServerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.hibernate.ddl-auto=none",
+                        "anondocs.cluster.transport=loopback",
+                        "anondocs.cluster.user-affinity=true",
+                        "anondocs.cluster.node-id=node-b")
+                .run();
+        nodeBPort = Integer.parseInt(nodeB.getEnvironment().getProperty("local.server.port"));
+
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = User.builder()
+                .email("cluster@test.com")
+                .passwordHash(passwordEncoder.encode("password1"))
+                .nickname("ClusterUser")
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+        userRepository.save(user);
+
+        sharedDiary = Diary.makeDiary("클러스터 일기", "초기 내용", DiaryVisibility.PRIVATE, user);
+        diaryRepository.save(sharedDiary);
+
+        accessToken = jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @Test
+    @DisplayName("노드 B 에서 처리한 편집이 노드 A 구독자에게 전달됨")
+    void testEditRelayedToOtherNode() throws Exception {
+        // Given - 노드 A 에서 구독, 노드 B 로 편집
+        BlockingQueue<DiaryEditBroadcastMessageDto> received = new LinkedBlockingQueue<>();
+        WebSocketStompClient subscriberClient = createStompClient();
+        WebSocketStompClient editorClient = createStompClient();
+        StompSession subscriber = connectWithAuth(subscriberClient, "http://localhost:" + port + "/ws");
+        StompSession editor = connectWithAuth(editorClient, "http://localhost:" + nodeBPort + "/ws");
+
+        subscriber.subscribe("/topic/diaries/" + sharedDiary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.offer((DiaryEditBroadcastMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        // When
+        DiaryEditMessageDto message = new DiaryEditMessageDto();
+        message.setDiaryId(sharedDiary.getId());
+        message.setContent("노드 B 에서 수정");
+        message.setVersion(sharedDiary.getVersion());
+        editor.send("/app/diaries/" + sharedDiary.getId() + "/edit", message);
+
+        // Then
+        DiaryEditBroadcastMessageDto broadcast = received.poll(5, TimeUnit.SECONDS);
+        assertThat(broadcast).isNotNull();
+        assertThat(broadcast.getContent()).isEqualTo("노드 B 에서 수정");
+        assertThat(broadcast.getVersion()).isEqualTo(sharedDiary.getVersion() + 1);
+
+        subscriber.disconnect();
+        editor.disconnect();
+        subscriberClient.stop();
+        editorClient.stop();
+    }
+
+    @Test
+    @DisplayName("노드 B 에서 보낸 사용자 목적지 메시지가 노드 A 에만 접속한 사용자에게 전달됨")
+    void testUserDestinationRelayedToOtherNode() throws Exception {
+        // Given - 사용자는 노드 A 에만 접속
+        BlockingQueue<DiaryEditErrorMessageDto> received = new LinkedBlockingQueue<>();
+        WebSocketStompClient client = createStompClient();
+        StompSession session = connectWithAuth(client, "http://localhost:" + port + "/ws");
+
+        session.subscribe("/user/queue/errors", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditErrorMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.offer((DiaryEditErrorMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        // When - 노드 B 에서 그 사용자에게 전송 (레지스트리에 없으면 해석 실패 브로드캐스트로, 있으면 원격 세션으로)
+        DiaryEditErrorMessageDto error = DiaryEditErrorMessageDto.builder()
+                .diaryId(sharedDiary.getId())
+                .code("EDIT_FAILED")
+                .message("노드 B 에서 보낸 에러")
+                .build();
+        nodeB.getBean(SimpMessagingTemplate.class).convertAndSendToUser(user.getEmail(), "/queue/errors", error);
+
+        // Then
+        DiaryEditErrorMessageDto delivered = received.poll(5, TimeUnit.SECONDS);
+        assertThat(delivered).isNotNull();
+        assertThat(delivered.getMessage()).isEqualTo("노드 B 에서 보낸 에러");
+
+        session.disconnect();
+        client.stop();
+    }
+
+    @Test
+    @DisplayName("노드 A 의 접속 사용자가 레지스트리 브로드캐스트로 노드 B 레지스트리에 보임")
+    void testUserRegistrySharedAcrossNodes() throws Exception {
+        // Given - 사용자는 노드 A 에만 접속
+        WebSocketStompClient client = createStompClient();
+        StompSession session = connectWithAuth(client, "http://localhost:" + port + "/ws");
+        SimpUserRegistry nodeBRegistry = nodeB.getBean(SimpUserRegistry.class);
+
+        // When - 레지스트리 브로드캐스트 주기(기본 10초)만큼 대기
+        SimpUser remoteUser = null;
+        long deadline = System.currentTimeMillis() + 25_000;
+        while (remoteUser == null && System.currentTimeMillis() < deadline) {
+            remoteUser = nodeBRegistry.getUser(user.getEmail());
+            if (remoteUser == null) {
+                Thread.sleep(200);
+            }
+        }
+
+        // Then - 노드 B 는 세션을 갖고 있지 않지만 원격 사용자로 알고 있음
+        assertThat(remoteUser).isNotNull();
+        assertThat(remoteUser.getSessions()).hasSize(1);
+
+        session.disconnect();
+        client.stop();
+    }
+
+    private WebSocketStompClient createStompClient() {
+        SockJsClient sockJsClient = new SockJsClient(
+                List.of(new WebSocketTransport(new StandardWebSocketClient()))
+        );
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        return stompClient;
+    }
+
+    private StompSession connectWithAuth(WebSocketStompClient stompClient, String url) throws Exception {
+        StompHeaders stompHeaders = new StompHeaders();
+        stompHeaders.add("Authorization", "Bearer " + accessToken);
+
+        return stompClient.connectAsync(url, new WebSocketHttpHeaders(), stompHeaders, new StompSessionHandlerAdapter() {})
+                .get(10, TimeUnit.SECONDS);
+    }
+}
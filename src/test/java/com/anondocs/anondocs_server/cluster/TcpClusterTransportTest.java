@@ -0,0 +1,145 @@
+package com.anondocs.anondocs_server.cluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TcpClusterTransportTest {
+
+    private static final String LOOPBACK = "127.0.0.1";
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OTHER_SECRET = "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8);
+
+    private final List<TcpClusterTransport> started = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        started.forEach(TcpClusterTransport::stop);
+    }
+
+    @Test
+    @DisplayName("같은 secret 을 가진 멤버 노드끼리는 프레임이 전달됨")
+    void testMemberWithSharedSecretDelivers() throws Exception {
+        int portA = freePort();
+        int portB = freePort();
+        BlockingQueue<ClusterEnvelope> receivedByB = new LinkedBlockingQueue<>();
+
+        TcpClusterTransport nodeA = start(portA, List.of(peer(portB)), SECRET, new LinkedBlockingQueue<>());
+        start(portB, List.of(peer(portA)), SECRET, receivedByB);
+
+        ClusterEnvelope received = publishUntilReceived(nodeA, receivedByB);
+
+        assertThat(received).isNotNull();
+        assertThat(received.destination()).isEqualTo("/topic/diaries/1");
+        assertThat(new String(received.payload(), StandardCharsets.UTF_8)).isEqualTo("payload");
+    }
+
+    @Test
+    @DisplayName("멤버 목록에 없는 주소의 연결은 핸드셰이크 없이 바로 끊고 프레임을 받지 않음")
+    void testUnknownPeerRefused() throws Exception {
+        int port = freePort();
+        BlockingQueue<ClusterEnvelope> received = new LinkedBlockingQueue<>();
+        // 멤버는 다른 호스트뿐 -> 127.0.0.1 에서 온 연결은 멤버가 아님
+        start(port, List.of(new InetSocketAddress("192.0.2.1", freePort())), SECRET, received);
+
+        try (Socket socket = new Socket(LOOPBACK, port)) {
+            socket.setSoTimeout(3000);
+            assertThat(readOrEof(socket.getInputStream())).isEqualTo(-1);
+        }
+        assertThat(received.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("secret 이 다른 노드나 핸드셰이크 없이 프레임을 보내는 연결은 거부")
+    void testWrongSecretRefused() throws Exception {
+        int portA = freePort();
+        int portB = freePort();
+        BlockingQueue<ClusterEnvelope> receivedByA = new LinkedBlockingQueue<>();
+
+        start(portA, List.of(peer(portB)), SECRET, receivedByA);
+        TcpClusterTransport intruder = start(portB, List.of(peer(portA)), OTHER_SECRET, new LinkedBlockingQueue<>());
+
+        assertThat(publishUntilReceived(intruder, receivedByA)).isNull();
+
+        // 멤버 주소에서 nonce 를 무시하고 바로 프레임을 보내는 경우
+        try (Socket socket = new Socket(LOOPBACK, portA)) {
+            socket.setSoTimeout(3000);
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            in.readInt();
+            in.readFully(new byte[32]);
+
+            byte[] frame = envelope().encode();
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeInt(frame.length);
+            out.write(frame);
+            out.flush();
+
+            assertThat(readOrEof(in)).isEqualTo(-1);
+        }
+        assertThat(receivedByA.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private TcpClusterTransport start(int port, List<InetSocketAddress> peers, byte[] secret,
+                                      BlockingQueue<ClusterEnvelope> received) throws IOException {
+        TcpClusterTransport transport = new TcpClusterTransport(LOOPBACK, port, peers, secret, 100);
+        transport.start(received::offer);
+        started.add(transport);
+        return transport;
+    }
+
+    /**
+     * 송신 연결은 비동기로 맺어지므로 받을 때까지 (최대 5초) 다시 보냄
+     */
+    private static ClusterEnvelope publishUntilReceived(TcpClusterTransport sender,
+                                                        BlockingQueue<ClusterEnvelope> received) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            sender.publish(envelope());
+            ClusterEnvelope envelope = received.poll(200, TimeUnit.MILLISECONDS);
+            if (envelope != null) {
+                return envelope;
+            }
+        }
+        return null;
+    }
+
+    private static ClusterEnvelope envelope() {
+        return new ClusterEnvelope("node", "/topic/diaries/1", "application/json", Map.of(),
+                "payload".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InetSocketAddress peer(int port) {
+        return new InetSocketAddress(LOOPBACK, port);
+    }
+
+    private static int readOrEof(InputStream in) {
+        try {
+            return in.read();
+        } catch (IOException e) {
+            return -1; // 서버가 끊으면서 RST 가 올 수도 있음
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
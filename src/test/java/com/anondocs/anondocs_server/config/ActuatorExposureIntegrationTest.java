@@ -0,0 +1,58 @@
+package com.anondocs.anondocs_server.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 운영 설정과 같이 관리 포트를 루프백에 분리 (포트만 임의 할당)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "management.endpoints.web.exposure.include=health,metrics,prometheus",
+        "management.server.port=0",
+        "management.server.address=127.0.0.1",
+        "management.endpoint.health.probes.enabled=true",
+        "management.endpoint.health.probes.add-additional-paths=true"
+})
+class ActuatorExposureIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("서비스 포트에서 인증 없이 liveness/readiness 프로브 응답")
+    void testProbesOnServicePort() {
+        ResponseEntity<String> liveness = restTemplate.getForEntity("http://localhost:" + port + "/livez", String.class);
+        ResponseEntity<String> readiness = restTemplate.getForEntity("http://localhost:" + port + "/readyz", String.class);
+
+        assertThat(liveness.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(readiness.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(readiness.getBody()).contains("UP");
+    }
+
+    @Test
+    @DisplayName("메트릭은 서비스 포트에서 인증 없이 접근할 수 없고 관리 포트에서만 허용")
+    void testMetricsOnlyOnManagementPort() {
+        ResponseEntity<String> servicePort = restTemplate.getForEntity(
+                "http://localhost:" + port + "/actuator/prometheus", String.class);
+        assertThat(servicePort.getStatusCode().is2xxSuccessful()).isFalse();
+
+        String management = "http://127.0.0.1:" + managementPort;
+        assertThat(restTemplate.getForEntity(management + "/actuator/prometheus", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(restTemplate.getForEntity(management + "/actuator/health/readiness", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+}
@@ -0,0 +1,128 @@
+package com.anondocs.anondocs_server.crdt;
+
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryEditOperationType;
+import com.anondocs.anondocs_server.dto.DiaryCrdtOperationDto;
+import com.anondocs.anondocs_server.dto.DiaryCrdtSnapshotMessageDto;
+import com.anondocs.anondocs_server.service.DiaryEditActorSystem;
+import com.anondocs.anondocs_server.service.DiaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DiaryCrdtDocumentRegistryTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long DIARY_ID = 10L;
+
+    private DiaryService diaryService;
+    private DiaryEditActorSystem diaryEditActorSystem;
+    private DiaryCrdtDocumentRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        diaryService = mock(DiaryService.class);
+        diaryEditActorSystem = mock(DiaryEditActorSystem.class);
+        Diary diary = diary("ab", 3L);
+        when(diaryService.getMyDiary(OWNER_ID, DIARY_ID)).thenReturn(diary);
+
+        registry = new DiaryCrdtDocumentRegistry(diaryService, diaryEditActorSystem);
+        ReflectionTestUtils.setField(registry, "idleTtlMillis", 600_000L);
+        ReflectionTestUtils.setField(registry, "tombstoneCompactThreshold", 1);
+    }
+
+    @Test
+    @DisplayName("저장은 로드한 버전 기준 조건부이며, 성공하면 다음 저장의 기준 버전이 올라감")
+    void testFlushUsesPersistedVersion() {
+        when(diaryService.updateDiaryContentFromCrdt(OWNER_ID, DIARY_ID, "aXb", 3L)).thenReturn(true);
+        when(diaryService.updateDiaryContentFromCrdt(OWNER_ID, DIARY_ID, "aXYb", 4L)).thenReturn(true);
+
+        registry.apply(OWNER_ID, DIARY_ID, List.of(insert(3, "X", 1)));
+        registry.flushAndEvict();
+        registry.apply(OWNER_ID, DIARY_ID, List.of(insertAfter(4, "Y", 3, "replica-a")));
+        registry.flushAndEvict();
+
+        verify(diaryService).updateDiaryContentFromCrdt(OWNER_ID, DIARY_ID, "aXYb", 4L);
+        verify(diaryEditActorSystem, times(2)).invalidate(DIARY_ID);
+    }
+
+    @Test
+    @DisplayName("다른 모드가 먼저 저장했으면 CRDT 저장을 거절하고 문서를 DB 기준으로 다시 로드")
+    void testStaleFlushRejected() {
+        when(diaryService.updateDiaryContentFromCrdt(OWNER_ID, DIARY_ID, "aXb", 3L)).thenReturn(false);
+
+        registry.apply(OWNER_ID, DIARY_ID, List.of(insert(3, "X", 1)));
+        registry.flushAndEvict();
+
+        // 액터가 버전 4 로 저장한 본문
+        Diary changed = diary("액터 본문", 4L);
+        when(diaryService.getMyDiary(OWNER_ID, DIARY_ID)).thenReturn(changed);
+        DiaryCrdtSnapshotMessageDto snapshot = registry.getSnapshot(OWNER_ID, DIARY_ID);
+
+        assertThat(snapshot.getRuns()).hasSize(1);
+        assertThat(snapshot.getRuns().get(0).getText()).isEqualTo("액터 본문");
+        assertThat(snapshot.getRuns().get(0).getReplicaId()).isEqualTo("seed-4");
+        verify(diaryEditActorSystem, never()).invalidate(DIARY_ID);
+    }
+
+    @Test
+    @DisplayName("저장 없이 제거된 문서는 다시 로드해도 같은 seed 요소 ID")
+    void testSeedReplicaStableAcrossEviction() {
+        String before = registry.getSnapshot(OWNER_ID, DIARY_ID).getRuns().get(0).getReplicaId();
+
+        ReflectionTestUtils.setField(registry, "idleTtlMillis", -1L);
+        registry.flushAndEvict();
+        String after = registry.getSnapshot(OWNER_ID, DIARY_ID).getRuns().get(0).getReplicaId();
+
+        assertThat(after).isEqualTo(before).isEqualTo("seed-3");
+        verify(diaryService, times(2)).getMyDiary(OWNER_ID, DIARY_ID);
+    }
+
+    @Test
+    @DisplayName("스냅샷 요청 시 tombstone 정리 - 스냅샷에 삭제된 run 이 없음")
+    void testSnapshotCompactsTombstones() {
+        registry.apply(OWNER_ID, DIARY_ID, List.of(DiaryCrdtOperationDto.builder()
+                .type(DiaryEditOperationType.DELETE)
+                .counter(1L)
+                .replicaId("seed-3")
+                .build()));
+
+        DiaryCrdtSnapshotMessageDto snapshot = registry.getSnapshot(OWNER_ID, DIARY_ID);
+
+        assertThat(snapshot.getRuns()).hasSize(1);
+        assertThat(snapshot.getRuns().get(0).isDeleted()).isFalse();
+        assertThat(snapshot.getRuns().get(0).getText()).isEqualTo("b");
+    }
+
+    private static DiaryCrdtOperationDto insert(long counter, String text, long parentCounter) {
+        return insertAfter(counter, text, parentCounter, "seed-3");
+    }
+
+    private static DiaryCrdtOperationDto insertAfter(long counter, String text, long parentCounter, String parentReplicaId) {
+        return DiaryCrdtOperationDto.builder()
+                .type(DiaryEditOperationType.INSERT)
+                .counter(counter)
+                .replicaId("replica-a")
+                .parentCounter(parentCounter)
+                .parentReplicaId(parentReplicaId)
+                .text(text)
+                .build();
+    }
+
+    private static Diary diary(String content, Long version) {
+        Diary diary = mock(Diary.class);
+        when(diary.getContent()).thenReturn(content);
+        when(diary.getVersion()).thenReturn(version);
+        return diary;
+    }
+}
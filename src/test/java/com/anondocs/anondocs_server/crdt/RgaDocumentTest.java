@@ -0,0 +1,110 @@
+package com.anondocs.anondocs_server.crdt;
+
+import com.anondocs.anondocs_server.exception.DiaryCrdtOperationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RgaDocumentTest {
+
+    private static final String SEED = "seed-test";
+
+    @Test
+    @DisplayName("같은 위치에 동시 삽입 - 도착 순서와 관계없이 같은 결과로 수렴")
+    void testConcurrentInsertConverges() {
+        // Given - "AB" 에서 두 편집자가 A 뒤에 동시에 입력
+        RgaDocument first = RgaDocument.seed("AB", SEED);
+        RgaDocument second = RgaDocument.seed("AB", SEED);
+        CrdtId parent = new CrdtId(1, SEED);
+
+        CrdtId x1 = new CrdtId(3, "replica-a");
+        CrdtId x2 = new CrdtId(4, "replica-a");
+        CrdtId y1 = new CrdtId(3, "replica-b");
+
+        // When - 서로 다른 순서로 통합
+        first.insert(x1, parent, 'x');
+        first.insert(x2, x1, 'y');
+        first.insert(y1, parent, 'z');
+
+        second.insert(y1, parent, 'z');
+        second.insert(x1, parent, 'x');
+        second.insert(x2, x1, 'y');
+
+        // Then
+        assertThat(first.text()).isEqualTo(second.text());
+        assertThat(first.text()).isEqualTo("AzxyB");
+    }
+
+    @Test
+    @DisplayName("삭제된 요소 뒤 삽입과 중복 연산 - tombstone 참조 및 멱등 처리")
+    void testDeleteAndDuplicate() {
+        RgaDocument document = RgaDocument.seed("abc", SEED);
+        CrdtId b = new CrdtId(2, SEED);
+
+        assertThat(document.delete(b)).isTrue();
+        assertThat(document.delete(b)).isFalse();
+
+        CrdtId inserted = new CrdtId(4, "replica-a");
+        assertThat(document.insert(inserted, b, 'X')).isTrue();
+        assertThat(document.insert(inserted, b, 'X')).isFalse();
+
+        assertThat(document.text()).isEqualTo("aXc");
+        assertThat(document.getTombstoneCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 문자 삽입 중 하나라도 검증에 실패하면 문서는 그대로")
+    void testMultiCharInsertIsAtomic() {
+        RgaDocument document = RgaDocument.seed("abc", SEED);
+        CrdtId a = new CrdtId(1, SEED);
+
+        // 세 번째 문자의 counter 가 long 범위를 넘음
+        assertThatThrownBy(() -> document.insert(new CrdtId(Long.MAX_VALUE - 1, "replica-a"), a, "XYZ"))
+                .isInstanceOf(DiaryCrdtOperationException.class);
+
+        assertThat(document.text()).isEqualTo("abc");
+        assertThat(document.getVisibleLength()).isEqualTo(3);
+        assertThat(document.getClock()).isEqualTo(3);
+
+        // 일부가 이미 통합된 재전송은 나머지만 이어서 삽입
+        assertThat(document.insert(new CrdtId(4, "replica-a"), a, 'X')).isTrue();
+        assertThat(document.insert(new CrdtId(4, "replica-a"), a, "XYZ")).isTrue();
+        assertThat(document.insert(new CrdtId(4, "replica-a"), a, "XYZ")).isFalse();
+        assertThat(document.text()).isEqualTo("aXYZbc");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 기준 요소 - 재동기화 필요 예외")
+    void testUnknownParentRequiresResync() {
+        RgaDocument document = RgaDocument.seed("abc", SEED);
+
+        assertThatThrownBy(() -> document.insert(new CrdtId(10, "replica-a"), new CrdtId(1, "seed-old"), 'X'))
+                .isInstanceOf(DiaryCrdtOperationException.class)
+                .matches(e -> ((DiaryCrdtOperationException) e).isResyncRequired());
+    }
+
+    @Test
+    @DisplayName("tombstone 정리 - 본문은 그대로, 정리 이전 clock 기준 연산은 재동기화 필요")
+    void testCompactTombstones() {
+        RgaDocument document = RgaDocument.seed("abc", SEED);
+        document.delete(new CrdtId(2, SEED));
+
+        assertThat(document.compactTombstones()).isEqualTo(1);
+        assertThat(document.getTombstoneCount()).isZero();
+        assertThat(document.text()).isEqualTo("ac");
+        assertThat(document.runs()).noneMatch(RgaDocument.Run::isDeleted);
+
+        // 정리된 요소의 재삭제는 멱등, 정리된 요소를 기준으로 한 삽입과 오래된 counter 는 재동기화
+        assertThat(document.delete(new CrdtId(2, SEED))).isFalse();
+        assertThatThrownBy(() -> document.insert(new CrdtId(10, "replica-a"), new CrdtId(2, SEED), 'X'))
+                .matches(e -> ((DiaryCrdtOperationException) e).isResyncRequired());
+        assertThatThrownBy(() -> document.insert(new CrdtId(3, "replica-a"), new CrdtId(1, SEED), 'X'))
+                .matches(e -> ((DiaryCrdtOperationException) e).isResyncRequired());
+
+        // 스냅샷 clock 이후의 연산은 정상 통합
+        assertThat(document.insert(new CrdtId(4, "replica-a"), new CrdtId(1, SEED), 'X')).isTrue();
+        assertThat(document.text()).isEqualTo("aXc");
+    }
+}
@@ -0,0 +1,59 @@
+package com.anondocs.anondocs_server.domain.diary;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiaryContentTest {
+
+    @Test
+    @DisplayName("임계값 미만 본문 - 압축 없이 UTF-8 그대로 저장")
+    void testSmallContentStoredPlain() {
+        DiaryContent.Encoded encoded = DiaryContent.encode("오늘은 맑음");
+
+        assertThat(encoded.compressed()).isFalse();
+        assertThat(encoded.data()).isEqualTo("오늘은 맑음".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("임계값 이상 본문 - 압축 저장 후 그대로 복원")
+    void testLargeContentCompressedRoundTrip() {
+        String content = "오늘은 공원에서 산책을 했다. ".repeat(200);
+
+        DiaryContent.Encoded encoded = DiaryContent.encode(content);
+
+        assertThat(encoded.compressed()).isTrue();
+        assertThat(encoded.data().length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(DiaryContent.decode(encoded.data(), encoded.compressed())).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("반복이 적은 본문 - 압축 여부와 관계없이 그대로 복원")
+    void testRandomContentRoundTrip() {
+        StringBuilder content = new StringBuilder();
+        Random random = new Random(42);
+        while (content.length() < DiaryContent.COMPRESSION_THRESHOLD_BYTES) {
+            content.append((char) ('가' + random.nextInt(11172)));
+        }
+
+        DiaryContent.Encoded encoded = DiaryContent.encode(content.toString());
+
+        assertThat(DiaryContent.decode(encoded.data(), encoded.compressed())).isEqualTo(content.toString());
+    }
+
+    @Test
+    @DisplayName("본문 변경 - 미리보기와 본문이 함께 바뀜")
+    void testChangeContentUpdatesBodyAndPreview() {
+        Diary diary = new Diary("제목", "처음 본문", DiaryVisibility.PRIVATE);
+        String longContent = "가".repeat(DiaryContent.COMPRESSION_THRESHOLD_BYTES);
+
+        diary.changeContent(longContent);
+
+        assertThat(diary.getContent()).isEqualTo(longContent);
+        assertThat(diary.getContentPreview()).hasSize(Diary.PREVIEW_LENGTH);
+    }
+}
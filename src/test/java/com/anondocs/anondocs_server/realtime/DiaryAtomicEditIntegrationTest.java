@@ -0,0 +1,170 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.auth.JwtTokenProvider;
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.dto.DiaryEditBroadcastMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditErrorMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditMessageDto;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 편집 액터를 끈 경우(anondocs.diary.actor.enabled=false)의 /edit 테스트
+ *
+ * 조건부 UPDATE(updateDiaryContentAtomically, 메타데이터 + 본문 두 문장, SELECT 없음)로 저장되며, 서버 병합 없이 기준 버전이 다르면 바로 충돌
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application.properties",
+        properties = "anondocs.diary.actor.enabled=false")
+class DiaryAtomicEditIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private User user;
+    private Diary diary;
+
+    @BeforeEach
+    void setUp() {
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = User.builder()
+                .email("atomic@test.com")
+                .passwordHash(passwordEncoder.encode("password"))
+                .nickname("AtomicUser")
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+        userRepository.save(user);
+
+        diary = Diary.makeDiary("조건부 UPDATE 일기", "첫째 줄\n둘째 줄", DiaryVisibility.PRIVATE, user);
+        diaryRepository.save(diary);
+    }
+
+    @Test
+    @DisplayName("액터 없이 편집 - 성공은 브로드캐스트, 오래된 버전은 병합 없이 충돌")
+    void testAtomicEditWithoutActor() throws Exception {
+        // Given
+        BlockingQueue<DiaryEditBroadcastMessageDto> broadcastQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<DiaryEditErrorMessageDto> errorQueue = new LinkedBlockingQueue<>();
+
+        WebSocketStompClient stompClient = createStompClient();
+        StompSession session = connectWithAuth(stompClient, jwtTokenProvider.generateAccessToken(user));
+
+        session.subscribe("/topic/diaries/" + diary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                broadcastQueue.offer((DiaryEditBroadcastMessageDto) payload);
+            }
+        });
+        session.subscribe("/topic/diaries/" + diary.getId() + "/errors", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditErrorMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                errorQueue.offer((DiaryEditErrorMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        Long initialVersion = diary.getVersion();
+
+        // When - 첫 편집 (성공)
+        session.send("/app/diaries/" + diary.getId() + "/edit", edit("첫째 줄 수정\n둘째 줄", initialVersion));
+
+        DiaryEditBroadcastMessageDto broadcast = broadcastQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(broadcast).isNotNull();
+        assertThat(broadcast.getContent()).isEqualTo("첫째 줄 수정\n둘째 줄");
+        assertThat(broadcast.getVersion()).isEqualTo(initialVersion + 1);
+
+        // 같은 기준 버전으로 다른 줄 편집 -> 액터 경로라면 병합되지만 여기서는 충돌
+        session.send("/app/diaries/" + diary.getId() + "/edit", edit("첫째 줄\n둘째 줄 수정", initialVersion));
+
+        // Then
+        DiaryEditErrorMessageDto error = errorQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(error).isNotNull();
+        assertThat(error.getCode()).isEqualTo("VERSION_CONFLICT");
+        assertThat(error.getCurrentVersion()).isEqualTo(initialVersion + 1);
+
+        Diary saved = diaryRepository.findWithContentById(diary.getId()).orElseThrow();
+        assertThat(saved.getContent()).isEqualTo("첫째 줄 수정\n둘째 줄");
+        assertThat(saved.getVersion()).isEqualTo(initialVersion + 1);
+
+        session.disconnect();
+        stompClient.stop();
+    }
+
+    private DiaryEditMessageDto edit(String content, Long version) {
+        DiaryEditMessageDto message = new DiaryEditMessageDto();
+        message.setDiaryId(diary.getId());
+        message.setContent(content);
+        message.setVersion(version);
+        return message;
+    }
+
+    private WebSocketStompClient createStompClient() {
+        SockJsClient sockJsClient = new SockJsClient(
+                List.of(new WebSocketTransport(new StandardWebSocketClient()))
+        );
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        return stompClient;
+    }
+
+    private StompSession connectWithAuth(WebSocketStompClient stompClient, String token) throws Exception {
+        StompHeaders stompHeaders = new StompHeaders();
+        stompHeaders.add("Authorization", "Bearer " + token);
+
+        return stompClient.connectAsync("http://localhost:" + port + "/ws", new WebSocketHttpHeaders(), stompHeaders,
+                        new StompSessionHandlerAdapter() {
+                        })
+                .get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,201 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.auth.JwtTokenProvider;
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryEditOperationType;
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.dto.DiaryEditAckMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditBatchItemDto;
+import com.anondocs.anondocs_server.dto.DiaryEditBatchMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditBroadcastMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditOperationDto;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치(seq + ack) 방식 실시간 일기 편집 테스트
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application.properties")
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DiaryBatchEditIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private String wsUrl;
+    private Diary sharedDiary;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        wsUrl = "http://localhost:" + port + "/ws";
+
+        // 기존 데이터 정리
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = User.builder()
+                .email("batch@test.com")
+                .passwordHash(passwordEncoder.encode("password1"))
+                .nickname("BatchUser")
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+        userRepository.save(user);
+
+        sharedDiary = Diary.makeDiary(
+                "Batch 일기",
+                "오늘은 날씨가 좋다",
+                DiaryVisibility.PRIVATE,
+                user
+        );
+        diaryRepository.save(sharedDiary);
+
+        accessToken = jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Test
+    @DisplayName("배치 편집 - 여러 편집을 버전 하나로 반영하고 마지막 seq 로 ack, 재전송은 한 번만 반영")
+    void testBatchEditAppliesOnceAndAcks() throws Exception {
+        // Given
+        BlockingQueue<DiaryEditBroadcastMessageDto> broadcastQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<DiaryEditAckMessageDto> ackQueue = new LinkedBlockingQueue<>();
+        WebSocketStompClient stompClient = createStompClient();
+        StompSession session = connectWithAuth(stompClient, accessToken);
+
+        session.subscribe("/topic/diaries/" + sharedDiary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                broadcastQueue.offer((DiaryEditBroadcastMessageDto) payload);
+            }
+        });
+
+        session.subscribe("/user/queue/acks", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditAckMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                ackQueue.offer((DiaryEditAckMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        // When - 델타 2개 + 델타 1개를 한 배치로 전송
+        Long baseVersion = sharedDiary.getVersion();
+        DiaryEditBatchMessageDto message = new DiaryEditBatchMessageDto();
+        message.setDiaryId(sharedDiary.getId());
+        message.setClientId("client-a");
+        message.setBaseVersion(baseVersion);
+        message.setEdits(List.of(
+                DiaryEditBatchItemDto.builder().seq(1L).operations(List.of(
+                        DiaryEditOperationDto.builder().type(DiaryEditOperationType.INSERT).position(8).text("정말 ").build()
+                )).build(),
+                DiaryEditBatchItemDto.builder().seq(2L).operations(List.of(
+                        DiaryEditOperationDto.builder().type(DiaryEditOperationType.INSERT).position(13).text("!").build()
+                )).build(),
+                DiaryEditBatchItemDto.builder().seq(3L).operations(List.of(
+                        DiaryEditOperationDto.builder().type(DiaryEditOperationType.DELETE).position(4).length(4).build()
+                )).build()
+        ));
+
+        session.send("/app/diaries/" + sharedDiary.getId() + "/edit-batch", message);
+
+        // Then - 브로드캐스트 1번, ack 1번 (마지막 seq)
+        DiaryEditBroadcastMessageDto broadcast = broadcastQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(broadcast).isNotNull();
+        assertThat(broadcast.getContent()).isEqualTo("오늘은 정말 좋다!");
+        assertThat(broadcast.getVersion()).isEqualTo(baseVersion + 1);
+        assertThat(broadcast.getClientId()).isEqualTo("client-a");
+        assertThat(broadcast.getClientSeq()).isEqualTo(3L);
+
+        DiaryEditAckMessageDto ack = ackQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(ack).isNotNull();
+        assertThat(ack.getLastAppliedSeq()).isEqualTo(3L);
+        assertThat(ack.getVersion()).isEqualTo(baseVersion + 1);
+        assertThat(ack.getCode()).isNull();
+
+        // When - 같은 배치 재전송 (ack 유실 가정)
+        session.send("/app/diaries/" + sharedDiary.getId() + "/edit-batch", message);
+
+        // Then - 같은 ack, 본문/버전은 그대로
+        DiaryEditAckMessageDto retryAck = ackQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(retryAck).isNotNull();
+        assertThat(retryAck.getLastAppliedSeq()).isEqualTo(3L);
+        assertThat(retryAck.getVersion()).isEqualTo(baseVersion + 1);
+
+        Diary updatedDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
+        assertThat(updatedDiary.getContent()).isEqualTo("오늘은 정말 좋다!");
+        assertThat(updatedDiary.getVersion()).isEqualTo(baseVersion + 1);
+
+        session.disconnect();
+        stompClient.stop();
+    }
+
+    private WebSocketStompClient createStompClient() {
+        // SockJS 클라이언트 생성 (서버가 SockJS를 사용하므로)
+        SockJsClient sockJsClient = new SockJsClient(
+                List.of(new WebSocketTransport(new StandardWebSocketClient()))
+        );
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        return stompClient;
+    }
+
+    private StompSession connectWithAuth(WebSocketStompClient stompClient, String token) throws Exception {
+        WebSocketHttpHeaders httpHeaders = new WebSocketHttpHeaders();
+
+        StompHeaders stompHeaders = new StompHeaders();
+        stompHeaders.add("Authorization", "Bearer " + token);
+
+        StompSessionHandler sessionHandler = new StompSessionHandlerAdapter() {};
+
+        return stompClient.connectAsync(wsUrl, httpHeaders, stompHeaders, sessionHandler)
+                .get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,88 @@
+package com.anondocs.anondocs_server.realtime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DiaryBroadcastThrottlerTest {
+
+    private static final String TOPIC = "/topic/diaries/1";
+
+    private DiaryBroadcaster diaryBroadcaster;
+    private DiaryBroadcastThrottler throttler;
+
+    @BeforeEach
+    void setUp() {
+        diaryBroadcaster = mock(DiaryBroadcaster.class);
+        when(diaryBroadcaster.encode(any())).thenAnswer(invocation ->
+                new EncodedPayload(invocation.getArgument(0).toString().getBytes(StandardCharsets.UTF_8), null));
+
+        throttler = new DiaryBroadcastThrottler(diaryBroadcaster);
+        ReflectionTestUtils.setField(throttler, "windowMillis", 200L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        throttler.shutdown();
+    }
+
+    @Test
+    @DisplayName("윈도우 안의 전체 본문 프레임은 윈도우 끝에 최신 것만 전송")
+    void testLatestFrameSentAtWindowEnd() {
+        throttler.sendLatest(TOPIC, "v1");
+        throttler.sendLatest(TOPIC, "v2");
+        throttler.sendLatest(TOPIC, "v3");
+
+        verify(diaryBroadcaster).sendCoalescing(eq(TOPIC), payload("v1"), eq(TOPIC));
+        verify(diaryBroadcaster, timeout(2000)).sendCoalescing(eq(TOPIC), payload("v3"), eq(TOPIC));
+        verify(diaryBroadcaster, never()).sendCoalescing(eq(TOPIC), payload("v2"), eq(TOPIC));
+    }
+
+    @Test
+    @DisplayName("즉시 전송 프레임 - 대기 중인 전체 본문 프레임을 먼저 내보낸 뒤 전송")
+    void testImmediateFrameFlushesPendingFirst() throws Exception {
+        throttler.sendLatest(TOPIC, "v1");
+        throttler.sendLatest(TOPIC, "v2"); // 윈도우 안 -> 대기
+        throttler.sendNow(TOPIC, "d3");
+        throttler.sendNow(TOPIC, TOPIC + "/errors", "e4");
+
+        InOrder order = inOrder(diaryBroadcaster);
+        order.verify(diaryBroadcaster).sendCoalescing(eq(TOPIC), payload("v1"), eq(TOPIC));
+        order.verify(diaryBroadcaster).sendCoalescing(eq(TOPIC), payload("v2"), eq(TOPIC));
+        order.verify(diaryBroadcaster).send(TOPIC, "d3");
+        order.verify(diaryBroadcaster).send(TOPIC + "/errors", "e4");
+
+        // 이미 내보낸 v2 를 윈도우 끝에 다시 보내지 않음
+        Thread.sleep(400);
+        verify(diaryBroadcaster).sendCoalescing(eq(TOPIC), payload("v2"), eq(TOPIC));
+    }
+
+    @Test
+    @DisplayName("윈도우가 없는 토픽 - 즉시 전송 프레임은 바로 전송")
+    void testImmediateFrameWithoutWindow() {
+        throttler.sendNow(TOPIC, "d1");
+
+        verify(diaryBroadcaster).send(TOPIC, "d1");
+        verify(diaryBroadcaster, never()).sendCoalescing(any(), any(), any());
+    }
+
+    private static EncodedPayload payload(String body) {
+        return argThat(encoded -> encoded != null
+                && body.equals(new String(encoded.bytes(), StandardCharsets.UTF_8)));
+    }
+}
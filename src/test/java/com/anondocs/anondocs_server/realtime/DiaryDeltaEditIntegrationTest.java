@@ -0,0 +1,211 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.auth.JwtTokenProvider;
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryEditOperationType;
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.dto.DiaryEditDeltaBroadcastMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditDeltaMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditErrorMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditOperationDto;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Delta(위치 기반 삽입/삭제 연산) 방식 실시간 일기 편집 테스트
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application.properties")
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DiaryDeltaEditIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private String wsUrl;
+    private Diary sharedDiary;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        wsUrl = "http://localhost:" + port + "/ws";
+
+        // 기존 데이터 정리
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = User.builder()
+                .email("delta@test.com")
+                .passwordHash(passwordEncoder.encode("password1"))
+                .nickname("DeltaUser")
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+        userRepository.save(user);
+
+        sharedDiary = Diary.makeDiary(
+                "Delta 일기",
+                "오늘은 날씨가 좋다",
+                DiaryVisibility.PRIVATE,
+                user
+        );
+        diaryRepository.save(sharedDiary);
+
+        accessToken = jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Test
+    @DisplayName("Delta 편집 - 삽입/삭제 연산 적용 및 연산만 브로드캐스트")
+    void testDeltaEditAppliesOperations() throws Exception {
+        // Given
+        BlockingQueue<DiaryEditDeltaBroadcastMessageDto> messageQueue = new LinkedBlockingQueue<>();
+        WebSocketStompClient stompClient = createStompClient();
+        StompSession session = connectWithAuth(stompClient, accessToken);
+
+        session.subscribe("/topic/diaries/" + sharedDiary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditDeltaBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                messageQueue.offer((DiaryEditDeltaBroadcastMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        // When - "오늘은 날씨가 좋다" -> "오늘은 날씨가 정말 좋다!" -> "오늘은 정말 좋다!"
+        Long baseVersion = sharedDiary.getVersion();
+        DiaryEditDeltaMessageDto message = new DiaryEditDeltaMessageDto();
+        message.setDiaryId(sharedDiary.getId());
+        message.setBaseVersion(baseVersion);
+        message.setOperations(List.of(
+                DiaryEditOperationDto.builder().type(DiaryEditOperationType.INSERT).position(8).text("정말 ").build(),
+                DiaryEditOperationDto.builder().type(DiaryEditOperationType.INSERT).position(13).text("!").build(),
+                DiaryEditOperationDto.builder().type(DiaryEditOperationType.DELETE).position(4).length(4).build()
+        ));
+
+        session.send("/app/diaries/" + sharedDiary.getId() + "/edit-delta", message);
+
+        // Then - 연산과 새 버전이 브로드캐스트됨
+        DiaryEditDeltaBroadcastMessageDto received = messageQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(received).isNotNull();
+        assertThat(received.getBaseVersion()).isEqualTo(baseVersion);
+        assertThat(received.getVersion()).isEqualTo(baseVersion + 1);
+        assertThat(received.getOperations()).hasSize(3);
+
+        // DB 확인
+        Diary updatedDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
+        assertThat(updatedDiary.getContent()).isEqualTo("오늘은 정말 좋다!");
+        assertThat(updatedDiary.getVersion()).isEqualTo(baseVersion + 1);
+
+        session.disconnect();
+        stompClient.stop();
+    }
+
+    @Test
+    @DisplayName("Delta 편집 - 본문 범위를 벗어난 연산은 INVALID_DELTA 에러")
+    void testDeltaEditOutOfRange() throws Exception {
+        // Given
+        BlockingQueue<DiaryEditErrorMessageDto> errorQueue = new LinkedBlockingQueue<>();
+        WebSocketStompClient stompClient = createStompClient();
+        StompSession session = connectWithAuth(stompClient, accessToken);
+
+        session.subscribe("/topic/diaries/" + sharedDiary.getId() + "/errors", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditErrorMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                errorQueue.offer((DiaryEditErrorMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        // When - 본문 길이보다 큰 위치에서 삭제 시도
+        DiaryEditDeltaMessageDto message = new DiaryEditDeltaMessageDto();
+        message.setDiaryId(sharedDiary.getId());
+        message.setBaseVersion(sharedDiary.getVersion());
+        message.setOperations(List.of(
+                DiaryEditOperationDto.builder().type(DiaryEditOperationType.DELETE).position(5).length(100).build()
+        ));
+
+        session.send("/app/diaries/" + sharedDiary.getId() + "/edit-delta", message);
+
+        // Then
+        DiaryEditErrorMessageDto error = errorQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(error).isNotNull();
+        assertThat(error.getCode()).isEqualTo("INVALID_DELTA");
+
+        // DB는 변경되지 않음
+        Diary unchangedDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
+        assertThat(unchangedDiary.getContent()).isEqualTo("오늘은 날씨가 좋다");
+
+        session.disconnect();
+        stompClient.stop();
+    }
+
+    private WebSocketStompClient createStompClient() {
+        // SockJS 클라이언트 생성 (서버가 SockJS를 사용하므로)
+        SockJsClient sockJsClient = new SockJsClient(
+                List.of(new WebSocketTransport(new StandardWebSocketClient()))
+        );
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        return stompClient;
+    }
+
+    private StompSession connectWithAuth(WebSocketStompClient stompClient, String token) throws Exception {
+        WebSocketHttpHeaders httpHeaders = new WebSocketHttpHeaders();
+
+        // STOMP CONNECT 프레임에 포함될 헤더 (JWT 인증용)
+        StompHeaders stompHeaders = new StompHeaders();
+        stompHeaders.add("Authorization", "Bearer " + token);
+
+        StompSessionHandler sessionHandler = new StompSessionHandlerAdapter() {};
+
+        return stompClient.connectAsync(wsUrl, httpHeaders, stompHeaders, sessionHandler)
+                .get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,228 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.auth.JwtTokenProvider;
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.dto.DiaryPresenceBroadcastMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryPresenceMessageDto;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커서/선택 영역 presence 채널 테스트
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application.properties")
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DiaryPresenceIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private String wsUrl;
+    private Diary sharedDiary;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        wsUrl = "http://localhost:" + port + "/ws";
+
+        // 기존 데이터 정리
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = User.builder()
+                .email("presence@test.com")
+                .passwordHash(passwordEncoder.encode("password1"))
+                .nickname("PresenceUser")
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+        userRepository.save(user);
+
+        sharedDiary = Diary.makeDiary(
+                "Presence 일기",
+                "오늘은 날씨가 좋다",
+                DiaryVisibility.PRIVATE,
+                user
+        );
+        diaryRepository.save(sharedDiary);
+
+        accessToken = jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Test
+    @DisplayName("presence - 커서 업데이트는 합쳐서 브로드캐스트되고, 연결이 끊기면 목록에서 제거")
+    void testPresenceCoalescedAndRemovedOnDisconnect() throws Exception {
+        // Given - 관찰자 세션과 편집자 세션
+        BlockingQueue<DiaryPresenceBroadcastMessageDto> presenceQueue = new LinkedBlockingQueue<>();
+        WebSocketStompClient observerClient = createStompClient();
+        WebSocketStompClient editorClient = createStompClient();
+        StompSession observer = connectWithAuth(observerClient, accessToken);
+        StompSession editor = connectWithAuth(editorClient, accessToken);
+
+        observer.subscribe("/topic/diaries/" + sharedDiary.getId() + "/presence", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryPresenceBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                presenceQueue.offer((DiaryPresenceBroadcastMessageDto) payload);
+            }
+        });
+
+        // 편집자는 일기 토픽을 구독한 세션에서만 presence 를 보낼 수 있음
+        editor.subscribe("/topic/diaries/" + sharedDiary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Object.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+            }
+        });
+
+        Thread.sleep(500);
+
+        // When - 커서를 빠르게 여러 번 이동
+        for (int cursor = 0; cursor < 20; cursor++) {
+            DiaryPresenceMessageDto message = new DiaryPresenceMessageDto();
+            message.setCursor(cursor);
+            message.setVersion(sharedDiary.getVersion());
+            editor.send("/app/diaries/" + sharedDiary.getId() + "/presence", message);
+        }
+
+        // Then - 마지막 위치가 전달됨 (중간 위치는 합쳐질 수 있음)
+        DiaryPresenceBroadcastMessageDto latest = null;
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            DiaryPresenceBroadcastMessageDto received = presenceQueue.poll(500, TimeUnit.MILLISECONDS);
+            if (received == null) {
+                continue;
+            }
+            latest = received;
+            if (!received.getParticipants().isEmpty() && received.getParticipants().get(0).getCursor() == 19) {
+                break;
+            }
+        }
+        assertThat(latest).isNotNull();
+        assertThat(latest.getParticipants()).hasSize(1);
+        assertThat(latest.getParticipants().get(0).getCursor()).isEqualTo(19);
+        assertThat(latest.getParticipants().get(0).getNickname()).isEqualTo("PresenceUser");
+
+        // When - 편집자 연결 종료
+        editor.disconnect();
+        editorClient.stop();
+
+        // Then - 빈 목록이 브로드캐스트됨
+        DiaryPresenceBroadcastMessageDto afterLeave = presenceQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(afterLeave).isNotNull();
+        assertThat(afterLeave.getParticipants()).isEmpty();
+
+        observer.disconnect();
+        observerClient.stop();
+    }
+
+    @Test
+    @DisplayName("presence - 일기 토픽을 구독하지 않은 세션의 업데이트는 무시")
+    void testPresenceIgnoredWithoutSubscription() throws Exception {
+        // Given - 관찰자만 구독, 편집자는 구독하지 않음
+        BlockingQueue<DiaryPresenceBroadcastMessageDto> presenceQueue = new LinkedBlockingQueue<>();
+        WebSocketStompClient observerClient = createStompClient();
+        WebSocketStompClient editorClient = createStompClient();
+        StompSession observer = connectWithAuth(observerClient, accessToken);
+        StompSession editor = connectWithAuth(editorClient, accessToken);
+
+        observer.subscribe("/topic/diaries/" + sharedDiary.getId() + "/presence", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryPresenceBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                presenceQueue.offer((DiaryPresenceBroadcastMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        // When
+        DiaryPresenceMessageDto message = new DiaryPresenceMessageDto();
+        message.setCursor(7);
+        message.setVersion(sharedDiary.getVersion());
+        editor.send("/app/diaries/" + sharedDiary.getId() + "/presence", message);
+
+        // Then - 참여자가 있는 presence 는 브로드캐스트되지 않음
+        DiaryPresenceBroadcastMessageDto received = presenceQueue.poll(2, TimeUnit.SECONDS);
+        if (received != null) {
+            assertThat(received.getParticipants()).isEmpty();
+        }
+
+        editor.disconnect();
+        editorClient.stop();
+        observer.disconnect();
+        observerClient.stop();
+    }
+
+    private WebSocketStompClient createStompClient() {
+        // SockJS 클라이언트 생성 (서버가 SockJS를 사용하므로)
+        SockJsClient sockJsClient = new SockJsClient(
+                List.of(new WebSocketTransport(new StandardWebSocketClient()))
+        );
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        return stompClient;
+    }
+
+    private StompSession connectWithAuth(WebSocketStompClient stompClient, String token) throws Exception {
+        WebSocketHttpHeaders httpHeaders = new WebSocketHttpHeaders();
+
+        StompHeaders stompHeaders = new StompHeaders();
+        stompHeaders.add("Authorization", "Bearer " + token);
+
+        StompSessionHandler sessionHandler = new StompSessionHandlerAdapter() {};
+
+        return stompClient.connectAsync(wsUrl, httpHeaders, stompHeaders, sessionHandler)
+                .get(10, TimeUnit.SECONDS);
+    }
+}
@@ -6,6 +6,7 @@ import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
 import com.anondocs.anondocs_server.domain.user.User;
 import com.anondocs.anondocs_server.domain.user.UserStatus;
 import com.anondocs.anondocs_server.dto.DiaryEditBroadcastMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditErrorMessageDto;
 import com.anondocs.anondocs_server.dto.DiaryEditLwwMessageDto;
 import com.anondocs.anondocs_server.repository.DiaryRepository;
 import com.anondocs.anondocs_server.repository.UserRepository;
@@ -26,6 +27,7 @@ import org.springframework.web.socket.sockjs.client.SockJsClient;
 import org.springframework.web.socket.sockjs.client.WebSocketTransport;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -140,7 +142,7 @@ class DiaryRealTimeIntegrationTest {
         assertThat(received.getEditorNickname()).isEqualTo("User1");
 
         // DB 확인
-        Diary updatedDiary = diaryRepository.findById(sharedDiary.getId()).orElseThrow();
+        Diary updatedDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
         assertThat(updatedDiary.getContent()).isEqualTo("사용자1이 수정한 내용");
 
         session.disconnect();
@@ -196,8 +198,8 @@ class DiaryRealTimeIntegrationTest {
         assertThat(msg2.getContent()).isEqualTo("두 번째 수정 - 최종본");
         assertThat(msg2.getEditorUserId()).isEqualTo(user1.getId());
 
-        // DB에는 마지막 수정이 반영됨 (LWW)
-        Diary finalDiary = diaryRepository.findById(sharedDiary.getId()).orElseThrow();
+        // DB에는 마지막 수정이 반영됨 (LWW, write-behind 저장 대기)
+        Diary finalDiary = awaitContent(sharedDiary.getId(), "두 번째 수정 - 최종본");
         assertThat(finalDiary.getContent()).isEqualTo("두 번째 수정 - 최종본");
 
         session.disconnect();
@@ -241,15 +243,19 @@ class DiaryRealTimeIntegrationTest {
             Thread.sleep(50); // 메시지 순서 보장
         }
 
-        // Then - 모든 브로드캐스트 수신 확인
-        for (int i = 0; i < edits.length; i++) {
-            DiaryEditBroadcastMessageDto received = messageQueue.poll(5, TimeUnit.SECONDS);
+        // Then - 윈도우 안의 중간 상태는 합쳐질 수 있지만, 순서는 유지되고 마지막 상태는 반드시 수신
+        List<String> receivedContents = new ArrayList<>();
+        DiaryEditBroadcastMessageDto received;
+        do {
+            received = messageQueue.poll(5, TimeUnit.SECONDS);
             assertThat(received).isNotNull();
-            assertThat(received.getContent()).isEqualTo(edits[i]);
-        }
+            receivedContents.add(received.getContent());
+        } while (!edits[edits.length - 1].equals(received.getContent()));
+
+        assertThat(List.of(edits)).containsSubsequence(receivedContents);
 
-        // 최종 DB 상태 확인
-        Diary finalDiary = diaryRepository.findById(sharedDiary.getId()).orElseThrow();
+        // 최종 DB 상태 확인 (write-behind 저장 대기)
+        Diary finalDiary = awaitContent(sharedDiary.getId(), "네 번째 수정 - 최종");
         assertThat(finalDiary.getContent()).isEqualTo("네 번째 수정 - 최종");
 
         session.disconnect();
@@ -257,23 +263,23 @@ class DiaryRealTimeIntegrationTest {
     }
 
     @Test
-    @DisplayName("실시간 일기 편집(LWW) - 권한 없는 사용자의 수정 시도")
-    void testUnauthorizedEdit() throws Exception {
+    @DisplayName("실시간 일기 편집(LWW) - 권한 없는 사용자의 일기 토픽 구독은 ERROR 프레임으로 거부")
+    void testUnauthorizedSubscribeDenied() throws Exception {
         // Given
-        User unauthorizedUser = User.builder()
-                .email("unauthorized@test.com")
-                .passwordHash(passwordEncoder.encode("password"))
-                .nickname("Unauthorized")
-                .userStatus(UserStatus.ACTIVE)
-                .build();
-        userRepository.save(unauthorizedUser);
-
-        String unauthorizedToken = jwtTokenProvider.generateAccessToken(unauthorizedUser);
+        String unauthorizedToken = jwtTokenProvider.generateAccessToken(createUnauthorizedUser());
 
+        BlockingQueue<StompHeaders> errorFrames = new LinkedBlockingQueue<>();
         BlockingQueue<DiaryEditBroadcastMessageDto> messageQueue = new LinkedBlockingQueue<>();
         WebSocketStompClient stompClient = createStompClient();
-        StompSession session = connectWithAuth(stompClient, unauthorizedToken);
+        StompSession session = connectWithAuth(stompClient, unauthorizedToken, new StompSessionHandlerAdapter() {
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                // 세션 핸들러로 오는 프레임은 ERROR 프레임
+                errorFrames.offer(headers);
+            }
+        });
 
+        // When
         session.subscribe("/topic/diaries/" + sharedDiary.getId(), new StompFrameHandler() {
             @Override
             public Type getPayloadType(StompHeaders headers) {
@@ -286,28 +292,81 @@ class DiaryRealTimeIntegrationTest {
             }
         });
 
+        // Then - ERROR 프레임 수신 후 서버가 연결을 닫음
+        StompHeaders errorFrame = errorFrames.poll(5, TimeUnit.SECONDS);
+        assertThat(errorFrame).isNotNull();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (session.isConnected() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(session.isConnected()).isFalse();
+        assertThat(messageQueue).isEmpty();
+
+        stompClient.stop();
+    }
+
+    @Test
+    @DisplayName("실시간 일기 편집(LWW) - 구독 없이 보낸 권한 없는 사용자의 수정은 소유자 확인에서 거부")
+    void testUnauthorizedEditRejectedByOwnerCheck() throws Exception {
+        // Given - 소유자는 일기 토픽, 권한 없는 사용자는 자기 에러 큐만 구독
+        String unauthorizedToken = jwtTokenProvider.generateAccessToken(createUnauthorizedUser());
+
+        BlockingQueue<DiaryEditBroadcastMessageDto> ownerQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<DiaryEditErrorMessageDto> errorQueue = new LinkedBlockingQueue<>();
+        WebSocketStompClient ownerClient = createStompClient();
+        WebSocketStompClient stompClient = createStompClient();
+        StompSession owner = connectWithAuth(ownerClient, accessToken1);
+        StompSession session = connectWithAuth(stompClient, unauthorizedToken);
+
+        owner.subscribe("/topic/diaries/" + sharedDiary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                ownerQueue.offer((DiaryEditBroadcastMessageDto) payload);
+            }
+        });
+        session.subscribe("/user/queue/errors", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditErrorMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                errorQueue.offer((DiaryEditErrorMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
         // When - 권한 없는 사용자가 수정 시도 (LWW 방식)
         DiaryEditLwwMessageDto editMessage = new DiaryEditLwwMessageDto();
         editMessage.setDiaryId(sharedDiary.getId());
         editMessage.setContent("권한 없는 수정 시도");
 
-        try {
-            session.send("/app/diaries/" + sharedDiary.getId() + "/edit-lww", editMessage);
-            Thread.sleep(1000); // 에러 발생 대기
-        } catch (Exception e) {
-            // 예외 발생 예상
-        }
+        session.send("/app/diaries/" + sharedDiary.getId() + "/edit-lww", editMessage);
 
-        // Then - 메시지가 브로드캐스트되지 않음
-        DiaryEditBroadcastMessageDto received = messageQueue.poll(2, TimeUnit.SECONDS);
-        assertThat(received).isNull();
+        // Then - 컨트롤러의 소유자 확인에서 거부되어 본인 에러 큐로 FORBIDDEN
+        DiaryEditErrorMessageDto error = errorQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(error).isNotNull();
+        assertThat(error.getCode()).isEqualTo("FORBIDDEN");
+        assertThat(error.getDiaryId()).isEqualTo(sharedDiary.getId());
+        assertThat(session.isConnected()).isTrue();
 
-        // DB가 변경되지 않음
-        Diary unchangedDiary = diaryRepository.findById(sharedDiary.getId()).orElseThrow();
+        // 브로드캐스트되지 않고 DB도 그대로
+        assertThat(ownerQueue.poll(1, TimeUnit.SECONDS)).isNull();
+        Diary unchangedDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
         assertThat(unchangedDiary.getContent()).isEqualTo("초기 내용");
 
         session.disconnect();
+        owner.disconnect();
         stompClient.stop();
+        ownerClient.stop();
     }
 
     @Test
@@ -318,8 +377,9 @@ class DiaryRealTimeIntegrationTest {
         WebSocketStompClient stompClient1 = createStompClient();
         WebSocketStompClient stompClient2 = createStompClient();
 
+        // 일기 토픽은 소유자만 구독할 수 있으므로 같은 사용자의 두 세션으로 동시 편집
         StompSession session1 = connectWithAuth(stompClient1, accessToken1);
-        StompSession session2 = connectWithAuth(stompClient2, accessToken2);
+        StompSession session2 = connectWithAuth(stompClient2, accessToken1);
 
         StompFrameHandler handler = new StompFrameHandler() {
             @Override
@@ -358,7 +418,7 @@ class DiaryRealTimeIntegrationTest {
 
         // 마지막 메시지의 내용이 DB에 저장됨
         Thread.sleep(200); // DB 저장 대기
-        Diary finalDiary = diaryRepository.findById(sharedDiary.getId()).orElseThrow();
+        Diary finalDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
         // LWW이므로 두 번째 수정이 반영됨 (정확한 타이밍에 따라 다를 수 있음)
         assertThat(finalDiary.getContent()).isIn("동시 수정 1", "동시 수정 2 - 승리");
 
@@ -368,8 +428,73 @@ class DiaryRealTimeIntegrationTest {
         stompClient2.stop();
     }
 
+    @Test
+    @DisplayName("다른 사용자의 일기 토픽은 구독할 수 없음")
+    void testSubscribeToOthersDiaryDenied() throws Exception {
+        // Given - 소유자 세션과 다른 사용자 세션
+        BlockingQueue<DiaryEditBroadcastMessageDto> ownerQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<DiaryEditBroadcastMessageDto> otherQueue = new LinkedBlockingQueue<>();
+        WebSocketStompClient ownerClient = createStompClient();
+        WebSocketStompClient otherClient = createStompClient();
+
+        StompSession owner = connectWithAuth(ownerClient, accessToken1);
+        StompSession other = connectWithAuth(otherClient, accessToken2);
+
+        owner.subscribe("/topic/diaries/" + sharedDiary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                ownerQueue.offer((DiaryEditBroadcastMessageDto) payload);
+            }
+        });
+        other.subscribe("/topic/diaries/" + sharedDiary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                otherQueue.offer((DiaryEditBroadcastMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        // When - 소유자가 수정
+        DiaryEditLwwMessageDto edit = new DiaryEditLwwMessageDto();
+        edit.setDiaryId(sharedDiary.getId());
+        edit.setContent("소유자만 볼 수 있는 내용");
+        owner.send("/app/diaries/" + sharedDiary.getId() + "/edit-lww", edit);
+
+        // Then - 소유자만 수신
+        DiaryEditBroadcastMessageDto received = ownerQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(received).isNotNull();
+        assertThat(received.getContent()).isEqualTo("소유자만 볼 수 있는 내용");
+        assertThat(otherQueue.poll(1, TimeUnit.SECONDS)).isNull();
+
+        owner.disconnect();
+        ownerClient.stop();
+        otherClient.stop();
+    }
+
     // Helper Methods
 
+    // LWW 는 write-behind 로 저장되므로 기대한 본문이 DB에 반영될 때까지 최대 5초 대기
+    private Diary awaitContent(Long diaryId, String expectedContent) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        Diary diary = diaryRepository.findWithContentById(diaryId).orElseThrow();
+        while (!expectedContent.equals(diary.getContent()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            diary = diaryRepository.findWithContentById(diaryId).orElseThrow();
+        }
+        return diary;
+    }
+
     private WebSocketStompClient createStompClient() {
         // SockJS 클라이언트 생성 (서버가 SockJS를 사용하므로)
         SockJsClient sockJsClient = new SockJsClient(
@@ -380,6 +505,24 @@ class DiaryRealTimeIntegrationTest {
         return stompClient;
     }
 
+    private User createUnauthorizedUser() {
+        return userRepository.save(User.builder()
+                .email("unauthorized@test.com")
+                .passwordHash(passwordEncoder.encode("password"))
+                .nickname("Unauthorized")
+                .userStatus(UserStatus.ACTIVE)
+                .build());
+    }
+
+    private StompSession connectWithAuth(WebSocketStompClient stompClient, String token,
+                                         StompSessionHandler sessionHandler) throws Exception {
+        StompHeaders stompHeaders = new StompHeaders();
+        stompHeaders.add("Authorization", "Bearer " + token);
+
+        return stompClient.connectAsync(wsUrl, new WebSocketHttpHeaders(), stompHeaders, sessionHandler)
+                .get(10, TimeUnit.SECONDS);
+    }
+
     private StompSession connectWithAuth(WebSocketStompClient stompClient, String token) throws Exception {
         // WebSocket 핸드셰이크용 HTTP 헤더 (비어있어도 됨, SecurityConfig에서 /ws/** 허용)
         WebSocketHttpHeaders httpHeaders = new WebSocketHttpHeaders();
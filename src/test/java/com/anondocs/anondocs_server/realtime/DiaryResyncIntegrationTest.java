@@ -0,0 +1,251 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.auth.JwtTokenProvider;
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.dto.DiaryEditBroadcastMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditLwwMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryResyncMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryResyncRequestMessageDto;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재연결 후 놓친 편집 replay 테스트
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application.properties")
+@org.springframework.test.annotation.DirtiesContext(classMode = org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DiaryResyncIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private String wsUrl;
+    private Diary sharedDiary;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        wsUrl = "http://localhost:" + port + "/ws";
+
+        // 기존 데이터 정리
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = User.builder()
+                .email("resync@test.com")
+                .passwordHash(passwordEncoder.encode("password1"))
+                .nickname("ResyncUser")
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+        userRepository.save(user);
+
+        sharedDiary = Diary.makeDiary(
+                "Resync 일기",
+                "오늘은 날씨가 좋다",
+                DiaryVisibility.PRIVATE,
+                user
+        );
+        diaryRepository.save(sharedDiary);
+
+        accessToken = jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Test
+    @DisplayName("재연결 동기화 - 버퍼 안이면 놓친 편집만, 버퍼 밖이면 스냅샷")
+    void testResyncReplaysMissedEvents() throws Exception {
+        // Given - 편집 2번 반영
+        BlockingQueue<DiaryEditBroadcastMessageDto> broadcastQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<DiaryResyncMessageDto> resyncQueue = new LinkedBlockingQueue<>();
+        WebSocketStompClient stompClient = createStompClient();
+        StompSession session = connectWithAuth(stompClient, accessToken);
+
+        session.subscribe("/topic/diaries/" + sharedDiary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                broadcastQueue.offer((DiaryEditBroadcastMessageDto) payload);
+            }
+        });
+
+        session.subscribe("/user/queue/diary-resync", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryResyncMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                resyncQueue.offer((DiaryResyncMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        Long initialVersion = sharedDiary.getVersion();
+        String[] edits = {"첫 번째 수정", "두 번째 수정"};
+        for (int i = 0; i < edits.length; i++) {
+            DiaryEditMessageDto edit = new DiaryEditMessageDto();
+            edit.setDiaryId(sharedDiary.getId());
+            edit.setContent(edits[i]);
+            edit.setVersion(initialVersion + i);
+            session.send("/app/diaries/" + sharedDiary.getId() + "/edit", edit);
+            assertThat(broadcastQueue.poll(5, TimeUnit.SECONDS)).isNotNull();
+        }
+
+        // When - 첫 버전만 본 클라이언트가 동기화 요청
+        DiaryResyncRequestMessageDto request = new DiaryResyncRequestMessageDto();
+        request.setLastSeenVersion(initialVersion);
+        session.send("/app/diaries/" + sharedDiary.getId() + "/resync", request);
+
+        // Then - 놓친 편집 2개만 순서대로
+        DiaryResyncMessageDto replay = resyncQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(replay).isNotNull();
+        assertThat(replay.isSnapshot()).isFalse();
+        assertThat(replay.getEvents()).extracting(DiaryEditBroadcastMessageDto::getContent)
+                .containsExactly("첫 번째 수정", "두 번째 수정");
+
+        // When - 버퍼보다 오래된 버전으로 요청
+        request.setLastSeenVersion(initialVersion - 10);
+        session.send("/app/diaries/" + sharedDiary.getId() + "/resync", request);
+
+        // Then - 전체 스냅샷
+        DiaryResyncMessageDto snapshot = resyncQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.isSnapshot()).isTrue();
+        assertThat(snapshot.getContent()).isEqualTo("두 번째 수정");
+        assertThat(snapshot.getVersion()).isEqualTo(initialVersion + 2);
+
+        session.disconnect();
+        stompClient.stop();
+    }
+
+    @Test
+    @DisplayName("재연결 동기화 - LWW 쓰기가 끼어들면 버퍼 안이어도 스냅샷")
+    void testResyncFallsBackToSnapshotAfterLwwWrite() throws Exception {
+        // Given - 버전 기반 편집 1번 후 LWW 편집
+        BlockingQueue<DiaryEditBroadcastMessageDto> broadcastQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<DiaryResyncMessageDto> resyncQueue = new LinkedBlockingQueue<>();
+        WebSocketStompClient stompClient = createStompClient();
+        StompSession session = connectWithAuth(stompClient, accessToken);
+
+        session.subscribe("/topic/diaries/" + sharedDiary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                broadcastQueue.offer((DiaryEditBroadcastMessageDto) payload);
+            }
+        });
+
+        session.subscribe("/user/queue/diary-resync", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryResyncMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                resyncQueue.offer((DiaryResyncMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        Long initialVersion = sharedDiary.getVersion();
+        DiaryEditMessageDto edit = new DiaryEditMessageDto();
+        edit.setDiaryId(sharedDiary.getId());
+        edit.setContent("버전 기반 수정");
+        edit.setVersion(initialVersion);
+        session.send("/app/diaries/" + sharedDiary.getId() + "/edit", edit);
+        assertThat(broadcastQueue.poll(5, TimeUnit.SECONDS)).isNotNull();
+
+        DiaryEditLwwMessageDto lww = new DiaryEditLwwMessageDto();
+        lww.setDiaryId(sharedDiary.getId());
+        lww.setContent("LWW 수정");
+        session.send("/app/diaries/" + sharedDiary.getId() + "/edit-lww", lww);
+        assertThat(broadcastQueue.poll(5, TimeUnit.SECONDS)).isNotNull();
+
+        // When - 버전 기반 편집까지 본 클라이언트가 동기화 요청
+        DiaryResyncRequestMessageDto request = new DiaryResyncRequestMessageDto();
+        request.setLastSeenVersion(initialVersion + 1);
+        session.send("/app/diaries/" + sharedDiary.getId() + "/resync", request);
+
+        // Then - 빈 replay 가 아니라 LWW 본문이 담긴 스냅샷
+        DiaryResyncMessageDto snapshot = resyncQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.isSnapshot()).isTrue();
+        assertThat(snapshot.getContent()).isEqualTo("LWW 수정");
+
+        session.disconnect();
+        stompClient.stop();
+    }
+
+    private WebSocketStompClient createStompClient() {
+        // SockJS 클라이언트 생성 (서버가 SockJS를 사용하므로)
+        SockJsClient sockJsClient = new SockJsClient(
+                List.of(new WebSocketTransport(new StandardWebSocketClient()))
+        );
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        return stompClient;
+    }
+
+    private StompSession connectWithAuth(WebSocketStompClient stompClient, String token) throws Exception {
+        WebSocketHttpHeaders httpHeaders = new WebSocketHttpHeaders();
+
+        StompHeaders stompHeaders = new StompHeaders();
+        stompHeaders.add("Authorization", "Bearer " + token);
+
+        StompSessionHandler sessionHandler = new StompSessionHandlerAdapter() {};
+
+        return stompClient.connectAsync(wsUrl, httpHeaders, stompHeaders, sessionHandler)
+                .get(10, TimeUnit.SECONDS);
+    }
+}
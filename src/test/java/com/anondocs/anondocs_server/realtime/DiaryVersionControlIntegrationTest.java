@@ -145,7 +145,7 @@ class DiaryVersionControlIntegrationTest {
         assertThat(received.getVersion()).isEqualTo(currentVersion + 1); // 버전 증가 확인
 
         // DB 확인
-        Diary updatedDiary = diaryRepository.findById(sharedDiary.getId()).orElseThrow();
+        Diary updatedDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
         assertThat(updatedDiary.getContent()).isEqualTo("버전 기반 수정");
         assertThat(updatedDiary.getVersion()).isEqualTo(currentVersion + 1);
 
@@ -230,7 +230,7 @@ class DiaryVersionControlIntegrationTest {
         assertThat(error.getCurrentVersion()).isEqualTo(initialVersion + 1);
 
         // DB에는 세션1의 수정만 반영됨
-        Diary finalDiary = diaryRepository.findById(sharedDiary.getId()).orElseThrow();
+        Diary finalDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
         assertThat(finalDiary.getContent()).isEqualTo("세션1의 수정");
         assertThat(finalDiary.getVersion()).isEqualTo(initialVersion + 1);
 
@@ -240,6 +240,85 @@ class DiaryVersionControlIntegrationTest {
         stompClient2.stop();
     }
 
+    @Test
+    @DisplayName("버전 기반 편집 - 겹치지 않는 충돌 편집은 서버에서 3-way 병합")
+    void testVersionConflictMergedOnServer() throws Exception {
+        // Given - 같은 사용자의 두 세션이 같은 버전에서 서로 다른 위치를 수정
+        BlockingQueue<DiaryEditBroadcastMessageDto> broadcastQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<DiaryEditErrorMessageDto> errorQueue = new LinkedBlockingQueue<>();
+
+        WebSocketStompClient stompClient1 = createStompClient();
+        WebSocketStompClient stompClient2 = createStompClient();
+
+        StompSession session1 = connectWithAuth(stompClient1, accessToken1);
+        StompSession session2 = connectWithAuth(stompClient2, accessToken1);
+
+        session1.subscribe("/topic/diaries/" + sharedDiary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                broadcastQueue.offer((DiaryEditBroadcastMessageDto) payload);
+            }
+        });
+
+        session2.subscribe("/topic/diaries/" + sharedDiary.getId() + "/errors", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditErrorMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                errorQueue.offer((DiaryEditErrorMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        Long initialVersion = sharedDiary.getVersion();
+
+        // When - 세션1은 뒤에 덧붙이고, 세션2는 같은 기준 버전에서 앞에 덧붙임
+        DiaryEditMessageDto edit1 = new DiaryEditMessageDto();
+        edit1.setDiaryId(sharedDiary.getId());
+        edit1.setContent("초기 내용 - 세션1 추가");
+        edit1.setVersion(initialVersion);
+
+        session1.send("/app/diaries/" + sharedDiary.getId() + "/edit", edit1);
+        Thread.sleep(200);
+
+        DiaryEditMessageDto edit2 = new DiaryEditMessageDto();
+        edit2.setDiaryId(sharedDiary.getId());
+        edit2.setContent("[세션2] 초기 내용");
+        edit2.setVersion(initialVersion);
+
+        session2.send("/app/diaries/" + sharedDiary.getId() + "/edit", edit2);
+
+        // Then - 두 번째 편집은 거절되지 않고 병합된 본문으로 브로드캐스트
+        DiaryEditBroadcastMessageDto broadcast1 = broadcastQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(broadcast1).isNotNull();
+        assertThat(broadcast1.getVersion()).isEqualTo(initialVersion + 1);
+
+        DiaryEditBroadcastMessageDto broadcast2 = broadcastQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(broadcast2).isNotNull();
+        assertThat(broadcast2.getContent()).isEqualTo("[세션2] 초기 내용 - 세션1 추가");
+        assertThat(broadcast2.getVersion()).isEqualTo(initialVersion + 2);
+
+        assertThat(errorQueue.poll(500, TimeUnit.MILLISECONDS)).isNull();
+
+        Diary finalDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
+        assertThat(finalDiary.getContent()).isEqualTo("[세션2] 초기 내용 - 세션1 추가");
+        assertThat(finalDiary.getVersion()).isEqualTo(initialVersion + 2);
+
+        session1.disconnect();
+        session2.disconnect();
+        stompClient1.stop();
+        stompClient2.stop();
+    }
+
     @Test
     @DisplayName("버전 기반 편집 - 순차적 수정 시 버전 증가 확인")
     void testSequentialVersionIncrement() throws Exception {
@@ -286,7 +365,7 @@ class DiaryVersionControlIntegrationTest {
         }
 
         // Then - 최종 버전 확인
-        Diary finalDiary = diaryRepository.findById(sharedDiary.getId()).orElseThrow();
+        Diary finalDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
         assertThat(finalDiary.getContent()).isEqualTo("세 번째 수정");
         assertThat(finalDiary.getVersion()).isEqualTo(currentVersion + 3);
 
@@ -337,8 +416,56 @@ class DiaryVersionControlIntegrationTest {
         assertThat(error.getCurrentVersion()).isEqualTo(sharedDiary.getVersion());
 
         // DB는 변경되지 않음
-        Diary unchangedDiary = diaryRepository.findById(sharedDiary.getId()).orElseThrow();
+        Diary unchangedDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
+        assertThat(unchangedDiary.getContent()).isEqualTo("초기 내용");
+
+        session.disconnect();
+        stompClient.stop();
+    }
+
+    @Test
+    @DisplayName("버전 기반 편집 - 필수 필드가 없으면 핸들러 전에 INVALID_MESSAGE 를 요청한 세션에 전송")
+    void testInvalidMessageRejectedByValidation() throws Exception {
+        // Given
+        BlockingQueue<DiaryEditErrorMessageDto> errorQueue = new LinkedBlockingQueue<>();
+        WebSocketStompClient stompClient = createStompClient();
+        StompSession session = connectWithAuth(stompClient, accessToken1);
+
+        session.subscribe("/user/queue/errors", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditErrorMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                errorQueue.offer((DiaryEditErrorMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        // When - version 누락
+        DiaryEditMessageDto editMessage = new DiaryEditMessageDto();
+        editMessage.setDiaryId(sharedDiary.getId());
+        editMessage.setContent("버전 없는 편집");
+        editMessage.setClientId("client-1");
+        editMessage.setClientSeq(3L);
+
+        session.send("/app/diaries/" + sharedDiary.getId() + "/edit", editMessage);
+
+        // Then
+        DiaryEditErrorMessageDto error = errorQueue.poll(5, TimeUnit.SECONDS);
+        assertThat(error).isNotNull();
+        assertThat(error.getCode()).isEqualTo("INVALID_MESSAGE");
+        assertThat(error.getDiaryId()).isEqualTo(sharedDiary.getId());
+        assertThat(error.getMessage()).contains("version");
+        assertThat(error.getClientId()).isEqualTo("client-1");
+        assertThat(error.getClientSeq()).isEqualTo(3L);
+
+        Diary unchangedDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
         assertThat(unchangedDiary.getContent()).isEqualTo("초기 내용");
+        assertThat(unchangedDiary.getVersion()).isEqualTo(sharedDiary.getVersion());
 
         session.disconnect();
         stompClient.stop();
@@ -422,7 +549,7 @@ class DiaryVersionControlIntegrationTest {
         assertThat(broadcast2.getVersion()).isEqualTo(initialVersion + 2);
 
         // Then - 최종 상태 확인
-        Diary finalDiary = diaryRepository.findById(sharedDiary.getId()).orElseThrow();
+        Diary finalDiary = diaryRepository.findWithContentById(sharedDiary.getId()).orElseThrow();
         assertThat(finalDiary.getContent()).isEqualTo("두 번째 수정 - 성공");
         assertThat(finalDiary.getVersion()).isEqualTo(initialVersion + 2);
 
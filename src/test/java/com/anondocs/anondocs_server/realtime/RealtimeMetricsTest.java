@@ -0,0 +1,79 @@
+package com.anondocs.anondocs_server.realtime;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RealtimeMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RealtimeMetrics metrics = new RealtimeMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("목적지 태그는 숫자 구간을 {id} 로 바꿈")
+    void testNormalize() {
+        assertThat(RealtimeMetrics.normalize("/app/diaries/42/edit")).isEqualTo("/app/diaries/{id}/edit");
+        assertThat(RealtimeMetrics.normalize("/topic/diaries/7")).isEqualTo("/topic/diaries/{id}");
+        assertThat(RealtimeMetrics.normalize("/user/queue/errors")).isEqualTo("/user/queue/errors");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 목적지는 other 로 묶어 미터 수가 늘지 않음")
+    void testUnknownDestinationsFolded() {
+        metrics.countMessage("inbound", "/app/diaries/1/edit");
+        metrics.countMessage("inbound", "/app/diaries/2/edit");
+        for (int i = 0; i < 100; i++) {
+            metrics.countMessage("inbound", "/app/random-" + i);
+        }
+
+        assertThat(meterRegistry.find("anondocs.realtime.messages").counters()).hasSize(2);
+        assertThat(meterRegistry.get("anondocs.realtime.messages").tag("destination", "other").counter().count())
+                .isEqualTo(100.0);
+        assertThat(meterRegistry.get("anondocs.realtime.messages").tag("destination", "/app/diaries/{id}/edit")
+                .counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("구독/해제/연결 종료에 따라 구독 게이지와 fan-out 갱신")
+    void testSubscriptionTracking() {
+        metrics.onSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "s1", "sub-0", "/topic/diaries/1")));
+        metrics.onSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "s2", "sub-0", "/topic/diaries/1")));
+        metrics.onSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "s2", "sub-1", "/topic/diaries/2")));
+
+        assertThat(gauge("anondocs.realtime.subscriptions")).isEqualTo(3.0);
+        assertThat(gauge("anondocs.realtime.subscribed-destinations")).isEqualTo(2.0);
+
+        metrics.recordFanOut("/topic/diaries/1");
+        assertThat(meterRegistry.get("anondocs.realtime.broadcast.fan-out").summary().max()).isEqualTo(2.0);
+
+        metrics.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(SimpMessageType.UNSUBSCRIBE, "s1", "sub-0", null)));
+        assertThat(gauge("anondocs.realtime.subscriptions")).isEqualTo(2.0);
+
+        metrics.onDisconnect(new SessionDisconnectEvent(this, frame(SimpMessageType.DISCONNECT, "s2", null, null),
+                "s2", CloseStatus.NORMAL));
+        assertThat(gauge("anondocs.realtime.subscriptions")).isZero();
+        assertThat(gauge("anondocs.realtime.subscribed-destinations")).isZero();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static Message<byte[]> frame(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -5,6 +5,7 @@ import com.anondocs.anondocs_server.domain.diary.Diary;
 import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
 import com.anondocs.anondocs_server.domain.user.User;
 import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.dto.DiaryEditBroadcastMessageDto;
 import com.anondocs.anondocs_server.dto.DiaryEditMessageDto;
 import com.anondocs.anondocs_server.repository.DiaryRepository;
 import com.anondocs.anondocs_server.repository.UserRepository;
@@ -122,6 +123,7 @@ class SimpleWebSocketTest {
         DiaryEditMessageDto message = new DiaryEditMessageDto();
         message.setDiaryId(diary.getId());
         message.setContent("테스트 내용");
+        message.setVersion(diary.getVersion());
 
         session.send("/app/diaries/" + diary.getId() + "/edit", message);
 
@@ -134,6 +136,72 @@ class SimpleWebSocketTest {
         stompClient.stop();
     }
 
+    @Test
+    @DisplayName("순수 WebSocket 엔드포인트(/ws-native) 연결 및 메시지 수신 테스트")
+    void testNativeEndpointSendReceive() throws Exception {
+        // Given
+        User user = User.builder()
+                .email("test@test.com")
+                .passwordHash(passwordEncoder.encode("password"))
+                .nickname("TestUser")
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+        userRepository.save(user);
+
+        Diary diary = Diary.makeDiary("제목", "초기내용", DiaryVisibility.PRIVATE, user);
+        diaryRepository.save(diary);
+
+        String token = jwtTokenProvider.generateAccessToken(user);
+
+        // SockJS 없이 바로 WebSocket 으로 연결
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        StompHeaders stompHeaders = new StompHeaders();
+        stompHeaders.add("Authorization", "Bearer " + token);
+
+        StompSession session = stompClient.connectAsync("ws://localhost:" + port + "/ws-native",
+                        new WebSocketHttpHeaders(), stompHeaders, new StompSessionHandlerAdapter() {
+                        })
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(session.isConnected()).isTrue();
+
+        // When - 구독 후 편집
+        // JSON 본문은 MappingJackson2MessageConverter 로 브로드캐스트 DTO 로 역직렬화 (String 은 변환 불가)
+        final DiaryEditBroadcastMessageDto[] received = {null};
+        session.subscribe("/topic/diaries/" + diary.getId(), new StompFrameHandler() {
+            @Override
+            public java.lang.reflect.Type getPayloadType(StompHeaders headers) {
+                return DiaryEditBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received[0] = (DiaryEditBroadcastMessageDto) payload;
+            }
+        });
+
+        Thread.sleep(500);
+
+        DiaryEditMessageDto message = new DiaryEditMessageDto();
+        message.setDiaryId(diary.getId());
+        message.setContent("네이티브 엔드포인트 내용");
+        message.setVersion(diary.getVersion());
+
+        session.send("/app/diaries/" + diary.getId() + "/edit", message);
+
+        // Then
+        Thread.sleep(2000);
+
+        assertThat(received[0]).isNotNull();
+        assertThat(received[0].getDiaryId()).isEqualTo(diary.getId());
+        assertThat(received[0].getContent()).isEqualTo("네이티브 엔드포인트 내용");
+
+        session.disconnect();
+        stompClient.stop();
+    }
+
     // Helper Methods
 
     private WebSocketStompClient createStompClient() {
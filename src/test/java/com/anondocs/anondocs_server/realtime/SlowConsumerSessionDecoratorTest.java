@@ -0,0 +1,133 @@
+package com.anondocs.anondocs_server.realtime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SlowConsumerSessionDecoratorTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @Test
+    @DisplayName("전송이 밀린 동안 새 전체 본문 프레임은 같은 목적지의 이전 프레임을 모두 대체")
+    void testStaleFramesCoalesced() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        WebSocketSession delegate = slowSession(release, sent);
+
+        SlowConsumerSessionDecorator session = new SlowConsumerSessionDecorator(
+                delegate, executor, SlowConsumerPolicy.DROP_STALE, 1024 * 1024, 10_000);
+
+        session.sendMessage(frame("/topic/diaries/1", "v1"));
+        verify(delegate, timeout(2000)).sendMessage(any());
+        session.sendMessage(frame("/topic/diaries/1", "v2"));
+        session.sendMessage(plainFrame("/topic/diaries/1", "d1"));
+        session.sendMessage(plainFrame("/topic/diaries/1/errors", "e1"));
+        session.sendMessage(frame("/topic/diaries/1", "v3"));
+
+        release.countDown();
+        waitUntilSent(sent, 3);
+
+        // 첫 프레임은 이미 전송 중, v2 와 그 위의 delta d1 은 v3 에 포함되므로 버림, 다른 목적지의 e1 은 순서대로 유지
+        assertThat(sent).extracting(SlowConsumerSessionDecoratorTest::body)
+                .containsExactly("v1", "e1", "v3");
+    }
+
+    @Test
+    @DisplayName("전체 본문 뒤에 대기 중인 delta 가 있으면 전체 본문을 버리지 않음")
+    void testDropStaleKeepsBaseOfQueuedDelta() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        WebSocketSession delegate = slowSession(release, sent);
+
+        SlowConsumerSessionDecorator session = new SlowConsumerSessionDecorator(
+                delegate, executor, SlowConsumerPolicy.DROP_STALE, 500, 10_000);
+
+        session.sendMessage(plainFrame("/topic/diaries/1", "first"));
+        verify(delegate, timeout(2000)).sendMessage(any());
+        session.sendMessage(frame("/topic/diaries/1", "v".repeat(150)));
+        session.sendMessage(plainFrame("/topic/diaries/1", "d".repeat(150)));
+        session.sendMessage(plainFrame("/topic/diaries/2", "x".repeat(150)));
+
+        // v 를 버리면 d 의 기준 상태가 사라지므로 버릴 수 있는 프레임이 없어 연결 종료
+        verify(delegate, timeout(2000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("DISCONNECT 정책 - 버퍼 한도 초과 시 연결 종료")
+    void testDisconnectWhenBufferExceeded() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        WebSocketSession delegate = slowSession(release, sent);
+
+        SlowConsumerSessionDecorator session = new SlowConsumerSessionDecorator(
+                delegate, executor, SlowConsumerPolicy.DISCONNECT, 200, 10_000);
+
+        session.sendMessage(plainFrame("/topic/diaries/1", "x".repeat(150)));
+        session.sendMessage(plainFrame("/topic/diaries/1", "y".repeat(150)));
+        session.sendMessage(plainFrame("/topic/diaries/1", "z".repeat(150)));
+
+        verify(delegate, timeout(2000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("coalesce-key 헤더 파싱 - 본문에 같은 문자열이 있어도 헤더만 인식")
+    void testCoalesceKeyParsing() {
+        assertThat(SlowConsumerSessionDecorator.coalesceKey(frame("/topic/diaries/7", "body")))
+                .isEqualTo("/topic/diaries/7");
+        assertThat(SlowConsumerSessionDecorator.coalesceKey(
+                plainFrame("/topic/diaries/7", "\ncoalesce-key:fake\n"))).isNull();
+    }
+
+    private WebSocketSession slowSession(CountDownLatch release, List<String> sent) throws Exception {
+        WebSocketSession delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn("session-1");
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            sent.add((String) message.getPayload());
+            return null;
+        }).when(delegate).sendMessage(any());
+        return delegate;
+    }
+
+    private void waitUntilSent(List<String> sent, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (sent.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static TextMessage frame(String destination, String body) {
+        return new TextMessage("MESSAGE\ndestination:" + destination + "\n"
+                + SlowConsumerSessionDecorator.COALESCE_KEY_HEADER + ":" + destination + "\n\n" + body + "\0");
+    }
+
+    private static TextMessage plainFrame(String destination, String body) {
+        return new TextMessage("MESSAGE\ndestination:" + destination + "\n\n" + body + "\0");
+    }
+
+    private static String body(String frame) {
+        return frame.substring(frame.indexOf("\n\n") + 2, frame.length() - 1);
+    }
+}
@@ -0,0 +1,196 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.auth.JwtTokenProvider;
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.dto.DiaryEditBroadcastMessageDto;
+import com.anondocs.anondocs_server.dto.DiaryEditMessageDto;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션별 본문 인코딩 협상 테스트 (StompPayloadFormatInterceptor)
+ *
+ * - /ws-native 에서 payload-format:cbor 로 연결하면 브로드캐스트가 CBOR 바이너리 프레임으로 도착
+ * - SockJS(/ws) 세션은 텍스트 프레임만 가능하므로 cbor 를 요청해도 JSON
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application.properties")
+class StompPayloadFormatIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory())
+            .findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private User user;
+    private Diary diary;
+
+    @BeforeEach
+    void setUp() {
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = User.builder()
+                .email("payload-format@test.com")
+                .passwordHash(passwordEncoder.encode("password"))
+                .nickname("PayloadFormatUser")
+                .userStatus(UserStatus.ACTIVE)
+                .build();
+        userRepository.save(user);
+
+        diary = Diary.makeDiary("인코딩 협상 일기", "초기내용", DiaryVisibility.PRIVATE, user);
+        diaryRepository.save(diary);
+    }
+
+    @Test
+    @DisplayName("/ws-native + payload-format:cbor - 브로드캐스트는 octet-stream CBOR 프레임")
+    void testNativeSessionReceivesCbor() throws Exception {
+        // Given
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new CompositeMessageConverter(
+                List.of(new ByteArrayMessageConverter(), new MappingJackson2MessageConverter())));
+        StompSession session = connect(stompClient, "ws://localhost:" + port + "/ws-native");
+
+        BlockingQueue<Frame> frames = new LinkedBlockingQueue<>();
+        session.subscribe("/topic/diaries/" + diary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                frames.offer(new Frame(headers, (byte[]) payload));
+            }
+        });
+
+        Thread.sleep(500);
+
+        // When - 편집 요청은 JSON 으로 전송
+        session.send("/app/diaries/" + diary.getId() + "/edit", edit("CBOR 로 받을 내용"));
+
+        // Then
+        Frame frame = frames.poll(5, TimeUnit.SECONDS);
+        assertThat(frame).isNotNull();
+        assertThat(frame.headers.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        assertThat(frame.headers.getFirst(StompPayloadFormat.CONNECT_HEADER)).isEqualTo("cbor");
+
+        DiaryEditBroadcastMessageDto broadcast = cborMapper.readValue(frame.payload, DiaryEditBroadcastMessageDto.class);
+        assertThat(broadcast.getDiaryId()).isEqualTo(diary.getId());
+        assertThat(broadcast.getContent()).isEqualTo("CBOR 로 받을 내용");
+        assertThat(broadcast.getVersion()).isEqualTo(diary.getVersion() + 1);
+
+        session.disconnect();
+        stompClient.stop();
+    }
+
+    @Test
+    @DisplayName("SockJS 세션은 cbor 를 요청해도 JSON 텍스트 프레임으로 받음")
+    void testSockJsSessionFallsBackToJson() throws Exception {
+        // Given
+        SockJsClient sockJsClient = new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient())));
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        StompSession session = connect(stompClient, "http://localhost:" + port + "/ws");
+
+        BlockingQueue<StompHeaders> headersQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<DiaryEditBroadcastMessageDto> broadcasts = new LinkedBlockingQueue<>();
+        session.subscribe("/topic/diaries/" + diary.getId(), new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return DiaryEditBroadcastMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                headersQueue.offer(headers);
+                broadcasts.offer((DiaryEditBroadcastMessageDto) payload);
+            }
+        });
+
+        Thread.sleep(500);
+
+        // When
+        session.send("/app/diaries/" + diary.getId() + "/edit", edit("JSON 으로 받을 내용"));
+
+        // Then
+        DiaryEditBroadcastMessageDto broadcast = broadcasts.poll(5, TimeUnit.SECONDS);
+        assertThat(broadcast).isNotNull();
+        assertThat(broadcast.getContent()).isEqualTo("JSON 으로 받을 내용");
+
+        StompHeaders headers = headersQueue.poll();
+        assertThat(headers.getContentType().isCompatibleWith(MimeTypeUtils.APPLICATION_JSON)).isTrue();
+        assertThat(headers.getFirst(StompPayloadFormat.CONNECT_HEADER)).isNull();
+
+        session.disconnect();
+        stompClient.stop();
+    }
+
+    private DiaryEditMessageDto edit(String content) {
+        DiaryEditMessageDto message = new DiaryEditMessageDto();
+        message.setDiaryId(diary.getId());
+        message.setContent(content);
+        message.setVersion(diary.getVersion());
+        return message;
+    }
+
+    private StompSession connect(WebSocketStompClient stompClient, String url) throws Exception {
+        StompHeaders stompHeaders = new StompHeaders();
+        stompHeaders.add("Authorization", "Bearer " + jwtTokenProvider.generateAccessToken(user));
+        stompHeaders.add(StompPayloadFormat.CONNECT_HEADER, "cbor");
+
+        return stompClient.connectAsync(url, new WebSocketHttpHeaders(), stompHeaders,
+                        new StompSessionHandlerAdapter() {
+                        })
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private record Frame(StompHeaders headers, byte[] payload) {
+    }
+}
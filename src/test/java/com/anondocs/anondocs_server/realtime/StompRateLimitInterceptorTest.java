@@ -0,0 +1,143 @@
+package com.anondocs.anondocs_server.realtime;
+
+import com.anondocs.anondocs_server.dto.DiaryEditErrorMessageDto;
+import com.anondocs.anondocs_server.dto.UserPrincipalDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class StompRateLimitInterceptorTest {
+
+    private final DiaryBroadcaster broadcaster = mock(DiaryBroadcaster.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 세션: 초당 1회, 버스트 3 / 사용자: 초당 1회, 버스트 4
+    private final StompRateLimitInterceptor interceptor = new StompRateLimitInterceptor(
+            broadcaster, meterRegistry, true, "/app/diaries/*/edit:1:3:1:4");
+
+    @Test
+    @DisplayName("세션 버스트를 넘는 편집은 버리고 RATE_LIMITED 를 한 번만 알림")
+    void testSessionBurstExceeded() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.preSend(send("s1", 1L, "/app/diaries/7/edit"), null)).isNotNull();
+        }
+        assertThat(interceptor.preSend(send("s1", 1L, "/app/diaries/7/edit"), null)).isNull();
+        assertThat(interceptor.preSend(send("s1", 1L, "/app/diaries/7/edit"), null)).isNull();
+
+        ArgumentCaptor<Object> error = ArgumentCaptor.forClass(Object.class);
+        verify(broadcaster, times(1)).sendToSession(eq("user1@test.com"), eq("s1"), eq("/queue/errors"), error.capture());
+        DiaryEditErrorMessageDto dto = (DiaryEditErrorMessageDto) error.getValue();
+        assertThat(dto.getCode()).isEqualTo("RATE_LIMITED");
+        assertThat(dto.getDiaryId()).isEqualTo(7L);
+        assertThat(dto.getRetryAfterMillis()).isPositive();
+
+        assertThat(meterRegistry.get("anondocs.realtime.rate-limited").tag("scope", "session").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 여러 세션은 사용자 버킷을 함께 소모")
+    void testUserBucketSharedAcrossSessions() {
+        List<Message<?>> results = List.of(
+                interceptor.preSend(send("s1", 1L, "/app/diaries/7/edit"), null),
+                interceptor.preSend(send("s1", 1L, "/app/diaries/7/edit"), null),
+                interceptor.preSend(send("s2", 1L, "/app/diaries/7/edit"), null),
+                interceptor.preSend(send("s2", 1L, "/app/diaries/7/edit"), null));
+        assertThat(results).doesNotContainNull();
+
+        assertThat(interceptor.preSend(send("s3", 1L, "/app/diaries/7/edit"), null)).isNull();
+        // 다른 사용자는 영향 없음
+        assertThat(interceptor.preSend(send("s4", 2L, "/app/diaries/7/edit"), null)).isNotNull();
+
+        assertThat(meterRegistry.get("anondocs.realtime.rate-limited").tag("scope", "user").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("사용자 버킷에서 거절된 프레임은 세션 버킷을 소모하지 않음")
+    void testUserRejectionRefundsSessionBucket() {
+        // s2 가 사용자 버킷 4 중 3 사용, s1 이 마지막 1 사용
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.preSend(send("s2", 1L, "/app/diaries/7/edit"), null)).isNotNull();
+        }
+        assertThat(interceptor.preSend(send("s1", 1L, "/app/diaries/7/edit"), null)).isNotNull();
+
+        // 환불하지 않으면 s1 의 세션 버킷(3)이 거절된 프레임으로 바닥나 세 번째부터 세션 거절로 집계됨
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.preSend(send("s1", 1L, "/app/diaries/7/edit"), null)).isNull();
+        }
+
+        assertThat(meterRegistry.get("anondocs.realtime.rate-limited").tag("scope", "user").counter().count())
+                .isEqualTo(5.0);
+        assertThat(meterRegistry.get("anondocs.realtime.rate-limited").tag("scope", "session").counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("규칙에 없는 목적지는 제한하지 않음")
+    void testUnmatchedDestinationPassesThrough() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(interceptor.preSend(send("s1", 1L, "/app/diaries/7/presence"), null)).isNotNull();
+        }
+        verify(broadcaster, times(0)).sendToSession(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("RATE_LIMITED 에 거절된 편집의 clientId/clientSeq 포함 (본문, 배치는 마지막 seq)")
+    void testRejectionCarriesClientSeq() {
+        String single = "{\"diaryId\":7,\"content\":\"{\\\"clientSeq\\\":1}\",\"clientId\":\"c1\",\"clientSeq\":42}";
+        for (int i = 0; i < 3; i++) {
+            interceptor.preSend(send("s1", 1L, "/app/diaries/7/edit", single), null);
+        }
+        assertThat(interceptor.preSend(send("s1", 1L, "/app/diaries/7/edit", single), null)).isNull();
+
+        StompRateLimitInterceptor batchInterceptor = new StompRateLimitInterceptor(
+                broadcaster, meterRegistry, true, "/app/diaries/*/edit-batch:1:1:1:1");
+        String batch = "{\"clientId\":\"c2\",\"baseVersion\":3,"
+                + "\"edits\":[{\"seq\":5,\"content\":\"a\"},{\"seq\":6,\"operations\":[{\"position\":0}]}]}";
+        batchInterceptor.preSend(send("s2", 2L, "/app/diaries/7/edit-batch", batch), null);
+        assertThat(batchInterceptor.preSend(send("s2", 2L, "/app/diaries/7/edit-batch", batch), null)).isNull();
+
+        ArgumentCaptor<Object> error = ArgumentCaptor.forClass(Object.class);
+        verify(broadcaster).sendToSession(eq("user1@test.com"), eq("s1"), eq("/queue/errors"), error.capture());
+        DiaryEditErrorMessageDto dto = (DiaryEditErrorMessageDto) error.getValue();
+        assertThat(dto.getClientId()).isEqualTo("c1");
+        assertThat(dto.getClientSeq()).isEqualTo(42L);
+
+        verify(broadcaster).sendToSession(eq("user2@test.com"), eq("s2"), eq("/queue/errors"), error.capture());
+        dto = (DiaryEditErrorMessageDto) error.getValue();
+        assertThat(dto.getClientId()).isEqualTo("c2");
+        assertThat(dto.getClientSeq()).isEqualTo(6L);
+    }
+
+    private static Message<byte[]> send(String sessionId, Long userId, String destination) {
+        return send(sessionId, userId, destination, "");
+    }
+
+    private static Message<byte[]> send(String sessionId, Long userId, String destination, String json) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        UserPrincipalDto principal = new UserPrincipalDto(userId, "user" + userId + "@test.com", "user" + userId);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,140 @@
+package com.anondocs.anondocs_server.service;
+
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.domain.diary.DiaryVisibility;
+import com.anondocs.anondocs_server.domain.user.User;
+import com.anondocs.anondocs_server.domain.user.UserStatus;
+import com.anondocs.anondocs_server.dto.DiaryCursor;
+import com.anondocs.anondocs_server.dto.DiarySummaryResponse;
+import com.anondocs.anondocs_server.repository.DiaryAiResultRepository;
+import com.anondocs.anondocs_server.repository.DiaryRepository;
+import com.anondocs.anondocs_server.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.properties")
+class DiaryCursorPaginationTest {
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private DiaryAiResultRepository diaryAiResultRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        user = userRepository.save(User.builder()
+                .email("cursor@test.com")
+                .passwordHash("password")
+                .nickname("Cursor")
+                .userStatus(UserStatus.ACTIVE)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("내 일기 커서 조회 - 최신순으로 중복/누락 없이 끝까지 순회")
+    void testMyDiariesCursorWalk() {
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(diaryService.createDiary(user.getId(), "제목 " + i, "본문 " + i, DiaryVisibility.PRIVATE).getId());
+        }
+
+        List<Long> walked = new ArrayList<>();
+        DiaryCursor cursor = null;
+        Slice<DiarySummaryResponse> slice;
+        do {
+            slice = diaryService.getMyDiaries(user.getId(), cursor, 2);
+            slice.getContent().forEach(diary -> walked.add(diary.getId()));
+            DiarySummaryResponse last = slice.getContent().get(slice.getContent().size() - 1);
+            cursor = DiaryCursor.decode(new DiaryCursor(last.getCreatedAt(), last.getId()).encode());
+        } while (slice.hasNext());
+
+        assertThat(walked).containsExactlyElementsOf(created.reversed());
+    }
+
+    @Test
+    @DisplayName("목록 조회는 본문 대신 미리보기만 반환")
+    void testSummaryContainsPreviewOnly() {
+        String longContent = "가".repeat(Diary.PREVIEW_LENGTH + 50);
+        Long diaryId = diaryService.createDiary(user.getId(), "제목", longContent, DiaryVisibility.PRIVATE).getId();
+
+        DiarySummaryResponse summary = diaryService.getMyDiaries(user.getId(), null, 10).getContent().get(0);
+
+        assertThat(summary.getId()).isEqualTo(diaryId);
+        assertThat(summary.getContentPreview()).isEqualTo("가".repeat(Diary.PREVIEW_LENGTH));
+    }
+
+    @Test
+    @DisplayName("내 일기 수는 생성/삭제 시 카운터로 유지")
+    void testDiaryCountMaintained() {
+        Long first = diaryService.createDiary(user.getId(), "제목", "본문", DiaryVisibility.PRIVATE).getId();
+        diaryService.createDiary(user.getId(), "제목", "본문", DiaryVisibility.PRIVATE);
+        assertThat(diaryService.countMyDiaries(user.getId())).isEqualTo(2);
+
+        diaryService.deleteDiary(user.getId(), first);
+        diaryService.deleteDiary(user.getId(), first); // 이미 삭제된 일기는 다시 세지 않음
+        assertThat(diaryService.countMyDiaries(user.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배포 전 마이그레이션(V1)은 기존 사용자의 카운터를 삭제되지 않은 일기 수로 채움")
+    void testDiaryCountBackfill() {
+        Long first = diaryService.createDiary(user.getId(), "제목", "본문", DiaryVisibility.PRIVATE).getId();
+        diaryService.createDiary(user.getId(), "제목", "본문", DiaryVisibility.PRIVATE);
+        diaryService.createDiary(user.getId(), "제목", "본문", DiaryVisibility.PRIVATE);
+        diaryService.deleteDiary(user.getId(), first);
+
+        // 카운터 도입 전부터 있던 사용자 (컬럼 기본값 0)
+        jdbcTemplate.update("update users set diary_count = 0 where id = ?", user.getId());
+        assertThat(diaryService.countMyDiaries(user.getId())).isZero();
+
+        DatabasePopulatorUtils.execute(
+                new ResourceDatabasePopulator(new ClassPathResource("db/migration/postgresql/V1__users_diary_count.sql")),
+                dataSource);
+
+        assertThat(diaryService.countMyDiaries(user.getId())).isEqualTo(2);
+    }
+
+    private void cleanUp() {
+        diaryAiResultRepository.deleteAll();
+        diaryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
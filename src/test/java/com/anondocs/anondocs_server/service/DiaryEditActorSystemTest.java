@@ -0,0 +1,254 @@
+package com.anondocs.anondocs_server.service;
+
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DiaryEditActorSystemTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long DIARY_ID = 10L;
+
+    private DiaryService diaryService;
+    private DiaryEditActorSystem actorSystem;
+
+    @BeforeEach
+    void setUp() {
+        diaryService = mock(DiaryService.class);
+        Diary diary = diary("시작", 0L);
+        when(diaryService.getMyDiary(OWNER_ID, DIARY_ID)).thenReturn(diary);
+        when(diaryService.saveEditedContent(eq(OWNER_ID), eq(DIARY_ID), anyString(), anyLong(), anyLong()))
+                .thenReturn(true);
+
+        actorSystem = new DiaryEditActorSystem(diaryService, new SimpleMeterRegistry(), 1, 64, 8);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        actorSystem.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 일기의 편집은 도착 순서대로 적용되고 콜백도 같은 순서")
+    void testEditsAppliedInArrivalOrder() throws Exception {
+        List<Long> callbackOrder = new ArrayList<>();
+        List<CompletableFuture<DiaryEditResult>> futures = new ArrayList<>();
+
+        for (long version = 0; version < 20; version++) {
+            long expected = version;
+            CompletableFuture<DiaryEditResult> future = submit("본문 " + version, version);
+            futures.add(future.whenComplete((result, error) -> {
+                synchronized (callbackOrder) {
+                    callbackOrder.add(expected);
+                }
+            }));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            DiaryEditResult result = futures.get(i).get(5, TimeUnit.SECONDS);
+            assertThat(result.getVersion()).isEqualTo(i + 1L);
+            assertThat(result.getContent()).isEqualTo("본문 " + i);
+            assertThat(result.isMerged()).isFalse();
+        }
+        synchronized (callbackOrder) {
+            assertThat(callbackOrder).isSorted().hasSize(20);
+        }
+    }
+
+    @Test
+    @DisplayName("저장 중에 쌓인 편집은 조건부 UPDATE 한 번으로 묶어서 저장 (group commit)")
+    void testQueuedEditsGroupCommitted() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(diaryService.saveEditedContent(OWNER_ID, DIARY_ID, "본문 0", 0L, 1L)).thenAnswer(invocation -> {
+            saving.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        CompletableFuture<DiaryEditResult> first = submit("본문 0", 0L);
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 저장이 끝나기 전에 도착한 편집들
+        List<CompletableFuture<DiaryEditResult>> queued = new ArrayList<>();
+        for (long version = 1; version <= 4; version++) {
+            queued.add(submit("본문 " + version, version));
+        }
+        release.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<DiaryEditResult> future : queued) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        verify(diaryService).saveEditedContent(OWNER_ID, DIARY_ID, "본문 4", 1L, 5L);
+        verify(diaryService, times(2)).saveEditedContent(eq(OWNER_ID), eq(DIARY_ID), anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("유휴 액터는 제거되고 다음 편집에서 DB 기준으로 다시 로드")
+    void testIdleActorRetiredAndReloaded() throws Exception {
+        ReflectionTestUtils.setField(actorSystem, "idleTtlMillis", 0L);
+        submit("본문 0", 0L).get(5, TimeUnit.SECONDS);
+
+        retireAll();
+
+        Diary reloaded = diary("본문 0", 1L);
+        when(diaryService.getMyDiary(OWNER_ID, DIARY_ID)).thenReturn(reloaded);
+        DiaryEditResult result = submit("본문 1", 1L).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getVersion()).isEqualTo(2L);
+        verify(diaryService, times(2)).getMyDiary(OWNER_ID, DIARY_ID);
+    }
+
+    @Test
+    @DisplayName("액터 밖에서 저장된 뒤 invalidate 하면 다음 편집은 DB의 최신 버전 기준")
+    void testInvalidateReloadsState() throws Exception {
+        submit("본문 0", 0L).get(5, TimeUnit.SECONDS);
+
+        // LWW 경로가 버전 2 로 저장한 상황
+        Diary external = diary("LWW 본문", 2L);
+        when(diaryService.getMyDiary(OWNER_ID, DIARY_ID)).thenReturn(external);
+        actorSystem.invalidate(DIARY_ID);
+
+        DiaryEditResult result = submit("액터 본문", 2L).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getVersion()).isEqualTo(3L);
+        assertThat(result.isMerged()).isFalse();
+        verify(diaryService).saveEditedContent(OWNER_ID, DIARY_ID, "액터 본문", 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("액터가 유휴 제거된 뒤 도착한 재전송도 한 번만 반영 (적용 seq 는 액터와 별도로 보관)")
+    void testRetransmitAfterRetireDeduplicated() throws Exception {
+        ReflectionTestUtils.setField(actorSystem, "clientProgressTtlMillis", 60_000L);
+        submit("본문 0", 0L, "client-1", 1L).get(5, TimeUnit.SECONDS);
+
+        ReflectionTestUtils.setField(actorSystem, "idleTtlMillis", 0L);
+        retireAll();
+
+        Diary reloaded = diary("본문 0", 1L);
+        when(diaryService.getMyDiary(OWNER_ID, DIARY_ID)).thenReturn(reloaded);
+        DiaryEditResult result = submit("본문 0", 0L, "client-1", 1L).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getVersion()).isEqualTo(1L);
+        assertThat(result.getContent()).isEqualTo("본문 0");
+        assertThat(result.isMerged()).isFalse();
+        verify(diaryService, times(1)).saveEditedContent(eq(OWNER_ID), eq(DIARY_ID), anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("invalidate 이후의 재전송도 한 번만 반영되고, 저장에 실패한 편집의 seq 는 기록되지 않음")
+    void testClientProgressSurvivesInvalidateButNotFailedSave() throws Exception {
+        submit("본문 0", 0L, "client-1", 1L).get(5, TimeUnit.SECONDS);
+
+        Diary external = diary("LWW 본문", 2L);
+        when(diaryService.getMyDiary(OWNER_ID, DIARY_ID)).thenReturn(external);
+        actorSystem.invalidate(DIARY_ID);
+
+        // 이미 적용된 seq 1 의 재전송 -> 저장 없이 현재 상태로 응답
+        DiaryEditResult duplicate = submit("본문 0", 0L, "client-1", 1L).get(5, TimeUnit.SECONDS);
+        assertThat(duplicate.getVersion()).isEqualTo(2L);
+        assertThat(duplicate.getContent()).isEqualTo("LWW 본문");
+
+        // seq 2 저장 실패 -> 같은 seq 재전송은 다시 적용
+        when(diaryService.saveEditedContent(OWNER_ID, DIARY_ID, "본문 2", 2L, 3L))
+                .thenThrow(new IllegalStateException("DB 오류"))
+                .thenReturn(true);
+        assertThatThrownBy(() -> submit("본문 2", 2L, "client-1", 2L).get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        DiaryEditResult retried = submit("본문 2", 2L, "client-1", 2L).get(5, TimeUnit.SECONDS);
+        assertThat(retried.getVersion()).isEqualTo(3L);
+        verify(diaryService, times(2)).saveEditedContent(OWNER_ID, DIARY_ID, "본문 2", 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("client-progress-ttl-ms 가 지난 적용 seq 는 제거되고 이후 같은 seq 는 새 편집으로 처리")
+    void testClientProgressExpires() throws Exception {
+        submit("본문 0", 0L, "client-1", 1L).get(5, TimeUnit.SECONDS);
+
+        ReflectionTestUtils.setField(actorSystem, "idleTtlMillis", 60_000L);
+        ReflectionTestUtils.setField(actorSystem, "clientProgressTtlMillis", 0L);
+        actorSystem.retireIdleActors();
+
+        DiaryEditResult result = submit("본문 1", 1L, "client-1", 1L).get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getVersion()).isEqualTo(2L);
+        verify(diaryService).saveEditedContent(OWNER_ID, DIARY_ID, "본문 1", 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("종료 이후 제출된 편집은 실패로 콜백 (실행 거절 예외가 밖으로 새지 않음)")
+    void testEditAfterShutdownFails() throws Exception {
+        actorSystem.shutdown();
+
+        CompletableFuture<DiaryEditResult> future = submit("본문 0", 0L);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(diaryService, never()).getMyDiary(OWNER_ID, DIARY_ID);
+
+        // 같은 액터로 다시 제출해도 계속 실패로 응답
+        assertThatThrownBy(() -> submit("본문 1", 0L).get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private void retireAll() throws InterruptedException {
+        // 콜백 직후에는 아직 처리 중일 수 있으므로 제거될 때까지 재시도
+        Map<?, ?> actors = (Map<?, ?>) ReflectionTestUtils.getField(actorSystem, "actors");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!actors.isEmpty() && System.currentTimeMillis() < deadline) {
+            actorSystem.retireIdleActors();
+            Thread.sleep(10);
+        }
+        assertThat(actors).isEmpty();
+    }
+
+    private CompletableFuture<DiaryEditResult> submit(String content, Long version) {
+        return submit(content, version, null, null);
+    }
+
+    private CompletableFuture<DiaryEditResult> submit(String content, Long version, String clientId, Long clientSeq) {
+        CompletableFuture<DiaryEditResult> future = new CompletableFuture<>();
+        actorSystem.submitVersionedEdit(OWNER_ID, DIARY_ID, content, version, clientId, clientSeq, (result, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(result);
+            }
+        });
+        return future;
+    }
+
+    private static Diary diary(String content, Long version) {
+        Diary diary = mock(Diary.class);
+        when(diary.getContent()).thenReturn(content);
+        when(diary.getVersion()).thenReturn(version);
+        return diary;
+    }
+}
@@ -0,0 +1,159 @@
+package com.anondocs.anondocs_server.service;
+
+import com.anondocs.anondocs_server.domain.diary.Diary;
+import com.anondocs.anondocs_server.exception.DiaryVersionConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DiaryLwwWriteBehindBufferTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long DIARY_ID = 10L;
+
+    private DiaryService diaryService;
+    private DiaryEditActorSystem diaryEditActorSystem;
+    private SimpleMeterRegistry meterRegistry;
+    private DiaryLwwWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        diaryService = mock(DiaryService.class);
+        diaryEditActorSystem = mock(DiaryEditActorSystem.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        Diary saved = mock(Diary.class);
+        when(saved.getVersion()).thenReturn(1L);
+        when(diaryService.updateDiaryContentLww(eq(OWNER_ID), eq(DIARY_ID), anyString())).thenReturn(saved);
+
+        buffer = new DiaryLwwWriteBehindBuffer(diaryService, diaryEditActorSystem, meterRegistry);
+        ReflectionTestUtils.setField(buffer, "maxPendingWrites", 50);
+        ReflectionTestUtils.setField(buffer, "idleTtlMillis", 60_000L);
+        ReflectionTestUtils.setField(buffer, "maxConflictRetries", 3);
+    }
+
+    @Test
+    @DisplayName("주기 저장 - 쌓인 본문 중 마지막 것만 조건부 UPDATE 한 번, 생략된 수는 collapsed 로 집계")
+    void testPendingWritesCollapsed() {
+        when(diaryService.updateDiaryContentAtomically(OWNER_ID, DIARY_ID, "본문 4", 1L)).thenReturn(2L);
+
+        for (int i = 0; i < 5; i++) {
+            buffer.submit(OWNER_ID, DIARY_ID, "본문 " + i);
+        }
+        assertThat(buffer.findPendingContent(DIARY_ID)).contains("본문 4");
+
+        buffer.flushPending();
+
+        verify(diaryService, times(1)).updateDiaryContentLww(OWNER_ID, DIARY_ID, "본문 0");
+        verify(diaryService, times(1)).updateDiaryContentAtomically(eq(OWNER_ID), eq(DIARY_ID), anyString(), anyLong());
+        assertThat(buffer.findPendingContent(DIARY_ID)).isEmpty();
+        assertThat(meterRegistry.counter("anondocs.diary.lww.writes.flushed").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("anondocs.diary.lww.writes.collapsed").count()).isEqualTo(3.0);
+
+        // 다음 편집은 저장된 버전 기준
+        assertThat(buffer.submit(OWNER_ID, DIARY_ID, "본문 5")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("종료 시(@PreDestroy) 남은 본문을 저장")
+    void testFlushAllOnShutdown() {
+        when(diaryService.updateDiaryContentAtomically(OWNER_ID, DIARY_ID, "마지막", 1L)).thenReturn(2L);
+
+        buffer.submit(OWNER_ID, DIARY_ID, "처음");
+        buffer.submit(OWNER_ID, DIARY_ID, "마지막");
+
+        buffer.flushAll();
+
+        verify(diaryService).updateDiaryContentAtomically(OWNER_ID, DIARY_ID, "마지막", 1L);
+        verify(diaryEditActorSystem, times(2)).invalidate(DIARY_ID);
+    }
+
+    @Test
+    @DisplayName("그 사이 다른 경로가 저장했으면 DB의 현재 버전 기준으로 다시 저장 (마지막 LWW 본문이 이김)")
+    void testConflictingFlushReappliedOnCurrentVersion() {
+        when(diaryService.updateDiaryContentAtomically(OWNER_ID, DIARY_ID, "늦은 본문", 1L))
+                .thenThrow(new DiaryVersionConflictException("일기가 다른 사용자에 의해 이미 수정되었습니다.", 2L));
+        when(diaryService.updateDiaryContentAtomically(OWNER_ID, DIARY_ID, "늦은 본문", 2L)).thenReturn(3L);
+
+        buffer.submit(OWNER_ID, DIARY_ID, "처음");
+        buffer.submit(OWNER_ID, DIARY_ID, "늦은 본문");
+
+        buffer.flushPending();
+
+        assertThat(buffer.findPendingContent(DIARY_ID)).isEmpty();
+        assertThat(meterRegistry.counter("anondocs.diary.lww.writes.flushed").count()).isEqualTo(1.0);
+
+        // 다음 편집은 다시 저장된 버전 기준
+        assertThat(buffer.submit(OWNER_ID, DIARY_ID, "다음 편집")).isEqualTo(3L);
+        verify(diaryService, times(1)).updateDiaryContentLww(eq(OWNER_ID), eq(DIARY_ID), anyString());
+    }
+
+    @Test
+    @DisplayName("재시도로도 저장하지 못하면 본문을 버리지 않고 다음 주기에 다시 저장")
+    void testUnresolvedConflictKeptForNextFlush() {
+        when(diaryService.updateDiaryContentAtomically(eq(OWNER_ID), eq(DIARY_ID), eq("늦은 본문"), anyLong()))
+                .thenThrow(new DiaryVersionConflictException("일기가 다른 사용자에 의해 이미 수정되었습니다.", 2L))
+                .thenThrow(new DiaryVersionConflictException("일기가 다른 사용자에 의해 이미 수정되었습니다.", 3L))
+                .thenThrow(new DiaryVersionConflictException("일기가 다른 사용자에 의해 이미 수정되었습니다.", 4L))
+                .thenThrow(new DiaryVersionConflictException("일기가 다른 사용자에 의해 이미 수정되었습니다.", 5L))
+                .thenReturn(6L);
+
+        buffer.submit(OWNER_ID, DIARY_ID, "처음");
+        buffer.submit(OWNER_ID, DIARY_ID, "늦은 본문");
+
+        buffer.flushPending();
+        assertThat(buffer.findPendingContent(DIARY_ID)).contains("늦은 본문");
+
+        buffer.flushPending();
+        assertThat(buffer.findPendingContent(DIARY_ID)).isEmpty();
+        assertThat(meterRegistry.counter("anondocs.diary.lww.writes.flushed").count()).isEqualTo(1.0);
+        verify(diaryService, never()).updateDiaryContentLww(OWNER_ID, DIARY_ID, "늦은 본문");
+    }
+
+    @Test
+    @DisplayName("같은 일기의 첫 편집이 동시에 저장되면 항목은 하나, 버전은 더 큰 값")
+    void testConcurrentFirstWritesKeepLatestVersion() throws Exception {
+        Diary older = mock(Diary.class);
+        when(older.getVersion()).thenReturn(1L);
+        Diary newer = mock(Diary.class);
+        when(newer.getVersion()).thenReturn(2L);
+
+        // 첫 번째 동기 저장(버전 1)이 끝나기 전에 두 번째 첫 편집(버전 2)이 항목을 먼저 만든 상황
+        CountDownLatch firstSaving = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+        when(diaryService.updateDiaryContentLww(OWNER_ID, DIARY_ID, "A")).thenAnswer(invocation -> {
+            firstSaving.countDown();
+            secondDone.await(5, TimeUnit.SECONDS);
+            return older;
+        });
+        when(diaryService.updateDiaryContentLww(OWNER_ID, DIARY_ID, "B")).thenReturn(newer);
+
+        Thread first = new Thread(() -> buffer.submit(OWNER_ID, DIARY_ID, "A"));
+        first.start();
+        assertThat(firstSaving.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.submit(OWNER_ID, DIARY_ID, "B");
+        secondDone.countDown();
+        first.join(5000);
+
+        when(diaryService.updateDiaryContentAtomically(OWNER_ID, DIARY_ID, "C", 2L)).thenReturn(3L);
+        assertThat(buffer.submit(OWNER_ID, DIARY_ID, "C")).isEqualTo(2L);
+        buffer.flushPending();
+
+        verify(diaryService).updateDiaryContentAtomically(OWNER_ID, DIARY_ID, "C", 2L);
+    }
+}
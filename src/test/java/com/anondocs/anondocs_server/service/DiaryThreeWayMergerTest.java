@@ -0,0 +1,44 @@
+package com.anondocs.anondocs_server.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiaryThreeWayMergerTest {
+
+    @Test
+    @DisplayName("서로 다른 위치의 편집 - 둘 다 반영")
+    void testDisjointEditsMerge() {
+        String base = "오늘은 맑음. 산책을 했다.";
+        String ours = "오늘은 아주 맑음. 산책을 했다.";
+        String theirs = "오늘은 맑음. 공원에서 산책을 했다.";
+
+        assertThat(DiaryThreeWayMerger.merge(base, ours, theirs))
+                .isEqualTo("오늘은 아주 맑음. 공원에서 산책을 했다.");
+        assertThat(DiaryThreeWayMerger.merge(base, theirs, ours))
+                .isEqualTo("오늘은 아주 맑음. 공원에서 산책을 했다.");
+    }
+
+    @Test
+    @DisplayName("한쪽만 바뀐 경우 - 바뀐 쪽을 그대로 사용")
+    void testOneSidedChange() {
+        assertThat(DiaryThreeWayMerger.merge("abc", "abc", "abXc")).isEqualTo("abXc");
+        assertThat(DiaryThreeWayMerger.merge("abc", "aYbc", "abc")).isEqualTo("aYbc");
+        assertThat(DiaryThreeWayMerger.merge("abc", "same", "same")).isEqualTo("same");
+    }
+
+    @Test
+    @DisplayName("겹치는 구간 또는 같은 위치 삽입 - 충돌")
+    void testOverlappingEditsConflict() {
+        assertThat(DiaryThreeWayMerger.merge("abcdef", "abXXef", "abcYYf")).isNull();
+        assertThat(DiaryThreeWayMerger.merge("abc", "abXc", "abYc")).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제와 다른 위치 삽입 - 병합")
+    void testDeleteAndInsertMerge() {
+        assertThat(DiaryThreeWayMerger.merge("hello world", "hello", "Hi! hello world"))
+                .isEqualTo("Hi! hello");
+    }
+}